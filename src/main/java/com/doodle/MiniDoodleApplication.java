@@ -3,13 +3,13 @@ package com.doodle;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @SpringBootApplication
-@EnableJpaRepositories
 @EnableTransactionManagement
 @EnableCaching
+@EnableScheduling
 public class MiniDoodleApplication {
     
     public static void main(String[] args) {
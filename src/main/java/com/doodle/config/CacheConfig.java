@@ -1,21 +1,41 @@
 package com.doodle.config;
 
+import com.doodle.service.cache.SnapshotRedisSerializer;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.cache.CacheManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.SubscriptionListener;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(CacheProperties.class)
 public class CacheConfig {
     
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+    
     @Bean
     @org.springframework.boot.autoconfigure.condition.ConditionalOnProperty(
         name = "spring.cache.type", havingValue = "redis", matchIfMissing = false
@@ -40,15 +60,96 @@ public class CacheConfig {
     @org.springframework.boot.autoconfigure.condition.ConditionalOnProperty(
         name = "spring.cache.type", havingValue = "redis", matchIfMissing = false
     )
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        org.springframework.data.redis.cache.RedisCacheConfiguration cacheConfiguration = 
-            org.springframework.data.redis.cache.RedisCacheConfiguration
-                .defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
-                .disableCachingNullValues();
-        
-        return RedisCacheManager.builder(connectionFactory)
-            .cacheDefaults(cacheConfiguration)
-            .build();
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            StringRedisTemplate stringRedisTemplate,
+            CacheProperties cacheProperties,
+            MeterRegistry meterRegistry) {
+        // Caches are created lazily by name, so TTL and serializer are resolved per cache here
+        RedisCacheManager redisCacheManager = new RedisCacheManager(
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory),
+                redisCacheConfiguration(cacheProperties.getDefaultTtl(), "default", meterRegistry)) {
+            @Override
+            protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+                return super.createRedisCache(name,
+                    redisCacheConfiguration(cacheProperties.ttlFor(name), name, meterRegistry));
+            }
+        };
+        // Not a bean itself, so initialize the Redis manager by hand
+        redisCacheManager.afterPropertiesSet();
+        
+        // Near-cache misses reach Redis through the single-flight layer, so a hot key loads once per node
+        CacheManager cacheManager = new SingleFlightCacheManager(redisCacheManager);
+        if (cacheProperties.getNearCache().isEnabled()) {
+            cacheManager = new TwoLevelCacheManager(cacheManager, stringRedisTemplate,
+                cacheProperties, meterRegistry);
+        }
+        return new MeteredCacheManager(cacheManager, meterRegistry);
+    }
+    
+    private static RedisCacheConfiguration redisCacheConfiguration(Duration ttl, String cacheName,
+                                                                   MeterRegistry meterRegistry) {
+        DistributionSummary entrySize = DistributionSummary.builder("doodle.cache.entry.size")
+            .baseUnit("bytes")
+            .tag("cache", cacheName)
+            .register(meterRegistry);
+        return RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(ttl)
+            .disableCachingNullValues()
+            .computePrefixWith(SnapshotRedisSerializer::keyPrefix)
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                new SnapshotRedisSerializer(entrySize)));
+    }
+    
+    @Bean
+    @org.springframework.boot.autoconfigure.condition.ConditionalOnProperty(
+        name = "spring.cache.type", havingValue = "redis", matchIfMissing = false
+    )
+    public RedisMessageListenerContainer cacheInvalidationListener(RedisConnectionFactory connectionFactory,
+                                                                   CacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer() {
+            @Override
+            public void start() {
+                try {
+                    super.start();
+                } catch (RuntimeException e) {
+                    // Redis is optional at startup; the near-cache simply stays bypassed
+                    CacheConfig.logger.warn("Could not subscribe to {}, near-cache disabled", 
+                        TwoLevelCacheManager.INVALIDATION_CHANNEL, e);
+                }
+            }
+        };
+        container.setConnectionFactory(connectionFactory);
+        CacheManager delegate = cacheManager instanceof MeteredCacheManager metered ? metered.getDelegate() : cacheManager;
+        if (delegate instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            // Drop near-cache entries that another node wrote or evicted
+            container.addMessageListener(new InvalidationListener(twoLevelCacheManager),
+                new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        }
+        return container;
+    }
+    
+    private static class InvalidationListener implements MessageListener, SubscriptionListener {
+        
+        private final TwoLevelCacheManager cacheManager;
+        
+        InvalidationListener(TwoLevelCacheManager cacheManager) {
+            this.cacheManager = cacheManager;
+        }
+        
+        @Override
+        public void onMessage(Message message, byte[] pattern) {
+            cacheManager.onInvalidation(new String(message.getBody(), StandardCharsets.UTF_8));
+        }
+        
+        @Override
+        public void onChannelSubscribed(byte[] channel, long count) {
+            cacheManager.setNearCacheActive(true);
+        }
+        
+        @Override
+        public void onChannelUnsubscribed(byte[] channel, long count) {
+            cacheManager.setNearCacheActive(false);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,80 @@
+package com.doodle.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache settings under {@code doodle.cache}. Each cache can override the default TTL and
+ * its near-cache size in {@code doodle.cache.specs.<cacheName>}.
+ */
+@ConfigurationProperties(prefix = "doodle.cache")
+public class CacheProperties {
+    
+    private Duration defaultTtl = Duration.ofMinutes(10);
+    private Map<String, Spec> specs = new HashMap<>();
+    private NearCache nearCache = new NearCache();
+    
+    public Duration ttlFor(String cacheName) {
+        Spec spec = specs.get(cacheName);
+        return spec != null && spec.getTtl() != null ? spec.getTtl() : defaultTtl;
+    }
+    
+    public long nearCacheMaxSizeFor(String cacheName) {
+        Spec spec = specs.get(cacheName);
+        return spec != null && spec.getMaxSize() != null ? spec.getMaxSize() : nearCache.getMaxSize();
+    }
+    
+    // A near-cache entry never outlives the Redis entry it was read from
+    public Duration nearCacheTtlFor(String cacheName) {
+        Duration ttl = ttlFor(cacheName);
+        return ttl.compareTo(nearCache.getTtl()) < 0 ? ttl : nearCache.getTtl();
+    }
+    
+    // Getters and setters
+    public Duration getDefaultTtl() { return defaultTtl; }
+    public void setDefaultTtl(Duration defaultTtl) { this.defaultTtl = defaultTtl; }
+    
+    public Map<String, Spec> getSpecs() { return specs; }
+    public void setSpecs(Map<String, Spec> specs) { this.specs = specs; }
+    
+    public NearCache getNearCache() { return nearCache; }
+    public void setNearCache(NearCache nearCache) { this.nearCache = nearCache; }
+    
+    public static class Spec {
+        
+        private Duration ttl;
+        private Long maxSize;
+        
+        // Getters and setters
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+        
+        public Long getMaxSize() { return maxSize; }
+        public void setMaxSize(Long maxSize) { this.maxSize = maxSize; }
+    }
+    
+    public static class NearCache {
+        
+        private boolean enabled = true;
+        private Set<String> caches = Set.of("calendars", "timeSlots", "meetings", "missingIds");
+        private long maxSize = 10000;
+        private Duration ttl = Duration.ofSeconds(30);
+        
+        // Getters and setters
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        
+        public Set<String> getCaches() { return caches; }
+        public void setCaches(Set<String> caches) { this.caches = caches; }
+        
+        public long getMaxSize() { return maxSize; }
+        public void setMaxSize(long maxSize) { this.maxSize = maxSize; }
+        
+        public Duration getTtl() { return ttl; }
+        public void setTtl(Duration ttl) { this.ttl = ttl; }
+    }
+}
@@ -0,0 +1,120 @@
+package com.doodle.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Counts traffic through a cache, see {@link MeteredCacheManager}. Load latency is the time
+ * spent in the value loader of {@link #get(Object, Callable)}, i.e. for synchronized caching.
+ * Evictions are counted as requests: Redis does not report whether a key was present, so
+ * the count includes evicts of keys that were never cached.
+ */
+class MeteredCache implements Cache {
+    
+    private final Cache delegate;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter evicts;
+    private final Counter clears;
+    private final Timer loads;
+    
+    MeteredCache(Cache delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        String name = delegate.getName();
+        this.hits = Counter.builder("doodle.cache.gets").tag("cache", name).tag("result", "hit")
+            .register(meterRegistry);
+        this.misses = Counter.builder("doodle.cache.gets").tag("cache", name).tag("result", "miss")
+            .register(meterRegistry);
+        this.puts = Counter.builder("doodle.cache.puts").tag("cache", name).register(meterRegistry);
+        this.evicts = Counter.builder("doodle.cache.evict.requests").tag("cache", name).tag("operation", "evict")
+            .register(meterRegistry);
+        this.clears = Counter.builder("doodle.cache.evict.requests").tag("cache", name).tag("operation", "clear")
+            .register(meterRegistry);
+        this.loads = Timer.builder("doodle.cache.load").tag("cache", name).register(meterRegistry);
+    }
+    
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        return record(delegate.get(key));
+    }
+    
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return record(delegate.get(key, type));
+    }
+    
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return loads.recordCallable(valueLoader);
+        });
+        if (loaded[0]) {
+            misses.increment();
+            puts.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        puts.increment();
+    }
+    
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            puts.increment();
+        }
+        return existing;
+    }
+    
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        evicts.increment();
+    }
+    
+    @Override
+    public boolean evictIfPresent(Object key) {
+        evicts.increment();
+        return delegate.evictIfPresent(key);
+    }
+    
+    @Override
+    public void clear() {
+        delegate.clear();
+        clears.increment();
+    }
+    
+    @Override
+    public boolean invalidate() {
+        clears.increment();
+        return delegate.invalidate();
+    }
+    
+    private <T> T record(T value) {
+        (value != null ? hits : misses).increment();
+        return value;
+    }
+}
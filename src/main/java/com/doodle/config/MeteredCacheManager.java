@@ -0,0 +1,42 @@
+package com.doodle.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes {@code doodle.cache.*} meters for every cache of the wrapped manager:
+ * gets (tagged hit or miss), puts, evictions and load latency, all tagged with the cache name.
+ */
+public class MeteredCacheManager implements CacheManager {
+    
+    private final CacheManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    
+    public MeteredCacheManager(CacheManager delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache cache = delegate.getCache(cacheName);
+            return cache != null ? new MeteredCache(cache, meterRegistry) : null;
+        });
+    }
+    
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+    
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,126 @@
+package com.doodle.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Runs at most one loader per key at a time on this node; concurrent misses for the
+ * same key wait for that load instead of each querying the database. Unlike
+ * {@code RedisCache.get(key, loader)}, which synchronizes the whole cache, loads of
+ * different keys still run in parallel.
+ */
+class SingleFlightCache implements Cache {
+    
+    private final Cache delegate;
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    
+    SingleFlightCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+    
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            return (T) await(key, valueLoader, leader);
+        }
+        try {
+            // A load that finished between the miss and claiming the key already filled the cache
+            cached = delegate.get(key);
+            Object value = cached != null ? cached.get() : load(key, valueLoader);
+            flight.complete(value);
+            return (T) value;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+    
+    private Object load(Object key, Callable<?> valueLoader) {
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            delegate.put(key, value);
+        }
+        return value;
+    }
+    
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof ValueRetrievalException retrievalException) {
+                throw new ValueRetrievalException(key, valueLoader, retrievalException.getCause());
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+    
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+    
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+    
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+    
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+    
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+}
@@ -0,0 +1,35 @@
+package com.doodle.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coalesces concurrent loads of the same key, see {@link SingleFlightCache}. Applies to
+ * {@code @Cacheable(sync = true)} methods, which load through {@link Cache#get(Object, java.util.concurrent.Callable)}.
+ */
+public class SingleFlightCacheManager implements CacheManager {
+    
+    private final CacheManager delegate;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    
+    public SingleFlightCacheManager(CacheManager delegate) {
+        this.delegate = delegate;
+    }
+    
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache cache = delegate.getCache(cacheName);
+            return cache != null ? new SingleFlightCache(cache) : null;
+        });
+    }
+    
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
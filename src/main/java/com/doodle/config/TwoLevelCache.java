@@ -0,0 +1,151 @@
+package com.doodle.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reads through a local Caffeine cache before the remote cache, see {@link TwoLevelCacheManager}.
+ * Local keys are normalized to strings, as Redis does, so pub/sub invalidations can address them.
+ * Local values are kept encoded and decoded on every hit, so callers never share an instance.
+ */
+class TwoLevelCache implements Cache {
+    
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, byte[]> local;
+    private final RedisSerializer<Object> codec;
+    private final TwoLevelCacheManager manager;
+    // Bumped before every local invalidation; a miss only fills the near-cache if it did not move
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    TwoLevelCache(Cache remote, com.github.benmanes.caffeine.cache.Cache<String, byte[]> local,
+                  RedisSerializer<Object> codec, TwoLevelCacheManager manager) {
+        this.remote = remote;
+        this.local = local;
+        this.codec = codec;
+        this.manager = manager;
+    }
+    
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+    
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+    
+    @Override
+    public ValueWrapper get(Object key) {
+        if (!manager.isNearCacheActive()) {
+            return remote.get(key);
+        }
+        String localKey = String.valueOf(key);
+        byte[] cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return new SimpleValueWrapper(codec.deserialize(cached));
+        }
+        long sequence = invalidations.get();
+        ValueWrapper value = remote.get(key);
+        if (value != null) {
+            fillLocal(localKey, value.get(), sequence);
+        }
+        return value;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object stored = value != null ? value.get() : null;
+        if (stored != null && type != null && !type.isInstance(stored)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + stored);
+        }
+        return (T) stored;
+    }
+    
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (!manager.isNearCacheActive()) {
+            return remote.get(key, valueLoader);
+        }
+        String localKey = String.valueOf(key);
+        byte[] cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            return (T) codec.deserialize(cached);
+        }
+        long sequence = invalidations.get();
+        T loaded = remote.get(key, valueLoader);
+        fillLocal(localKey, loaded, sequence);
+        return loaded;
+    }
+    
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = String.valueOf(key);
+        // Also fences off misses that read the previous remote value before this write
+        invalidations.incrementAndGet();
+        if (manager.isNearCacheActive() && value != null) {
+            local.put(localKey, codec.serialize(value));
+        } else {
+            local.invalidate(localKey);
+        }
+        manager.publishEvict(getName(), localKey);
+    }
+    
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        evictLocal(String.valueOf(key));
+        manager.publishEvict(getName(), String.valueOf(key));
+        return existing;
+    }
+    
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictLocal(String.valueOf(key));
+        manager.publishEvict(getName(), String.valueOf(key));
+    }
+    
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        evictLocal(String.valueOf(key));
+        manager.publishEvict(getName(), String.valueOf(key));
+        return evicted;
+    }
+    
+    @Override
+    public void clear() {
+        remote.clear();
+        clearLocal();
+        manager.publishClear(getName());
+    }
+    
+    void evictLocal(String key) {
+        invalidations.incrementAndGet();
+        local.invalidate(key);
+    }
+    
+    void clearLocal() {
+        invalidations.incrementAndGet();
+        local.invalidateAll();
+    }
+    
+    private void fillLocal(String localKey, Object value, long sequence) {
+        if (value == null) {
+            return;
+        }
+        // Encoded before the caller gets the instance, so later changes to it are not cached
+        byte[] encoded = codec.serialize(value);
+        // Checked under the key's lock, which an invalidation of the key also takes after bumping
+        local.asMap().compute(localKey, (k, current) -> invalidations.get() == sequence ? encoded : current);
+    }
+}
@@ -0,0 +1,131 @@
+package com.doodle.config;
+
+import com.doodle.service.cache.SnapshotRedisSerializer;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Puts a bounded in-process near-cache in front of selected caches of the remote
+ * (Redis) cache manager. Hits on the near-cache skip the Redis round trip; entries
+ * are kept in their binary snapshot form, so every hit decodes its own copy and no
+ * caller can change what another one reads. Every write or eviction is published on
+ * {@link #INVALIDATION_CHANNEL} so the other nodes drop their near-cache entry.
+ * The near-cache is bypassed until this node is subscribed to that channel, so a
+ * node that cannot hear invalidations never serves stale local entries.
+ */
+public class TwoLevelCacheManager implements CacheManager {
+    
+    private static final Logger logger = LoggerFactory.getLogger(TwoLevelCacheManager.class);
+    
+    public static final String INVALIDATION_CHANNEL = "doodle:cache-invalidation";
+    
+    private static final String CLEAR_ALL = "*";
+    
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RedisSerializer<Object> codec = new SnapshotRedisSerializer();
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+    private volatile boolean nearCacheActive;
+    
+    public TwoLevelCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+                                CacheProperties properties, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remote = remoteCacheManager.getCache(cacheName);
+            if (remote == null || !properties.getNearCache().getCaches().contains(cacheName)) {
+                return remote;
+            }
+            com.github.benmanes.caffeine.cache.Cache<String, byte[]> local = Caffeine.newBuilder()
+                .maximumSize(properties.nearCacheMaxSizeFor(cacheName))
+                .expireAfterWrite(properties.nearCacheTtlFor(cacheName))
+                .recordStats()
+                .build();
+            // Standard cache.* meters, so size-based evictions show whether the budget fits
+            CaffeineCacheMetrics.monitor(meterRegistry, local, cacheName, "cache.manager", "nearCache");
+            return new TwoLevelCache(remote, local, codec, this);
+        });
+    }
+    
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+    
+    public boolean isNearCacheActive() {
+        return nearCacheActive;
+    }
+    
+    /**
+     * Turns the near-cache on once subscribed to {@link #INVALIDATION_CHANNEL}. Turning it
+     * off drops every local entry, since invalidations may have been missed meanwhile.
+     */
+    public void setNearCacheActive(boolean active) {
+        if (nearCacheActive != active) {
+            logger.info("Near-cache {}", active ? "enabled" : "disabled");
+        }
+        nearCacheActive = active;
+        if (!active) {
+            caches.values().forEach(cache -> {
+                if (cache instanceof TwoLevelCache twoLevelCache) {
+                    twoLevelCache.clearLocal();
+                }
+            });
+        }
+    }
+    
+    /**
+     * Handles a message from {@link #INVALIDATION_CHANNEL}; messages from this node are ignored.
+     */
+    public void onInvalidation(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || parts[0].equals(nodeId)) {
+            return;
+        }
+        if (caches.get(parts[1]) instanceof TwoLevelCache cache) {
+            if (CLEAR_ALL.equals(parts[2])) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(parts[2]);
+            }
+        }
+    }
+    
+    void publishEvict(String cacheName, String key) {
+        publish(cacheName, key);
+    }
+    
+    void publishClear(String cacheName) {
+        publish(cacheName, CLEAR_ALL);
+    }
+    
+    private void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + "|" + cacheName + "|" + key);
+        } catch (RuntimeException e) {
+            // Other nodes fall back to the near-cache TTL
+            logger.warn("Failed to publish invalidation for cache {} key {}", cacheName, key, e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.doodle.controller;
+
+import com.doodle.domain.TimeWindow;
+import com.doodle.service.AvailabilityService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/availability")
+@Tag(name = "Availability", description = "APIs for querying availability across users")
+public class AvailabilityController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityController.class);
+    
+    private final AvailabilityService availabilityService;
+    
+    @Autowired
+    public AvailabilityController(AvailabilityService availabilityService) {
+        this.availabilityService = availabilityService;
+    }
+    
+    @GetMapping("/common")
+    @Operation(summary = "Get common free time", 
+               description = "Returns the windows in which none of the given users has a busy slot")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Common free windows computed"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data")
+    })
+    public ResponseEntity<List<TimeWindow>> getCommonFreeTime(
+            @Parameter(description = "User IDs") @RequestParam List<String> userIds,
+            @Parameter(description = "Start date") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Minimum window length in minutes") 
+            @RequestParam(defaultValue = "30") int minDurationMinutes) {
+        
+        logger.debug("Fetching common free time for users: {} between {} and {}", 
+            userIds, startDate, endDate);
+        
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+        
+        List<TimeWindow> freeWindows = availabilityService.findCommonFreeTime(
+            userIds, startDateTime, endDateTime, minDurationMinutes);
+        
+        return ResponseEntity.ok(freeWindows);
+    }
+    
+    @GetMapping("/calendars")
+    @Operation(summary = "Get common availability", 
+               description = "Returns the quarter-hour aligned windows in which every given calendar has an available slot")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Common available windows computed"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "404", description = "Calendar not found")
+    })
+    public ResponseEntity<List<TimeWindow>> getCommonAvailability(
+            @Parameter(description = "Calendar IDs") @RequestParam List<UUID> calendarIds,
+            @Parameter(description = "Start date") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        
+        logger.debug("Fetching common availability for calendars: {} between {} and {}", 
+            calendarIds, startDate, endDate);
+        
+        List<TimeWindow> windows = availabilityService.findCommonAvailability(
+            calendarIds, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+        
+        return ResponseEntity.ok(windows);
+    }
+}
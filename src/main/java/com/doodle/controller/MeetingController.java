@@ -1,14 +1,19 @@
 package com.doodle.controller;
 
+import com.doodle.domain.AgendaItem;
+import com.doodle.domain.CursorPage;
 import com.doodle.domain.Meeting;
+import com.doodle.domain.ParticipantConflict;
 import com.doodle.domain.TimeSlot;
 import com.doodle.service.MeetingService;
-import com.doodle.service.TimeSlotService;
+import com.doodle.service.exporting.MeetingExporter;
+import com.doodle.service.importing.MeetingImporter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +26,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -34,13 +42,20 @@ public class MeetingController {
     
     private static final Logger logger = LoggerFactory.getLogger(MeetingController.class);
     
+    private static final String NDJSON = "application/x-ndjson";
+    
+    private static final byte[] EXPORT_ABORTED = "{\"error\":\"Export aborted\"}\n".getBytes(StandardCharsets.UTF_8);
+    
     private final MeetingService meetingService;
-    private final TimeSlotService timeSlotService;
+    private final MeetingImporter meetingImporter;
+    private final MeetingExporter meetingExporter;
     
     @Autowired
-    public MeetingController(MeetingService meetingService, TimeSlotService timeSlotService) {
+    public MeetingController(MeetingService meetingService, MeetingImporter meetingImporter,
+                             MeetingExporter meetingExporter) {
         this.meetingService = meetingService;
-        this.timeSlotService = timeSlotService;
+        this.meetingImporter = meetingImporter;
+        this.meetingExporter = meetingExporter;
     }
     
     @PostMapping
@@ -48,24 +63,82 @@ public class MeetingController {
     @ApiResponses({
         @ApiResponse(responseCode = "201", description = "Meeting scheduled successfully"),
         @ApiResponse(responseCode = "400", description = "Invalid input data"),
-        @ApiResponse(responseCode = "409", description = "Time slot not available")
+        @ApiResponse(responseCode = "409", description = "Time slot not available or participants already booked")
     })
     public ResponseEntity<Meeting> scheduleMeeting(@Valid @RequestBody ScheduleMeetingRequest request) {
         logger.info("Scheduling meeting: {} for slot: {}", request.getTitle(), request.getSlotId());
         
-        TimeSlot timeSlot = timeSlotService.getTimeSlotById(request.getSlotId());
+        // The service claims the slot itself, so only its ID is needed here
+        TimeSlot timeSlot = new TimeSlot();
+        timeSlot.setId(request.getSlotId());
         
         Meeting meeting = new Meeting();
         meeting.setTitle(request.getTitle());
         meeting.setDescription(request.getDescription());
         meeting.setTimeSlot(timeSlot);
-        meeting.setParticipants(request.getParticipants());
+        meeting.replaceParticipants(request.getParticipants());
         
-        Meeting scheduledMeeting = meetingService.scheduleMeeting(meeting);
+        Meeting scheduledMeeting = meetingService.scheduleMeeting(meeting, request.isAllowParticipantConflicts());
         
         return ResponseEntity.status(HttpStatus.CREATED).body(scheduledMeeting);
     }
     
+    @PostMapping(value = "/import", consumes = NDJSON, produces = NDJSON)
+    @Operation(summary = "Import meetings in bulk",
+               description = "Streams NDJSON meetings in and one NDJSON status line per input line out")
+    public void importMeetings(InputStream body, HttpServletResponse response) throws IOException {
+        logger.info("Starting bulk meeting import");
+        
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON);
+        meetingImporter.importMeetings(body, response.getOutputStream());
+    }
+    
+    @GetMapping(value = "/export", produces = NDJSON)
+    @Operation(summary = "Export meetings in a date range",
+               description = "Streams the meetings of the date range as NDJSON, one meeting per line by start time. " +
+                             "A failure after the first lines ends the stream with an {\"error\": ...} line")
+    public void exportMeetings(
+            @Parameter(description = "First day of the export")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "Last day of the export, inclusive")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            HttpServletResponse response) throws IOException {
+        
+        // Checked before the response is committed to NDJSON, so a bad range still gets a JSON error
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        logger.info("Exporting meetings from {} to {}", startDate, endDate);
+        
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON);
+        try {
+            meetingExporter.exportMeetings(startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX),
+                response.getOutputStream());
+        } catch (IOException | RuntimeException e) {
+            if (!response.isCommitted()) {
+                // Nothing reached the client yet, so the usual JSON error replaces the NDJSON response
+                response.reset();
+                throw e;
+            }
+            // Meetings already went out as NDJSON; a JSON error body would be appended to them
+            logger.error("Meeting export from {} to {} failed mid-stream, aborting", startDate, endDate, e);
+            abortExport(response);
+        }
+    }
+    
+    @PostMapping("/conflicts")
+    @Operation(summary = "Check participant conflicts",
+               description = "Lists existing meetings that overlap the given time range for any of the participants")
+    public ResponseEntity<List<ParticipantConflict>> checkParticipantConflicts(
+            @Valid @RequestBody ConflictCheckRequest request) {
+        
+        logger.debug("Checking {} participants for conflicts", request.getParticipantIds().size());
+        return ResponseEntity.ok(meetingService.findParticipantConflicts(
+            request.getParticipantIds(), request.getStartTime(), request.getEndTime()));
+    }
+    
     @GetMapping("/{id}")
     @Operation(summary = "Get meeting by ID", description = "Retrieves a meeting by its ID")
     @ApiResponses({
@@ -116,6 +189,19 @@ public class MeetingController {
         return ResponseEntity.ok(List.of());
     }
     
+    @GetMapping("/search")
+    @Operation(summary = "Search meetings", 
+               description = "Searches meeting titles by substring and trigram similarity, best matches first")
+    public ResponseEntity<Page<Meeting>> searchMeetings(
+            @Parameter(description = "Search text, at least 3 characters") @RequestParam String q,
+            @PageableDefault(size = 20) Pageable pageable) {
+        
+        logger.debug("Searching meetings for: {}", q);
+        Page<Meeting> meetings = meetingService.searchMeetings(q, pageable);
+        
+        return ResponseEntity.ok(meetings);
+    }
+    
     @GetMapping("/participant/{participantId}")
     @Operation(summary = "Get meetings by participant", description = "Retrieves all meetings for a participant")
     public ResponseEntity<Page<Meeting>> getMeetingsByParticipant(
@@ -128,6 +214,36 @@ public class MeetingController {
         return ResponseEntity.ok(meetings);
     }
     
+    @GetMapping("/participant/{participantId}/cursor")
+    @Operation(summary = "Get meetings by participant using a cursor", 
+               description = "Retrieves meetings for a participant ordered by start time, using a continuation token")
+    public ResponseEntity<CursorPage<Meeting>> getMeetingsByParticipantCursor(
+            @Parameter(description = "Participant ID") @PathVariable String participantId,
+            @Parameter(description = "Continuation token from the previous page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of meetings to return") 
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        logger.debug("Fetching meetings for participant: {} with cursor: {}", participantId, cursor);
+        CursorPage<Meeting> meetings = meetingService.getMeetingsByParticipant(participantId, cursor, limit);
+        
+        return ResponseEntity.ok(meetings);
+    }
+    
+    @GetMapping("/agenda/{userId}")
+    @Operation(summary = "Get upcoming agenda", 
+               description = "Returns the next meetings a user attends or hosts, ordered by start time")
+    public ResponseEntity<List<AgendaItem>> getUpcomingAgenda(
+            @Parameter(description = "User ID") @PathVariable String userId,
+            @Parameter(description = "Maximum number of meetings to return") 
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        logger.debug("Fetching upcoming agenda for user: {}", userId);
+        List<AgendaItem> agenda = meetingService.getUpcomingAgenda(userId, limit);
+        
+        return ResponseEntity.ok(agenda);
+    }
+    
     @GetMapping("/calendar-user/{userId}")
     @Operation(summary = "Get meetings by calendar user", description = "Retrieves meetings in calendars owned by user")
     public ResponseEntity<Page<Meeting>> getMeetingsByCalendarUser(
@@ -140,6 +256,22 @@ public class MeetingController {
         return ResponseEntity.ok(meetings);
     }
     
+    @GetMapping("/calendar-user/{userId}/cursor")
+    @Operation(summary = "Get meetings by calendar user using a cursor", 
+               description = "Retrieves meetings in calendars owned by user ordered by start time, using a continuation token")
+    public ResponseEntity<CursorPage<Meeting>> getMeetingsByCalendarUserCursor(
+            @Parameter(description = "Calendar owner user ID") @PathVariable String userId,
+            @Parameter(description = "Continuation token from the previous page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of meetings to return") 
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        logger.debug("Fetching meetings for calendar user: {} with cursor: {}", userId, cursor);
+        CursorPage<Meeting> meetings = meetingService.getMeetingsByCalendarUserId(userId, cursor, limit);
+        
+        return ResponseEntity.ok(meetings);
+    }
+    
     @PutMapping("/{id}")
     @Operation(summary = "Update meeting", description = "Updates meeting details (not time slot)")
     @ApiResponses({
@@ -155,7 +287,7 @@ public class MeetingController {
         Meeting meeting = new Meeting();
         meeting.setTitle(request.getTitle());
         meeting.setDescription(request.getDescription());
-        meeting.setParticipants(request.getParticipants());
+        meeting.replaceParticipants(request.getParticipants());
         
         Meeting updatedMeeting = meetingService.updateMeeting(id, meeting);
         
@@ -201,6 +333,32 @@ public class MeetingController {
         return ResponseEntity.ok().build();
     }
     
+    @PostMapping("/{id}/participants/bulk")
+    @Operation(summary = "Add participants", 
+               description = "Adds a list of participants to the meeting in one transaction; existing participants are skipped")
+    public ResponseEntity<Meeting> addParticipants(
+            @Parameter(description = "Meeting ID") @PathVariable UUID id,
+            @Valid @RequestBody BulkParticipantsRequest request) {
+        
+        logger.info("Adding {} participants to meeting {}", request.getParticipantIds().size(), id);
+        Meeting meeting = meetingService.addParticipantsToMeeting(id, request.getParticipantIds());
+        
+        return ResponseEntity.ok(meeting);
+    }
+    
+    @PostMapping("/{id}/participants/bulk-remove")
+    @Operation(summary = "Remove participants", 
+               description = "Removes a list of participants from the meeting in one transaction; unknown participants are skipped")
+    public ResponseEntity<Meeting> removeParticipants(
+            @Parameter(description = "Meeting ID") @PathVariable UUID id,
+            @Valid @RequestBody BulkParticipantsRequest request) {
+        
+        logger.info("Removing {} participants from meeting {}", request.getParticipantIds().size(), id);
+        Meeting meeting = meetingService.removeParticipantsFromMeeting(id, request.getParticipantIds());
+        
+        return ResponseEntity.ok(meeting);
+    }
+    
     @GetMapping("/participant/{participantId}/count")
     @Operation(summary = "Get meeting count", description = "Returns the number of meetings for a participant")
     public ResponseEntity<Long> getMeetingCount(
@@ -210,6 +368,17 @@ public class MeetingController {
         return ResponseEntity.ok(count);
     }
     
+    // Ends a failed export with a line no meeting has, so clients cannot take the lines
+    // written so far for the whole range
+    private static void abortExport(HttpServletResponse response) {
+        try {
+            response.getOutputStream().write(EXPORT_ABORTED);
+            response.flushBuffer();
+        } catch (IOException e) {
+            logger.debug("Could not mark the aborted export, client already gone", e);
+        }
+    }
+    
     // DTOs
     public static class ScheduleMeetingRequest {
         @jakarta.validation.constraints.NotNull
@@ -223,6 +392,8 @@ public class MeetingController {
         @jakarta.validation.constraints.NotEmpty
         private List<String> participants;
         
+        private boolean allowParticipantConflicts;
+        
         // Getters and setters
         public UUID getSlotId() { return slotId; }
         public void setSlotId(UUID slotId) { this.slotId = slotId; }
@@ -235,6 +406,32 @@ public class MeetingController {
         
         public List<String> getParticipants() { return participants; }
         public void setParticipants(List<String> participants) { this.participants = participants; }
+        
+        public boolean isAllowParticipantConflicts() { return allowParticipantConflicts; }
+        public void setAllowParticipantConflicts(boolean allowParticipantConflicts) {
+            this.allowParticipantConflicts = allowParticipantConflicts;
+        }
+    }
+    
+    public static class ConflictCheckRequest {
+        @jakarta.validation.constraints.NotNull
+        private LocalDateTime startTime;
+        
+        @jakarta.validation.constraints.NotNull
+        private LocalDateTime endTime;
+        
+        @jakarta.validation.constraints.NotEmpty
+        private List<String> participantIds;
+        
+        // Getters and setters
+        public LocalDateTime getStartTime() { return startTime; }
+        public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+        
+        public LocalDateTime getEndTime() { return endTime; }
+        public void setEndTime(LocalDateTime endTime) { this.endTime = endTime; }
+        
+        public List<String> getParticipantIds() { return participantIds; }
+        public void setParticipantIds(List<String> participantIds) { this.participantIds = participantIds; }
     }
     
     public static class UpdateMeetingRequest {
@@ -257,6 +454,15 @@ public class MeetingController {
         public void setParticipants(List<String> participants) { this.participants = participants; }
     }
     
+    public static class BulkParticipantsRequest {
+        @jakarta.validation.constraints.NotEmpty
+        private List<String> participantIds;
+        
+        // Getters and setters
+        public List<String> getParticipantIds() { return participantIds; }
+        public void setParticipantIds(List<String> participantIds) { this.participantIds = participantIds; }
+    }
+    
     public static class AddParticipantRequest {
         @jakarta.validation.constraints.NotBlank
         private String participantId;
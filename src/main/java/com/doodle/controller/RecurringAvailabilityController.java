@@ -0,0 +1,161 @@
+package com.doodle.controller;
+
+import com.doodle.domain.RecurringAvailability;
+import com.doodle.domain.TimeSlot;
+import com.doodle.service.RecurringAvailabilityService;
+import com.doodle.service.TimeSlotService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/calendars/{calendarId}/availability-rules")
+@Tag(name = "Recurring Availability", description = "APIs for weekly recurring availability rules")
+public class RecurringAvailabilityController {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RecurringAvailabilityController.class);
+    
+    private final RecurringAvailabilityService recurringAvailabilityService;
+    private final TimeSlotService timeSlotService;
+    
+    @Autowired
+    public RecurringAvailabilityController(RecurringAvailabilityService recurringAvailabilityService,
+                                           TimeSlotService timeSlotService) {
+        this.recurringAvailabilityService = recurringAvailabilityService;
+        this.timeSlotService = timeSlotService;
+    }
+    
+    @PostMapping
+    @Operation(summary = "Create recurring availability", 
+               description = "Creates a weekly rule that is expanded into available slots on read")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Rule created successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "404", description = "Calendar not found")
+    })
+    public ResponseEntity<RecurringAvailability> createRule(
+            @Parameter(description = "Calendar ID") @PathVariable UUID calendarId,
+            @Valid @RequestBody CreateRecurringAvailabilityRequest request) {
+        
+        logger.info("Creating recurring availability for calendar: {}", calendarId);
+        
+        RecurringAvailability rule = new RecurringAvailability(null, request.getDaysOfWeek(),
+            request.getStartTime(), request.getEndTime(), request.getSlotDurationMinutes(),
+            request.getValidFrom(), request.getValidUntil());
+        
+        RecurringAvailability createdRule = recurringAvailabilityService.createRule(calendarId, rule);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdRule);
+    }
+    
+    @GetMapping
+    @Operation(summary = "Get recurring availability", description = "Retrieves all rules of the calendar")
+    public ResponseEntity<List<RecurringAvailability>> getRules(
+            @Parameter(description = "Calendar ID") @PathVariable UUID calendarId) {
+        
+        logger.debug("Fetching recurring availability for calendar: {}", calendarId);
+        return ResponseEntity.ok(recurringAvailabilityService.getRulesByCalendarId(calendarId));
+    }
+    
+    @DeleteMapping("/{ruleId}")
+    @Operation(summary = "Delete recurring availability", 
+               description = "Deletes a rule; slots already materialized from it are kept")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "Rule deleted successfully"),
+        @ApiResponse(responseCode = "404", description = "Rule not found in this calendar")
+    })
+    public ResponseEntity<Void> deleteRule(
+            @Parameter(description = "Calendar ID") @PathVariable UUID calendarId,
+            @Parameter(description = "Rule ID") @PathVariable UUID ruleId) {
+        
+        logger.info("Deleting recurring availability: {} from calendar: {}", ruleId, calendarId);
+        recurringAvailabilityService.deleteRule(calendarId, ruleId);
+        
+        return ResponseEntity.noContent().build();
+    }
+    
+    @PostMapping("/{ruleId}/occurrences")
+    @Operation(summary = "Materialize occurrence", 
+               description = "Stores one occurrence of the rule as a time slot so it can be booked or overridden")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Time slot created for the occurrence"),
+        @ApiResponse(responseCode = "400", description = "Start time is not an occurrence of the rule"),
+        @ApiResponse(responseCode = "404", description = "Rule not found in this calendar"),
+        @ApiResponse(responseCode = "409", description = "Occurrence already materialized or overridden")
+    })
+    public ResponseEntity<TimeSlot> materializeOccurrence(
+            @Parameter(description = "Calendar ID") @PathVariable UUID calendarId,
+            @Parameter(description = "Rule ID") @PathVariable UUID ruleId,
+            @Valid @RequestBody MaterializeOccurrenceRequest request) {
+        
+        logger.info("Materializing occurrence of rule: {} of calendar: {} at {}", ruleId, calendarId, request.getStartTime());
+        TimeSlot timeSlot = timeSlotService.materializeRecurringSlot(calendarId, ruleId, request.getStartTime());
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(timeSlot);
+    }
+    
+    // DTOs
+    public static class CreateRecurringAvailabilityRequest {
+        @jakarta.validation.constraints.NotEmpty
+        private Set<DayOfWeek> daysOfWeek;
+        
+        @jakarta.validation.constraints.NotNull
+        private LocalTime startTime;
+        
+        @jakarta.validation.constraints.NotNull
+        private LocalTime endTime;
+        
+        @jakarta.validation.constraints.NotNull
+        private Integer slotDurationMinutes;
+        
+        @jakarta.validation.constraints.NotNull
+        private LocalDate validFrom;
+        
+        private LocalDate validUntil;
+        
+        // Getters and setters
+        public Set<DayOfWeek> getDaysOfWeek() { return daysOfWeek; }
+        public void setDaysOfWeek(Set<DayOfWeek> daysOfWeek) { this.daysOfWeek = daysOfWeek; }
+        
+        public LocalTime getStartTime() { return startTime; }
+        public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+        
+        public LocalTime getEndTime() { return endTime; }
+        public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+        
+        public Integer getSlotDurationMinutes() { return slotDurationMinutes; }
+        public void setSlotDurationMinutes(Integer slotDurationMinutes) { this.slotDurationMinutes = slotDurationMinutes; }
+        
+        public LocalDate getValidFrom() { return validFrom; }
+        public void setValidFrom(LocalDate validFrom) { this.validFrom = validFrom; }
+        
+        public LocalDate getValidUntil() { return validUntil; }
+        public void setValidUntil(LocalDate validUntil) { this.validUntil = validUntil; }
+    }
+    
+    public static class MaterializeOccurrenceRequest {
+        @jakarta.validation.constraints.NotNull
+        private LocalDateTime startTime;
+        
+        // Getters and setters
+        public LocalDateTime getStartTime() { return startTime; }
+        public void setStartTime(LocalDateTime startTime) { this.startTime = startTime; }
+    }
+}
@@ -1,9 +1,13 @@
 package com.doodle.controller;
 
+import com.doodle.domain.CursorPage;
+import com.doodle.domain.SlotBatchResult;
 import com.doodle.domain.TimeSlot;
+import com.doodle.domain.TimeWindow;
 import com.doodle.domain.enums.SlotStatus;
 import com.doodle.service.CalendarService;
 import com.doodle.service.TimeSlotService;
+import com.doodle.service.availability.RecurrenceExpander;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -13,6 +17,7 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
@@ -21,10 +26,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -36,11 +44,14 @@ public class TimeSlotController {
     
     private final TimeSlotService timeSlotService;
     private final CalendarService calendarService;
+    private final int maxBulkSlots;
     
     @Autowired
-    public TimeSlotController(TimeSlotService timeSlotService, CalendarService calendarService) {
+    public TimeSlotController(TimeSlotService timeSlotService, CalendarService calendarService,
+                              @Value("${doodle.scheduling.max-bulk-slots:5000}") int maxBulkSlots) {
         this.timeSlotService = timeSlotService;
         this.calendarService = calendarService;
+        this.maxBulkSlots = maxBulkSlots;
     }
     
     @PostMapping
@@ -70,6 +81,45 @@ public class TimeSlotController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdSlot);
     }
     
+    @PostMapping("/bulk")
+    @Operation(summary = "Create time slots in bulk", 
+               description = "Creates a list of time slots or expands a weekly recurrence rule into slots")
+    @ApiResponses({
+        @ApiResponse(responseCode = "201", description = "Batch processed, see conflicts for rejected items"),
+        @ApiResponse(responseCode = "400", description = "Invalid input data"),
+        @ApiResponse(responseCode = "404", description = "Calendar not found")
+    })
+    public ResponseEntity<SlotBatchResult> createTimeSlots(
+            @Parameter(description = "Calendar ID") @PathVariable UUID calendarId,
+            @Valid @RequestBody BulkCreateTimeSlotsRequest request) {
+        
+        logger.info("Creating time slots in bulk for calendar: {}", calendarId);
+        
+        if ((request.getSlots() == null) == (request.getRecurrence() == null)) {
+            throw new IllegalArgumentException("Exactly one of slots or recurrence must be provided");
+        }
+        
+        List<TimeSlot> timeSlots = new ArrayList<>();
+        if (request.getSlots() != null) {
+            for (CreateTimeSlotRequest slot : request.getSlots()) {
+                timeSlots.add(new TimeSlot(null, slot.getStartTime(), slot.getEndTime(), slot.getStatus()));
+            }
+        } else {
+            RecurrenceRequest recurrence = request.getRecurrence();
+            // Stop expanding at the batch limit rather than building the whole range first
+            for (TimeWindow window : RecurrenceExpander.expand(
+                    recurrence.getDaysOfWeek(), recurrence.getStartTime(), recurrence.getEndTime(),
+                    recurrence.getSlotDurationMinutes(), recurrence.getFromDate(), recurrence.getToDate(),
+                    maxBulkSlots)) {
+                timeSlots.add(new TimeSlot(null, window.getStartTime(), window.getEndTime(), recurrence.getStatus()));
+            }
+        }
+        
+        SlotBatchResult result = timeSlotService.createTimeSlots(calendarId, timeSlots);
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(result);
+    }
+    
     @GetMapping("/{slotId}")
     @Operation(summary = "Get time slot by ID", description = "Retrieves a specific time slot")
     @ApiResponses({
@@ -88,7 +138,7 @@ public class TimeSlotController {
     
     @GetMapping
     @Operation(summary = "Get time slots", description = "Retrieves time slots for the calendar with optional filtering")
-    public ResponseEntity<Page<TimeSlot>> getTimeSlots(
+    public ResponseEntity<Page<?>> getTimeSlots(
             @Parameter(description = "Calendar ID") @PathVariable UUID calendarId,
             @Parameter(description = "Start date for filtering") 
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
@@ -100,7 +150,7 @@ public class TimeSlotController {
         
         logger.debug("Fetching time slots for calendar: {}", calendarId);
         
-        Page<TimeSlot> slots;
+        Page<?> slots;
         
         if (startDate != null && endDate != null) {
             LocalDateTime startDateTime = startDate.atStartOfDay();
@@ -108,12 +158,42 @@ public class TimeSlotController {
             slots = timeSlotService.getTimeSlotsByCalendarIdAndTimeRange(
                 calendarId, startDateTime, endDateTime, pageable);
         } else {
+            // Lightweight projections; the calendar is not narrowed by date, so rows can be many
             slots = timeSlotService.getTimeSlotsByCalendarId(calendarId, pageable);
         }
         
         return ResponseEntity.ok(slots);
     }
     
+    @GetMapping("/cursor")
+    @Operation(summary = "Get time slots by cursor", 
+               description = "Retrieves time slots in a date range ordered by start time, using a continuation token instead of page numbers")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "Time slots found"),
+        @ApiResponse(responseCode = "400", description = "Invalid cursor or limit")
+    })
+    public ResponseEntity<CursorPage<TimeSlot>> getTimeSlotsByCursor(
+            @Parameter(description = "Calendar ID") @PathVariable UUID calendarId,
+            @Parameter(description = "Start date") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @Parameter(description = "End date") 
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @Parameter(description = "Continuation token from the previous page") 
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of slots to return") 
+            @RequestParam(defaultValue = "20") int limit) {
+        
+        logger.debug("Fetching time slots for calendar: {} with cursor: {}", calendarId, cursor);
+        
+        LocalDateTime startDateTime = startDate.atStartOfDay();
+        LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
+        
+        CursorPage<TimeSlot> slots = timeSlotService.getTimeSlotsByCalendarIdAndTimeRange(
+            calendarId, startDateTime, endDateTime, cursor, limit);
+        
+        return ResponseEntity.ok(slots);
+    }
+    
     @GetMapping("/available")
     @Operation(summary = "Get available time slots", description = "Retrieves all available time slots in a date range")
     public ResponseEntity<List<TimeSlot>> getAvailableSlots(
@@ -216,6 +296,66 @@ public class TimeSlotController {
         public void setStatus(SlotStatus status) { this.status = status; }
     }
     
+    public static class BulkCreateTimeSlotsRequest {
+        private List<CreateTimeSlotRequest> slots;
+        
+        @Valid
+        private RecurrenceRequest recurrence;
+        
+        // Getters and setters
+        public List<CreateTimeSlotRequest> getSlots() { return slots; }
+        public void setSlots(List<CreateTimeSlotRequest> slots) { this.slots = slots; }
+        
+        public RecurrenceRequest getRecurrence() { return recurrence; }
+        public void setRecurrence(RecurrenceRequest recurrence) { this.recurrence = recurrence; }
+    }
+    
+    public static class RecurrenceRequest {
+        @jakarta.validation.constraints.NotEmpty
+        private Set<DayOfWeek> daysOfWeek;
+        
+        @jakarta.validation.constraints.NotNull
+        private LocalTime startTime;
+        
+        @jakarta.validation.constraints.NotNull
+        private LocalTime endTime;
+        
+        @jakarta.validation.constraints.NotNull
+        @jakarta.validation.constraints.Min(15)
+        @jakarta.validation.constraints.Max(480)
+        private Integer slotDurationMinutes;
+        
+        @jakarta.validation.constraints.NotNull
+        private LocalDate fromDate;
+        
+        @jakarta.validation.constraints.NotNull
+        private LocalDate toDate;
+        
+        private SlotStatus status;
+        
+        // Getters and setters
+        public Set<DayOfWeek> getDaysOfWeek() { return daysOfWeek; }
+        public void setDaysOfWeek(Set<DayOfWeek> daysOfWeek) { this.daysOfWeek = daysOfWeek; }
+        
+        public LocalTime getStartTime() { return startTime; }
+        public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+        
+        public LocalTime getEndTime() { return endTime; }
+        public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+        
+        public Integer getSlotDurationMinutes() { return slotDurationMinutes; }
+        public void setSlotDurationMinutes(Integer slotDurationMinutes) { this.slotDurationMinutes = slotDurationMinutes; }
+        
+        public LocalDate getFromDate() { return fromDate; }
+        public void setFromDate(LocalDate fromDate) { this.fromDate = fromDate; }
+        
+        public LocalDate getToDate() { return toDate; }
+        public void setToDate(LocalDate toDate) { this.toDate = toDate; }
+        
+        public SlotStatus getStatus() { return status; }
+        public void setStatus(SlotStatus status) { this.status = status; }
+    }
+    
     public static class UpdateTimeSlotRequest {
         @jakarta.validation.constraints.NotNull
         private LocalDateTime startTime;
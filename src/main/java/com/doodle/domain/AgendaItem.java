@@ -0,0 +1,32 @@
+package com.doodle.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entry of a user's upcoming agenda: a meeting they attend or that is booked in one of
+ * their calendars. Built by a JPQL constructor expression or kept in memory by the agenda index.
+ */
+public class AgendaItem {
+    
+    private final UUID meetingId;
+    private final String title;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    
+    public AgendaItem(UUID meetingId, String title, LocalDateTime startTime, LocalDateTime endTime) {
+        this.meetingId = meetingId;
+        this.title = title;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+    
+    // Getters
+    public UUID getMeetingId() { return meetingId; }
+    
+    public String getTitle() { return title; }
+    
+    public LocalDateTime getStartTime() { return startTime; }
+    
+    public LocalDateTime getEndTime() { return endTime; }
+}
@@ -1,5 +1,6 @@
 package com.doodle.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -35,6 +36,8 @@ public class Calendar {
     @Column(nullable = false)
     private ZoneId timezone;
     
+    // Not serialized: unbounded, and each slot refers back to this calendar
+    @JsonIgnore
     @OneToMany(mappedBy = "calendar", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<TimeSlot> timeSlots = new ArrayList<>();
     
@@ -0,0 +1,23 @@
+package com.doodle.domain;
+
+import java.util.List;
+
+public class CursorPage<T> {
+    
+    private final List<T> items;
+    private final String nextCursor;
+    
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+    
+    public boolean isHasMore() {
+        return nextCursor != null;
+    }
+    
+    // Getters
+    public List<T> getItems() { return items; }
+    
+    public String getNextCursor() { return nextCursor; }
+}
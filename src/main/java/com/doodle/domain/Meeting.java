@@ -2,12 +2,15 @@ package com.doodle.domain;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
 
 @Entity
@@ -17,6 +20,8 @@ import java.util.UUID;
 })
 public class Meeting {
     
+    public static final int PARTICIPANT_BATCH_SIZE = 100;
+    
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
@@ -28,10 +33,12 @@ public class Meeting {
     @Column(columnDefinition = "TEXT")
     private String description;
     
+    // A set for row-level updates, batch-fetched so a page of meetings loads participants in one statement
     @ElementCollection
+    @BatchSize(size = PARTICIPANT_BATCH_SIZE)
     @CollectionTable(name = "meeting_participants", joinColumns = @JoinColumn(name = "meeting_id"))
     @Column(name = "participant_id")
-    private List<String> participants = new ArrayList<>();
+    private Set<String> participants = new LinkedHashSet<>();
     
     @OneToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "time_slot_id", nullable = false)
@@ -55,14 +62,19 @@ public class Meeting {
     }
     
     // Business methods
-    public void addParticipant(String participantId) {
-        if (!participants.contains(participantId)) {
-            participants.add(participantId);
-        }
+    public boolean addParticipant(String participantId) {
+        return participants.add(participantId);
+    }
+    
+    public boolean removeParticipant(String participantId) {
+        return participants.remove(participantId);
     }
     
-    public void removeParticipant(String participantId) {
-        participants.remove(participantId);
+    // Changes the managed collection in place so only the difference is written
+    public void replaceParticipants(Collection<String> participantIds) {
+        Collection<String> target = participantIds != null ? participantIds : Set.of();
+        participants.retainAll(new HashSet<>(target));
+        participants.addAll(target);
     }
     
     public boolean hasParticipant(String participantId) {
@@ -87,8 +99,8 @@ public class Meeting {
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
     
-    public List<String> getParticipants() { return participants; }
-    public void setParticipants(List<String> participants) { this.participants = participants; }
+    public Set<String> getParticipants() { return participants; }
+    public void setParticipants(Set<String> participants) { this.participants = participants; }
     
     public TimeSlot getTimeSlot() { return timeSlot; }
     public void setTimeSlot(TimeSlot timeSlot) { this.timeSlot = timeSlot; }
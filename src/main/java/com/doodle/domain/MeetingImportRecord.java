@@ -0,0 +1,33 @@
+package com.doodle.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One line of a bulk meeting import. The line number is assigned by the importer
+ * and echoed back in the matching {@link MeetingImportResult}.
+ */
+public class MeetingImportRecord {
+    
+    private int line;
+    private UUID slotId;
+    private String title;
+    private String description;
+    private List<String> participants;
+    
+    // Getters and setters
+    public int getLine() { return line; }
+    public void setLine(int line) { this.line = line; }
+    
+    public UUID getSlotId() { return slotId; }
+    public void setSlotId(UUID slotId) { this.slotId = slotId; }
+    
+    public String getTitle() { return title; }
+    public void setTitle(String title) { this.title = title; }
+    
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    
+    public List<String> getParticipants() { return participants; }
+    public void setParticipants(List<String> participants) { this.participants = participants; }
+}
@@ -0,0 +1,40 @@
+package com.doodle.domain;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one imported line: the created meeting, or why the line was rejected.
+ */
+public class MeetingImportResult {
+    
+    public enum Status { CREATED, FAILED }
+    
+    private final int line;
+    private final Status status;
+    private final UUID meetingId;
+    private final String error;
+    
+    private MeetingImportResult(int line, Status status, UUID meetingId, String error) {
+        this.line = line;
+        this.status = status;
+        this.meetingId = meetingId;
+        this.error = error;
+    }
+    
+    public static MeetingImportResult created(int line, UUID meetingId) {
+        return new MeetingImportResult(line, Status.CREATED, meetingId, null);
+    }
+    
+    public static MeetingImportResult failed(int line, String error) {
+        return new MeetingImportResult(line, Status.FAILED, null, error);
+    }
+    
+    // Getters
+    public int getLine() { return line; }
+    
+    public Status getStatus() { return status; }
+    
+    public UUID getMeetingId() { return meetingId; }
+    
+    public String getError() { return error; }
+}
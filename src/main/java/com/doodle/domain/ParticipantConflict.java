@@ -0,0 +1,37 @@
+package com.doodle.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A participant who is already in another meeting overlapping a requested time range.
+ * Built by a JPQL constructor expression over the participant index.
+ */
+public class ParticipantConflict {
+    
+    private final String participantId;
+    private final UUID meetingId;
+    private final String title;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    
+    public ParticipantConflict(String participantId, UUID meetingId, String title,
+                               LocalDateTime startTime, LocalDateTime endTime) {
+        this.participantId = participantId;
+        this.meetingId = meetingId;
+        this.title = title;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+    
+    // Getters
+    public String getParticipantId() { return participantId; }
+    
+    public UUID getMeetingId() { return meetingId; }
+    
+    public String getTitle() { return title; }
+    
+    public LocalDateTime getStartTime() { return startTime; }
+    
+    public LocalDateTime getEndTime() { return endTime; }
+}
@@ -0,0 +1,84 @@
+package com.doodle.domain;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Denormalized participant index row: one per (participant, meeting), carrying the
+ * meeting's slot times so participant lookups are served by a single covering index
+ * scan instead of correlated subqueries over meeting_participants. Written by the
+ * meeting service through {@code ParticipantMeetingRepository}, never through the entity.
+ */
+@Entity
+@IdClass(ParticipantMeeting.Key.class)
+@Table(name = "participant_meetings", indexes = {
+    @Index(name = "idx_participant_meetings_covering", columnList = "participant_id, start_time, meeting_id, end_time"),
+    @Index(name = "idx_participant_meetings_meeting_id", columnList = "meeting_id")
+})
+public class ParticipantMeeting {
+    
+    @Id
+    @Column(name = "participant_id", nullable = false)
+    private String participantId;
+    
+    @Id
+    @Column(name = "meeting_id", nullable = false)
+    private UUID meetingId;
+    
+    @Column(name = "start_time", nullable = false)
+    private LocalDateTime startTime;
+    
+    @Column(name = "end_time", nullable = false)
+    private LocalDateTime endTime;
+    
+    // Rows go away with their meeting, including meetings removed by a calendar delete
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "meeting_id", insertable = false, updatable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Meeting meeting;
+    
+    // Constructors
+    protected ParticipantMeeting() {}
+    
+    // Getters
+    public String getParticipantId() { return participantId; }
+    
+    public UUID getMeetingId() { return meetingId; }
+    
+    public LocalDateTime getStartTime() { return startTime; }
+    
+    public LocalDateTime getEndTime() { return endTime; }
+    
+    public Meeting getMeeting() { return meeting; }
+    
+    public static class Key implements Serializable {
+        
+        private String participantId;
+        private UUID meetingId;
+        
+        public Key() {}
+        
+        public Key(String participantId, UUID meetingId) {
+            this.participantId = participantId;
+            this.meetingId = meetingId;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(participantId, key.participantId) && Objects.equals(meetingId, key.meetingId);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(participantId, meetingId);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.doodle.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Counter row holding the number of meetings a participant is in. Kept in step with
+ * participant_meetings by {@code ParticipantStatsCounter} through set-based upserts,
+ * never through the entity, and repaired by its periodic reconcile.
+ */
+@Entity
+@Table(name = "participant_stats")
+public class ParticipantStats {
+    
+    @Id
+    @Column(name = "participant_id", nullable = false)
+    private String participantId;
+    
+    @Column(name = "meeting_count", nullable = false)
+    private long meetingCount;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    protected ParticipantStats() {}
+    
+    // Getters
+    public String getParticipantId() { return participantId; }
+    
+    public long getMeetingCount() { return meetingCount; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
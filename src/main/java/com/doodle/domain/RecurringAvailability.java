@@ -0,0 +1,143 @@
+package com.doodle.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+@Entity
+@Table(name = "recurring_availability", indexes = {
+    @Index(name = "idx_recurring_availability_calendar_id", columnList = "calendar_id")
+})
+public class RecurringAvailability {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+    
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "calendar_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Calendar calendar;
+    
+    // Bit (dayOfWeek.getValue() - 1) is set for every day the rule applies to
+    @Column(name = "days_of_week", nullable = false)
+    private int daysOfWeekMask;
+    
+    @NotNull
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+    
+    @NotNull
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+    
+    @Column(name = "slot_duration_minutes", nullable = false)
+    private int slotDurationMinutes;
+    
+    @NotNull
+    @Column(name = "valid_from", nullable = false)
+    private LocalDate validFrom;
+    
+    @Column(name = "valid_until")
+    private LocalDate validUntil;
+    
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    // Constructors
+    public RecurringAvailability() {}
+    
+    public RecurringAvailability(Calendar calendar, Set<DayOfWeek> daysOfWeek, LocalTime startTime,
+                                 LocalTime endTime, int slotDurationMinutes, LocalDate validFrom, LocalDate validUntil) {
+        this.calendar = calendar;
+        setDaysOfWeek(daysOfWeek);
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.slotDurationMinutes = slotDurationMinutes;
+        this.validFrom = validFrom;
+        this.validUntil = validUntil;
+    }
+    
+    // Business methods
+    public Set<DayOfWeek> getDaysOfWeek() {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((daysOfWeekMask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+    
+    public void setDaysOfWeek(Set<DayOfWeek> daysOfWeek) {
+        int mask = 0;
+        for (DayOfWeek day : daysOfWeek) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        this.daysOfWeekMask = mask;
+    }
+    
+    public boolean isValidOn(LocalDate date) {
+        return !date.isBefore(validFrom) && (validUntil == null || !date.isAfter(validUntil));
+    }
+    
+    public boolean isOccurrenceStart(LocalDateTime dateTime) {
+        if (!isValidOn(dateTime.toLocalDate()) || !getDaysOfWeek().contains(dateTime.getDayOfWeek())) {
+            return false;
+        }
+        long slotNanos = Duration.ofMinutes(slotDurationMinutes).toNanos();
+        long timeNanos = dateTime.toLocalTime().toNanoOfDay();
+        long offsetNanos = timeNanos - startTime.toNanoOfDay();
+        return offsetNanos >= 0 && offsetNanos % slotNanos == 0 && timeNanos + slotNanos <= endTime.toNanoOfDay();
+    }
+    
+    // Getters and Setters
+    public UUID getId() { return id; }
+    public void setId(UUID id) { this.id = id; }
+    
+    public Calendar getCalendar() { return calendar; }
+    public void setCalendar(Calendar calendar) { this.calendar = calendar; }
+    
+    public int getDaysOfWeekMask() { return daysOfWeekMask; }
+    public void setDaysOfWeekMask(int daysOfWeekMask) { this.daysOfWeekMask = daysOfWeekMask; }
+    
+    public LocalTime getStartTime() { return startTime; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+    
+    public LocalTime getEndTime() { return endTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+    
+    public int getSlotDurationMinutes() { return slotDurationMinutes; }
+    public void setSlotDurationMinutes(int slotDurationMinutes) { this.slotDurationMinutes = slotDurationMinutes; }
+    
+    public LocalDate getValidFrom() { return validFrom; }
+    public void setValidFrom(LocalDate validFrom) { this.validFrom = validFrom; }
+    
+    public LocalDate getValidUntil() { return validUntil; }
+    public void setValidUntil(LocalDate validUntil) { this.validUntil = validUntil; }
+    
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+    
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
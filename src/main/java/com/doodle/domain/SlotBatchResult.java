@@ -0,0 +1,52 @@
+package com.doodle.domain;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class SlotBatchResult {
+    
+    private final List<UUID> createdSlotIds = new ArrayList<>();
+    private final List<Conflict> conflicts = new ArrayList<>();
+    
+    public void addCreated(UUID slotId) {
+        createdSlotIds.add(slotId);
+    }
+    
+    public void addConflict(int index, LocalDateTime startTime, LocalDateTime endTime, String reason) {
+        conflicts.add(new Conflict(index, startTime, endTime, reason));
+    }
+    
+    public int getCreatedCount() {
+        return createdSlotIds.size();
+    }
+    
+    // Getters
+    public List<UUID> getCreatedSlotIds() { return createdSlotIds; }
+    
+    public List<Conflict> getConflicts() { return conflicts; }
+    
+    public static class Conflict {
+        private final int index;
+        private final LocalDateTime startTime;
+        private final LocalDateTime endTime;
+        private final String reason;
+        
+        public Conflict(int index, LocalDateTime startTime, LocalDateTime endTime, String reason) {
+            this.index = index;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.reason = reason;
+        }
+        
+        // Getters
+        public int getIndex() { return index; }
+        
+        public LocalDateTime getStartTime() { return startTime; }
+        
+        public LocalDateTime getEndTime() { return endTime; }
+        
+        public String getReason() { return reason; }
+    }
+}
@@ -1,6 +1,7 @@
 package com.doodle.domain;
 
 import com.doodle.domain.enums.SlotStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import org.hibernate.annotations.CreationTimestamp;
@@ -39,9 +40,15 @@ public class TimeSlot {
     @Column(nullable = false)
     private SlotStatus status;
     
+    // Not serialized: the meeting refers back to this slot
+    @JsonIgnore
     @OneToOne(mappedBy = "timeSlot", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Meeting meeting;
     
+    // Set only on unsaved occurrences expanded from a recurring availability rule
+    @Transient
+    private UUID recurringAvailabilityId;
+    
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -92,6 +99,9 @@ public class TimeSlot {
     public Meeting getMeeting() { return meeting; }
     public void setMeeting(Meeting meeting) { this.meeting = meeting; }
     
+    public UUID getRecurringAvailabilityId() { return recurringAvailabilityId; }
+    public void setRecurringAvailabilityId(UUID recurringAvailabilityId) { this.recurringAvailabilityId = recurringAvailabilityId; }
+    
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     
@@ -0,0 +1,34 @@
+package com.doodle.domain;
+
+import com.doodle.domain.enums.SlotStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only view of a time slot, built directly by JPQL constructor expressions so
+ * listings never hydrate managed entities or lazy proxies.
+ */
+public class TimeSlotSummary {
+    
+    private final UUID id;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final SlotStatus status;
+    
+    public TimeSlotSummary(UUID id, LocalDateTime startTime, LocalDateTime endTime, SlotStatus status) {
+        this.id = id;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.status = status;
+    }
+    
+    // Getters
+    public UUID getId() { return id; }
+    
+    public LocalDateTime getStartTime() { return startTime; }
+    
+    public LocalDateTime getEndTime() { return endTime; }
+    
+    public SlotStatus getStatus() { return status; }
+}
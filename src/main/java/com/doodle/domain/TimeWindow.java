@@ -0,0 +1,24 @@
+package com.doodle.domain;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class TimeWindow {
+    
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    
+    public TimeWindow(LocalDateTime startTime, LocalDateTime endTime) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+    
+    public long getDurationMinutes() {
+        return Duration.between(startTime, endTime).toMinutes();
+    }
+    
+    // Getters
+    public LocalDateTime getStartTime() { return startTime; }
+    
+    public LocalDateTime getEndTime() { return endTime; }
+}
@@ -1,5 +1,7 @@
 package com.doodle.exception;
 
+import com.doodle.domain.ParticipantConflict;
+import com.doodle.exception.custom.ParticipantConflictException;
 import com.doodle.exception.custom.ResourceNotFoundException;
 import com.doodle.exception.custom.SlotNotAvailableException;
 import com.doodle.exception.custom.TimeConflictException;
@@ -14,6 +16,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestControllerAdvice
@@ -60,6 +63,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
     
+    @ExceptionHandler(ParticipantConflictException.class)
+    public ResponseEntity<ConflictErrorResponse> handleParticipantConflict(ParticipantConflictException ex) {
+        logger.warn("Participant conflict: {}", ex.getMessage());
+        
+        ConflictErrorResponse errorResponse = new ConflictErrorResponse(
+            "PARTICIPANT_CONFLICT",
+            ex.getMessage(),
+            LocalDateTime.now(),
+            ex.getConflicts()
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         logger.warn("Invalid argument: {}", ex.getMessage());
@@ -154,4 +171,16 @@ public class GlobalExceptionHandler {
         public Map<String, String> getFieldErrors() { return fieldErrors; }
         public void setFieldErrors(Map<String, String> fieldErrors) { this.fieldErrors = fieldErrors; }
     }
+    
+    public static class ConflictErrorResponse extends ErrorResponse {
+        private List<ParticipantConflict> conflicts;
+        
+        public ConflictErrorResponse(String code, String message, LocalDateTime timestamp, List<ParticipantConflict> conflicts) {
+            super(code, message, timestamp);
+            this.conflicts = conflicts;
+        }
+        
+        public List<ParticipantConflict> getConflicts() { return conflicts; }
+        public void setConflicts(List<ParticipantConflict> conflicts) { this.conflicts = conflicts; }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.doodle.exception.custom;
+
+import com.doodle.domain.ParticipantConflict;
+
+import java.util.List;
+
+public class ParticipantConflictException extends RuntimeException {
+    
+    private final List<ParticipantConflict> conflicts;
+    
+    public ParticipantConflictException(String message, List<ParticipantConflict> conflicts) {
+        super(message);
+        this.conflicts = List.copyOf(conflicts);
+    }
+    
+    public List<ParticipantConflict> getConflicts() {
+        return conflicts;
+    }
+}
@@ -1,49 +1,138 @@
 package com.doodle.repository;
 
+import com.doodle.domain.AgendaItem;
 import com.doodle.domain.Meeting;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface MeetingRepository extends JpaRepository<Meeting, UUID> {
     
-    @Query("SELECT m FROM Meeting m WHERE :participantId MEMBER OF m.participants")
+    // List queries fetch the slot and its calendar with the meeting, since both are serialized with it;
+    // participants are batch-fetched (see Meeting.participants)
+    
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar WHERE m.id = :id")
+    Optional<Meeting> findWithTimeSlotById(@Param("id") UUID id);
+    
+    // Participant lookups go through the participant_meetings covering index
+    @Query(value = "SELECT m FROM Meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar WHERE m.id IN " +
+                   "(SELECT pm.meetingId FROM ParticipantMeeting pm WHERE pm.participantId = :participantId)",
+           countQuery = "SELECT COUNT(pm) FROM ParticipantMeeting pm WHERE pm.participantId = :participantId")
     Page<Meeting> findByParticipant(@Param("participantId") String participantId, Pageable pageable);
     
-    @Query("SELECT m FROM Meeting m " +
-           "WHERE m.timeSlot.startTime >= :startTime AND m.timeSlot.endTime <= :endTime " +
-           "ORDER BY m.timeSlot.startTime")
+    // Keyset variants: the Pageable only carries the limit, no count query is issued
+    @Query("SELECT m FROM ParticipantMeeting pm JOIN pm.meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar " +
+           "WHERE pm.participantId = :participantId " +
+           "ORDER BY pm.startTime, pm.meetingId")
+    List<Meeting> findSliceByParticipant(@Param("participantId") String participantId, Pageable pageable);
+    
+    @Query("SELECT m FROM ParticipantMeeting pm JOIN pm.meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar " +
+           "WHERE pm.participantId = :participantId " +
+           "AND (pm.startTime > :afterStartTime " +
+           "OR (pm.startTime = :afterStartTime AND pm.meetingId > :afterId)) " +
+           "ORDER BY pm.startTime, pm.meetingId")
+    List<Meeting> findSliceByParticipantAfter(
+        @Param("participantId") String participantId,
+        @Param("afterStartTime") LocalDateTime afterStartTime,
+        @Param("afterId") UUID afterId,
+        Pageable pageable);
+    
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar " +
+           "WHERE ts.startTime >= :startTime AND ts.endTime <= :endTime " +
+           "ORDER BY ts.startTime")
     List<Meeting> findByTimeRange(
         @Param("startTime") LocalDateTime startTime,
         @Param("endTime") LocalDateTime endTime);
     
-    @Query("SELECT m FROM Meeting m " +
-           "WHERE :participantId MEMBER OF m.participants " +
-           "AND m.timeSlot.startTime >= :startTime AND m.timeSlot.endTime <= :endTime " +
-           "ORDER BY m.timeSlot.startTime")
+    // Forward-only cursor for exports: rows arrive 500 at a time and are not snapshotted for
+    // dirty checking. Must be consumed and closed inside a transaction
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar " +
+           "WHERE ts.startTime >= :startTime AND ts.endTime <= :endTime " +
+           "ORDER BY ts.startTime, m.id")
+    Stream<Meeting> streamByTimeRange(
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime);
+    
+    @Query("SELECT m FROM ParticipantMeeting pm JOIN pm.meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar " +
+           "WHERE pm.participantId = :participantId " +
+           "AND pm.startTime >= :startTime AND pm.endTime <= :endTime " +
+           "ORDER BY pm.startTime")
     List<Meeting> findByParticipantAndTimeRange(
         @Param("participantId") String participantId,
         @Param("startTime") LocalDateTime startTime,
         @Param("endTime") LocalDateTime endTime);
     
-    @Query("SELECT m FROM Meeting m " +
-           "WHERE m.timeSlot.calendar.userId = :userId " +
-           "ORDER BY m.timeSlot.startTime")
+    @Query(value = "SELECT m FROM Meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar c " +
+                   "WHERE c.userId = :userId " +
+                   "ORDER BY ts.startTime",
+           countQuery = "SELECT COUNT(m) FROM Meeting m WHERE m.timeSlot.calendar.userId = :userId")
     Page<Meeting> findByCalendarUserId(@Param("userId") String userId, Pageable pageable);
     
-    @Query("SELECT COUNT(m) FROM Meeting m WHERE :participantId MEMBER OF m.participants")
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar c " +
+           "WHERE c.userId = :userId " +
+           "ORDER BY ts.startTime, m.id")
+    List<Meeting> findSliceByCalendarUserId(@Param("userId") String userId, Pageable pageable);
+    
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar c " +
+           "WHERE c.userId = :userId " +
+           "AND (ts.startTime > :afterStartTime " +
+           "OR (ts.startTime = :afterStartTime AND m.id > :afterId)) " +
+           "ORDER BY ts.startTime, m.id")
+    List<Meeting> findSliceByCalendarUserIdAfter(
+        @Param("userId") String userId,
+        @Param("afterStartTime") LocalDateTime afterStartTime,
+        @Param("afterId") UUID afterId,
+        Pageable pageable);
+    
+    // Meetings the user attends or that are booked in one of the user's calendars
+    @Query("SELECT new com.doodle.domain.AgendaItem(m.id, m.title, ts.startTime, ts.endTime) " +
+           "FROM Meeting m JOIN m.timeSlot ts JOIN ts.calendar c " +
+           "WHERE ts.startTime >= :from " +
+           "AND (c.userId = :userId OR m.id IN " +
+           "(SELECT pm.meetingId FROM ParticipantMeeting pm WHERE pm.participantId = :userId AND pm.startTime >= :from)) " +
+           "ORDER BY ts.startTime, m.id")
+    List<AgendaItem> findUpcomingAgenda(
+        @Param("userId") String userId,
+        @Param("from") LocalDateTime from,
+        Pageable pageable);
+    
+    // Calendars ordered by meetings booked in them since the given time, for the cache warm-up
+    @Query("SELECT ts.calendar.id FROM Meeting m JOIN m.timeSlot ts " +
+           "WHERE m.createdAt >= :since " +
+           "GROUP BY ts.calendar.id " +
+           "ORDER BY COUNT(m) DESC")
+    List<UUID> findMostBookedCalendarIds(@Param("since") LocalDateTime since, Pageable pageable);
+    
+    @Query("SELECT COUNT(pm) FROM ParticipantMeeting pm WHERE pm.participantId = :participantId")
     long countByParticipant(@Param("participantId") String participantId);
     
-    @Query("SELECT m FROM Meeting m " +
+    // Rows of (id, title) for the in-process title search index
+    @Query("SELECT m.id, m.title FROM Meeting m")
+    List<Object[]> findAllTitles();
+    
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar " +
            "WHERE m.title LIKE %:title% " +
-           "ORDER BY m.timeSlot.startTime")
+           "ORDER BY ts.startTime")
     List<Meeting> findByTitleContaining(@Param("title") String title);
+    
+    @Query("SELECT m FROM Meeting m JOIN FETCH m.timeSlot ts JOIN FETCH ts.calendar WHERE m.id IN :ids")
+    List<Meeting> findByIdIn(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.doodle.repository;
+
+import com.doodle.domain.ParticipantConflict;
+import com.doodle.domain.ParticipantMeeting;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Maintains the participant_meetings index. Rows are copied set-based from the flushed
+ * meeting_participants collection, so every mutation costs one statement regardless of
+ * the number of participants.
+ */
+@Repository
+public interface ParticipantMeetingRepository extends JpaRepository<ParticipantMeeting, ParticipantMeeting.Key> {
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO participant_meetings (participant_id, meeting_id, start_time, end_time) " +
+                   "SELECT DISTINCT mp.participant_id, m.id, ts.start_time, ts.end_time " +
+                   "FROM meeting_participants mp " +
+                   "JOIN meetings m ON m.id = mp.meeting_id " +
+                   "JOIN time_slots ts ON ts.id = m.time_slot_id " +
+                   "WHERE m.id = :meetingId",
+           nativeQuery = true)
+    int indexMeeting(@Param("meetingId") UUID meetingId);
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO participant_meetings (participant_id, meeting_id, start_time, end_time) " +
+                   "SELECT DISTINCT mp.participant_id, m.id, ts.start_time, ts.end_time " +
+                   "FROM meeting_participants mp " +
+                   "JOIN meetings m ON m.id = mp.meeting_id " +
+                   "JOIN time_slots ts ON ts.id = m.time_slot_id " +
+                   "WHERE m.id IN (:meetingIds)",
+           nativeQuery = true)
+    int indexMeetings(@Param("meetingIds") Collection<UUID> meetingIds);
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO participant_meetings (participant_id, meeting_id, start_time, end_time) " +
+                   "SELECT DISTINCT mp.participant_id, m.id, ts.start_time, ts.end_time " +
+                   "FROM meeting_participants mp " +
+                   "JOIN meetings m ON m.id = mp.meeting_id " +
+                   "JOIN time_slots ts ON ts.id = m.time_slot_id " +
+                   "WHERE m.id = :meetingId AND mp.participant_id IN (:participantIds)",
+           nativeQuery = true)
+    int indexParticipants(
+        @Param("meetingId") UUID meetingId,
+        @Param("participantIds") Collection<String> participantIds);
+    
+    // Overlap in one pass over the end time index: each participant's range scan starts at
+    // startTime and only walks meetings that have not ended by then, whatever their length
+    @Query("SELECT new com.doodle.domain.ParticipantConflict(pm.participantId, pm.meetingId, m.title, " +
+           "pm.startTime, pm.endTime) " +
+           "FROM ParticipantMeeting pm JOIN pm.meeting m " +
+           "WHERE pm.participantId IN :participantIds " +
+           "AND pm.startTime < :endTime AND pm.endTime > :startTime " +
+           "ORDER BY pm.participantId, pm.startTime")
+    List<ParticipantConflict> findConflicts(
+        @Param("participantIds") Collection<String> participantIds,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime);
+    
+    // Rows of (participant ID, meeting count) for the meetings going away with a calendar
+    @Query("SELECT pm.participantId, COUNT(pm) FROM ParticipantMeeting pm JOIN pm.meeting m " +
+           "WHERE m.timeSlot.calendar.id = :calendarId GROUP BY pm.participantId")
+    List<Object[]> countByCalendarId(@Param("calendarId") UUID calendarId);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ParticipantMeeting pm WHERE pm.meetingId = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") UUID meetingId);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ParticipantMeeting pm " +
+           "WHERE pm.meetingId = :meetingId AND pm.participantId IN :participantIds")
+    int deleteParticipants(
+        @Param("meetingId") UUID meetingId,
+        @Param("participantIds") Collection<String> participantIds);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ParticipantMeeting pm SET pm.startTime = :startTime, pm.endTime = :endTime " +
+           "WHERE pm.meetingId = :meetingId")
+    int updateTimes(
+        @Param("meetingId") UUID meetingId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime);
+}
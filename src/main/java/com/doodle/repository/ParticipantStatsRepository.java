@@ -0,0 +1,39 @@
+package com.doodle.repository;
+
+import com.doodle.domain.ParticipantStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Reads the participant_stats counters and repairs them from participant_meetings.
+ * Increments and decrements go through {@code ParticipantStatsCounter}.
+ */
+@Repository
+public interface ParticipantStatsRepository extends JpaRepository<ParticipantStats, String> {
+    
+    @Query("SELECT ps.meetingCount FROM ParticipantStats ps WHERE ps.participantId = :participantId")
+    Optional<Long> findMeetingCount(@Param("participantId") String participantId);
+    
+    // Counters the grouped recount in ParticipantStatsCounter cannot see, as no rows are left
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE participant_stats SET meeting_count = 0, updated_at = CURRENT_TIMESTAMP " +
+                   "WHERE meeting_count <> 0 AND NOT EXISTS (SELECT 1 FROM participant_meetings pm " +
+                   "WHERE pm.participant_id = participant_stats.participant_id)",
+           nativeQuery = true)
+    int resetCountsWithoutMeetings();
+    
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO participant_stats (participant_id, meeting_count, updated_at) " +
+                   "SELECT pm.participant_id, COUNT(*), CURRENT_TIMESTAMP " +
+                   "FROM participant_meetings pm " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM participant_stats ps " +
+                   "WHERE ps.participant_id = pm.participant_id) " +
+                   "GROUP BY pm.participant_id",
+           nativeQuery = true)
+    int insertMissingCounts();
+}
@@ -0,0 +1,25 @@
+package com.doodle.repository;
+
+import com.doodle.domain.RecurringAvailability;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RecurringAvailabilityRepository extends JpaRepository<RecurringAvailability, UUID> {
+    
+    @Query("SELECT ra FROM RecurringAvailability ra WHERE ra.calendar.id = :calendarId ORDER BY ra.validFrom")
+    List<RecurringAvailability> findByCalendarId(@Param("calendarId") UUID calendarId);
+    
+    @Query("SELECT ra FROM RecurringAvailability ra WHERE ra.calendar.id = :calendarId " +
+           "AND ra.validFrom <= :endDate AND (ra.validUntil IS NULL OR ra.validUntil >= :startDate)")
+    List<RecurringAvailability> findActiveByCalendarId(
+        @Param("calendarId") UUID calendarId,
+        @Param("startDate") LocalDate startDate,
+        @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,70 @@
+package com.doodle.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Reports whether the database enforces non-overlapping slots through the
+ * {@value #CONSTRAINT_NAME} exclusion constraint (PostgreSQL, migration V6). When it
+ * does, writes can skip the application-level overlap query and rely on the constraint.
+ */
+@Component
+public class SlotOverlapConstraint {
+    
+    private static final Logger logger = LoggerFactory.getLogger(SlotOverlapConstraint.class);
+    
+    public static final String CONSTRAINT_NAME = "exclude_time_slot_overlap";
+    
+    // PostgreSQL SQLSTATE for exclusion_violation
+    private static final String EXCLUSION_VIOLATION = "23P01";
+    
+    private final boolean enforcedByDatabase;
+    
+    @Autowired
+    public SlotOverlapConstraint(DataSource dataSource,
+                                 @Value("${doodle.scheduling.overlap-constraint.enabled:true}") boolean enabled) {
+        this.enforcedByDatabase = enabled && detect(dataSource);
+        logger.info("Slot overlap is enforced by {}", enforcedByDatabase ? "database constraint" : "application check");
+    }
+    
+    public boolean isEnforcedByDatabase() {
+        return enforcedByDatabase;
+    }
+    
+    public boolean isViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && EXCLUSION_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static boolean detect(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return false;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT 1 FROM pg_constraint WHERE conname = ?")) {
+                statement.setString(1, CONSTRAINT_NAME);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    return resultSet.next();
+                }
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not detect slot overlap constraint, using application check", e);
+            return false;
+        }
+    }
+}
@@ -1,31 +1,73 @@
 package com.doodle.repository;
 
 import com.doodle.domain.TimeSlot;
+import com.doodle.domain.TimeSlotSummary;
 import com.doodle.domain.enums.SlotStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface TimeSlotRepository extends JpaRepository<TimeSlot, UUID> {
     
-    @Query("SELECT ts FROM TimeSlot ts WHERE ts.calendar.id = :calendarId " +
-           "AND ts.startTime >= :startTime AND ts.endTime <= :endTime " +
-           "ORDER BY ts.startTime")
+    // Entity queries fetch the calendar, and the inverse meeting side Hibernate would otherwise
+    // look up once per slot, in the same statement
+    @Query(value = "SELECT ts FROM TimeSlot ts JOIN FETCH ts.calendar LEFT JOIN FETCH ts.meeting " +
+                   "WHERE ts.calendar.id = :calendarId " +
+                   "AND ts.startTime >= :startTime AND ts.endTime <= :endTime " +
+                   "ORDER BY ts.startTime",
+           countQuery = "SELECT COUNT(ts) FROM TimeSlot ts WHERE ts.calendar.id = :calendarId " +
+                        "AND ts.startTime >= :startTime AND ts.endTime <= :endTime")
     Page<TimeSlot> findByCalendarIdAndTimeRange(
         @Param("calendarId") UUID calendarId,
         @Param("startTime") LocalDateTime startTime,
         @Param("endTime") LocalDateTime endTime,
         Pageable pageable);
     
-    @Query("SELECT ts FROM TimeSlot ts WHERE ts.calendar.id = :calendarId " +
+    @Query(value = "SELECT new com.doodle.domain.TimeSlotSummary(ts.id, ts.startTime, ts.endTime, ts.status) " +
+                   "FROM TimeSlot ts WHERE ts.calendar.id = :calendarId " +
+                   "ORDER BY ts.startTime, ts.id",
+           countQuery = "SELECT COUNT(ts) FROM TimeSlot ts WHERE ts.calendar.id = :calendarId")
+    Page<TimeSlotSummary> findSummariesByCalendarId(@Param("calendarId") UUID calendarId, Pageable pageable);
+    
+    // Keyset variants: the Pageable only carries the limit, no count query is issued
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.calendar LEFT JOIN FETCH ts.meeting " +
+           "WHERE ts.calendar.id = :calendarId " +
+           "AND ts.startTime >= :startTime AND ts.endTime <= :endTime " +
+           "ORDER BY ts.startTime, ts.id")
+    List<TimeSlot> findSliceByCalendarIdAndTimeRange(
+        @Param("calendarId") UUID calendarId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime,
+        Pageable pageable);
+    
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.calendar LEFT JOIN FETCH ts.meeting " +
+           "WHERE ts.calendar.id = :calendarId " +
+           "AND ts.startTime >= :startTime AND ts.endTime <= :endTime " +
+           "AND (ts.startTime > :afterStartTime OR (ts.startTime = :afterStartTime AND ts.id > :afterId)) " +
+           "ORDER BY ts.startTime, ts.id")
+    List<TimeSlot> findSliceByCalendarIdAndTimeRangeAfter(
+        @Param("calendarId") UUID calendarId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime,
+        @Param("afterStartTime") LocalDateTime afterStartTime,
+        @Param("afterId") UUID afterId,
+        Pageable pageable);
+    
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.calendar LEFT JOIN FETCH ts.meeting " +
+           "WHERE ts.calendar.id = :calendarId " +
            "AND ts.status = :status " +
            "AND ts.startTime >= :startTime AND ts.endTime <= :endTime " +
            "ORDER BY ts.startTime")
@@ -46,8 +88,49 @@ public interface TimeSlotRepository extends JpaRepository<TimeSlot, UUID> {
         @Param("startTime") LocalDateTime startTime,
         @Param("endTime") LocalDateTime endTime);
     
-    @Query("SELECT ts FROM TimeSlot ts " +
-           "WHERE ts.calendar.userId IN :userIds " +
+    // Compare-and-set on status; concurrent callers serialize on the row lock and only one sees 1
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE TimeSlot ts SET ts.status = :status, ts.updatedAt = LOCAL DATETIME " +
+           "WHERE ts.id = :id AND ts.status = :expectedStatus")
+    int updateStatusIfCurrent(
+        @Param("id") UUID id,
+        @Param("expectedStatus") SlotStatus expectedStatus,
+        @Param("status") SlotStatus status);
+    
+    // Row locks make the status check and the status change of a bulk booking atomic
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ts.id FROM TimeSlot ts WHERE ts.id IN :ids AND ts.status = :status")
+    List<UUID> lockIdsByStatus(@Param("ids") Collection<UUID> ids, @Param("status") SlotStatus status);
+    
+    // Fetching the inverse meeting side too saves a meeting lookup per loaded slot
+    // Single slot reads are cached with their calendar, so it is fetched up front
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.calendar WHERE ts.id = :id")
+    Optional<TimeSlot> findWithCalendarById(@Param("id") UUID id);
+    
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.calendar LEFT JOIN FETCH ts.meeting WHERE ts.id IN :ids")
+    List<TimeSlot> findAllWithCalendarAndMeetingByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    @Query("SELECT ts.id, ts.startTime, ts.endTime FROM TimeSlot ts WHERE ts.calendar.id = :calendarId")
+    List<Object[]> findSlotIntervalsByCalendarId(@Param("calendarId") UUID calendarId);
+    
+    @Query("SELECT ts.id, ts.startTime, ts.endTime FROM TimeSlot ts WHERE ts.calendar.id = :calendarId " +
+           "AND ts.startTime < :endTime AND ts.endTime > :startTime")
+    List<Object[]> findSlotIntervalsByCalendarIdAndTimeRange(
+        @Param("calendarId") UUID calendarId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime);
+    
+    @Query("SELECT ts.startTime, ts.endTime FROM TimeSlot ts WHERE ts.calendar.id = :calendarId " +
+           "AND ts.status = :status " +
+           "AND ts.startTime < :endTime AND ts.endTime > :startTime")
+    List<Object[]> findSlotIntervalsByCalendarIdAndStatusAndTimeRange(
+        @Param("calendarId") UUID calendarId,
+        @Param("status") SlotStatus status,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime);
+    
+    @Query("SELECT ts FROM TimeSlot ts JOIN FETCH ts.calendar c LEFT JOIN FETCH ts.meeting " +
+           "WHERE c.userId IN :userIds " +
            "AND ts.startTime >= :startTime AND ts.endTime <= :endTime " +
            "AND ts.status = 'BUSY' " +
            "ORDER BY ts.startTime")
@@ -56,6 +139,25 @@ public interface TimeSlotRepository extends JpaRepository<TimeSlot, UUID> {
         @Param("startTime") LocalDateTime startTime,
         @Param("endTime") LocalDateTime endTime);
     
+    @Query("SELECT ts.calendar.userId, ts.startTime, ts.endTime FROM TimeSlot ts " +
+           "WHERE ts.calendar.userId IN :userIds " +
+           "AND ts.startTime < :endTime AND ts.endTime > :startTime " +
+           "AND ts.status = 'BUSY' " +
+           "ORDER BY ts.calendar.userId, ts.startTime")
+    List<Object[]> findBusyIntervalsByUsers(
+        @Param("userIds") List<String> userIds,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime);
+    
+    @Query("SELECT ts.calendar.id FROM TimeSlot ts " +
+           "WHERE ts.startTime >= :startTime AND ts.startTime < :endTime " +
+           "GROUP BY ts.calendar.id " +
+           "ORDER BY COUNT(ts) DESC")
+    List<UUID> findBusiestCalendarIds(
+        @Param("startTime") LocalDateTime startTime,
+        @Param("endTime") LocalDateTime endTime,
+        Pageable pageable);
+    
     @Query("SELECT DATE(ts.startTime) as date, COUNT(ts) as count " +
            "FROM TimeSlot ts " +
            "WHERE ts.calendar.id = :calendarId " +
@@ -0,0 +1,15 @@
+package com.doodle.service;
+
+import com.doodle.domain.TimeWindow;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface AvailabilityService {
+    
+    List<TimeWindow> findCommonFreeTime(
+        List<String> userIds, LocalDateTime startTime, LocalDateTime endTime, int minDurationMinutes);
+    
+    List<TimeWindow> findCommonAvailability(List<UUID> calendarIds, LocalDateTime startTime, LocalDateTime endTime);
+}
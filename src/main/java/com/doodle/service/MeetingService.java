@@ -1,10 +1,16 @@
 package com.doodle.service;
 
+import com.doodle.domain.AgendaItem;
+import com.doodle.domain.CursorPage;
 import com.doodle.domain.Meeting;
+import com.doodle.domain.MeetingImportRecord;
+import com.doodle.domain.MeetingImportResult;
+import com.doodle.domain.ParticipantConflict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -12,10 +18,19 @@ public interface MeetingService {
     
     Meeting scheduleMeeting(Meeting meeting);
     
+    Meeting scheduleMeeting(Meeting meeting, boolean allowParticipantConflicts);
+    
+    List<MeetingImportResult> importMeetings(List<MeetingImportRecord> records);
+    
+    List<ParticipantConflict> findParticipantConflicts(Collection<String> participantIds,
+                                                       LocalDateTime startTime, LocalDateTime endTime);
+    
     Meeting getMeetingById(UUID id);
     
     Page<Meeting> getMeetingsByParticipant(String participantId, Pageable pageable);
     
+    CursorPage<Meeting> getMeetingsByParticipant(String participantId, String cursor, int limit);
+    
     List<Meeting> getMeetingsByTimeRange(LocalDateTime startTime, LocalDateTime endTime);
     
     List<Meeting> getMeetingsByParticipantAndTimeRange(
@@ -23,6 +38,10 @@ public interface MeetingService {
     
     Page<Meeting> getMeetingsByCalendarUserId(String userId, Pageable pageable);
     
+    CursorPage<Meeting> getMeetingsByCalendarUserId(String userId, String cursor, int limit);
+    
+    List<AgendaItem> getUpcomingAgenda(String userId, int limit);
+    
     Meeting updateMeeting(UUID id, Meeting meeting);
     
     void deleteMeeting(UUID id);
@@ -31,7 +50,13 @@ public interface MeetingService {
     
     void removeParticipantFromMeeting(UUID meetingId, String participantId);
     
+    Meeting addParticipantsToMeeting(UUID meetingId, List<String> participantIds);
+    
+    Meeting removeParticipantsFromMeeting(UUID meetingId, List<String> participantIds);
+    
     long countMeetingsByParticipant(String participantId);
     
     List<Meeting> findMeetingsByTitle(String title);
+    
+    Page<Meeting> searchMeetings(String query, Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.doodle.service;
+
+import com.doodle.domain.RecurringAvailability;
+import com.doodle.domain.TimeSlot;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface RecurringAvailabilityService {
+    
+    RecurringAvailability createRule(UUID calendarId, RecurringAvailability rule);
+    
+    RecurringAvailability getRuleById(UUID calendarId, UUID id);
+    
+    List<RecurringAvailability> getRulesByCalendarId(UUID calendarId);
+    
+    void deleteRule(UUID calendarId, UUID id);
+    
+    List<TimeSlot> expandOccurrences(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime);
+}
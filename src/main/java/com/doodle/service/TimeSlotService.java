@@ -1,27 +1,40 @@
 package com.doodle.service;
 
+import com.doodle.domain.CursorPage;
+import com.doodle.domain.SlotBatchResult;
 import com.doodle.domain.TimeSlot;
+import com.doodle.domain.TimeSlotSummary;
+import com.doodle.domain.TimeWindow;
 import com.doodle.domain.enums.SlotStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface TimeSlotService {
     
     TimeSlot createTimeSlot(TimeSlot timeSlot);
     
+    SlotBatchResult createTimeSlots(UUID calendarId, List<TimeSlot> timeSlots);
+    
     TimeSlot getTimeSlotById(UUID id);
     
-    Page<TimeSlot> getTimeSlotsByCalendarId(UUID calendarId, Pageable pageable);
+    Page<TimeSlotSummary> getTimeSlotsByCalendarId(UUID calendarId, Pageable pageable);
     
     List<TimeSlot> getAvailableSlots(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime);
     
+    List<TimeWindow> getCommonAvailableWindows(List<UUID> calendarIds, LocalDateTime startTime, LocalDateTime endTime);
+    
     Page<TimeSlot> getTimeSlotsByCalendarIdAndTimeRange(
         UUID calendarId, LocalDateTime startTime, LocalDateTime endTime, Pageable pageable);
     
+    CursorPage<TimeSlot> getTimeSlotsByCalendarIdAndTimeRange(
+        UUID calendarId, LocalDateTime startTime, LocalDateTime endTime, String cursor, int limit);
+    
     TimeSlot updateTimeSlot(UUID id, TimeSlot timeSlot);
     
     void deleteTimeSlot(UUID id);
@@ -32,7 +45,13 @@ public interface TimeSlotService {
     
     void markSlotAsBusy(UUID slotId);
     
+    TimeSlot reserveSlot(UUID slotId);
+    
+    Map<UUID, TimeSlot> reserveSlots(Collection<UUID> slotIds);
+    
     void markSlotAsAvailable(UUID slotId);
     
+    TimeSlot materializeRecurringSlot(UUID calendarId, UUID recurringAvailabilityId, LocalDateTime startTime);
+    
     List<Object[]> getSlotCountByDate(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime);
 }
\ No newline at end of file
@@ -0,0 +1,85 @@
+package com.doodle.service.availability;
+
+import com.doodle.domain.TimeWindow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Computes the windows in which none of a set of users is busy. Each user's busy
+ * intervals must be sorted by start time; the lists are merged with a k-way heap
+ * and swept once, so the cost is O(n log k) for n intervals across k users.
+ */
+public final class FreeTimeCalculator {
+
+    private FreeTimeCalculator() {}
+
+    public static List<TimeWindow> commonFreeWindows(Collection<List<TimeWindow>> busyByUser,
+                                                     LocalDateTime startTime, LocalDateTime endTime,
+                                                     Duration minDuration) {
+        PriorityQueue<Cursor> heap = new PriorityQueue<>(Math.max(1, busyByUser.size()),
+            Comparator.comparing(Cursor::current, Comparator.comparing(TimeWindow::getStartTime)));
+        for (List<TimeWindow> busy : busyByUser) {
+            if (!busy.isEmpty()) {
+                heap.add(new Cursor(busy));
+            }
+        }
+
+        List<TimeWindow> freeWindows = new ArrayList<>();
+        LocalDateTime freeFrom = startTime;
+
+        while (!heap.isEmpty() && freeFrom.isBefore(endTime)) {
+            Cursor cursor = heap.poll();
+            TimeWindow busy = cursor.current();
+
+            if (busy.getStartTime().isAfter(freeFrom)) {
+                addIfLongEnough(freeWindows, freeFrom, min(busy.getStartTime(), endTime), minDuration);
+            }
+            if (busy.getEndTime().isAfter(freeFrom)) {
+                freeFrom = busy.getEndTime();
+            }
+
+            if (cursor.advance()) {
+                heap.add(cursor);
+            }
+        }
+
+        if (freeFrom.isBefore(endTime)) {
+            addIfLongEnough(freeWindows, freeFrom, endTime, minDuration);
+        }
+        return freeWindows;
+    }
+
+    private static void addIfLongEnough(List<TimeWindow> windows, LocalDateTime start, LocalDateTime end,
+                                        Duration minDuration) {
+        if (Duration.between(start, end).compareTo(minDuration) >= 0) {
+            windows.add(new TimeWindow(start, end));
+        }
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static final class Cursor {
+        private final List<TimeWindow> intervals;
+        private int position;
+
+        private Cursor(List<TimeWindow> intervals) {
+            this.intervals = intervals;
+        }
+
+        private TimeWindow current() {
+            return intervals.get(position);
+        }
+
+        private boolean advance() {
+            return ++position < intervals.size();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.doodle.service.availability;
+
+import com.doodle.domain.TimeWindow;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Expands a weekly rule ("these days, between these hours, in slots of this length")
+ * into concrete time windows within a date range.
+ */
+public final class RecurrenceExpander {
+
+    private RecurrenceExpander() {}
+
+    public static List<TimeWindow> expand(Set<DayOfWeek> daysOfWeek, LocalTime dailyStart, LocalTime dailyEnd,
+                                          int slotDurationMinutes, LocalDate fromDate, LocalDate toDate) {
+        return expand(daysOfWeek, dailyStart, dailyEnd, slotDurationMinutes, fromDate, toDate, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Same as {@link #expand(Set, LocalTime, LocalTime, int, LocalDate, LocalDate)}, but gives up
+     * as soon as the rule yields more than {@code maxWindows}, before the rest of the range is built.
+     */
+    public static List<TimeWindow> expand(Set<DayOfWeek> daysOfWeek, LocalTime dailyStart, LocalTime dailyEnd,
+                                          int slotDurationMinutes, LocalDate fromDate, LocalDate toDate,
+                                          int maxWindows) {
+        if (!dailyStart.isBefore(dailyEnd)) {
+            throw new IllegalArgumentException("Daily start time must be before daily end time");
+        }
+        if (slotDurationMinutes <= 0) {
+            throw new IllegalArgumentException("Slot duration must be positive");
+        }
+        if (toDate.isBefore(fromDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+
+        List<TimeWindow> windows = new ArrayList<>();
+        for (LocalDate date = fromDate; !date.isAfter(toDate); date = date.plusDays(1)) {
+            if (!daysOfWeek.contains(date.getDayOfWeek())) {
+                continue;
+            }
+            LocalDateTime dayEnd = date.atTime(dailyEnd);
+            LocalDateTime slotStart = date.atTime(dailyStart);
+            LocalDateTime slotEnd = slotStart.plusMinutes(slotDurationMinutes);
+            while (!slotEnd.isAfter(dayEnd)) {
+                windows.add(new TimeWindow(slotStart, slotEnd));
+                if (windows.size() > maxWindows) {
+                    throw new IllegalArgumentException("Recurrence expands to more than " + maxWindows + " time slots");
+                }
+                slotStart = slotEnd;
+                slotEnd = slotStart.plusMinutes(slotDurationMinutes);
+            }
+        }
+        return windows;
+    }
+}
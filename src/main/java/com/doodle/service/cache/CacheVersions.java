@@ -0,0 +1,66 @@
+package com.doodle.service.cache;
+
+import com.doodle.service.index.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generation counters that scope cache keys, e.g. every availableSlots range of a
+ * calendar. Bumping the counter orphans all entries built under the old generation in
+ * O(1); they age out through the cache TTL instead of being searched for and evicted.
+ * Counters live in Redis when the cache does, so every node agrees on the generation.
+ */
+@Component
+public class CacheVersions {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CacheVersions.class);
+    
+    private static final String KEY_PREFIX = "cache-version:";
+    
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, AtomicLong> localVersions = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public CacheVersions(ObjectProvider<StringRedisTemplate> redisTemplate,
+                         @Value("${spring.cache.type:simple}") String cacheType) {
+        this.redisTemplate = "redis".equalsIgnoreCase(cacheType) ? redisTemplate.getIfAvailable() : null;
+    }
+    
+    public long current(String cacheName, UUID scopeId) {
+        String key = key(cacheName, scopeId);
+        if (redisTemplate == null) {
+            AtomicLong version = localVersions.get(key);
+            return version != null ? version.get() : 0L;
+        }
+        String version = redisTemplate.opsForValue().get(key);
+        return version != null ? Long.parseLong(version) : 0L;
+    }
+    
+    /**
+     * Moves the scope to a new generation once the surrounding transaction commits, so no
+     * reader can cache pre-commit data under the new generation.
+     */
+    public void bump(String cacheName, UUID scopeId) {
+        String key = key(cacheName, scopeId);
+        TransactionCallbacks.afterCommit(() -> {
+            long version = redisTemplate != null 
+                ? redisTemplate.opsForValue().increment(key) 
+                : localVersions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+            logger.debug("Bumped {} to generation {}", key, version);
+        });
+    }
+    
+    private static String key(String cacheName, UUID scopeId) {
+        return KEY_PREFIX + cacheName + ":" + scopeId;
+    }
+}
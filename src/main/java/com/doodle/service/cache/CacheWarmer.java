@@ -0,0 +1,182 @@
+package com.doodle.service.cache;
+
+import com.doodle.domain.TimeSlot;
+import com.doodle.repository.MeetingRepository;
+import com.doodle.repository.TimeSlotRepository;
+import com.doodle.service.CalendarService;
+import com.doodle.service.TimeSlotService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Preloads a set of calendars, their per-day and whole-window availability and the slots
+ * themselves. Runs as an {@link ApplicationRunner}, so the readiness probe only reports UP
+ * once it has finished or its time budget ran out.
+ *
+ * <p>Which calendars are read most is not recorded anywhere that survives a restart, so the
+ * set is picked by a proxy from the database, see {@link Selection}. Neither proxy follows
+ * actual reads: a calendar that is browsed a lot but rarely booked is not warmed.
+ */
+@Component
+public class CacheWarmer implements ApplicationRunner {
+    
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+    
+    private final CalendarService calendarService;
+    private final TimeSlotService timeSlotService;
+    private final TimeSlotRepository timeSlotRepository;
+    private final MeetingRepository meetingRepository;
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+    private final Selection selection;
+    private final Duration lookback;
+    private final int maxCalendars;
+    private final int days;
+    private final int threads;
+    private final Duration budget;
+    
+    @Autowired
+    public CacheWarmer(CalendarService calendarService,
+                       TimeSlotService timeSlotService,
+                       TimeSlotRepository timeSlotRepository,
+                       MeetingRepository meetingRepository,
+                       CacheManager cacheManager,
+                       @Value("${doodle.cache.warm-up.enabled:true}") boolean enabled,
+                       @Value("${doodle.cache.warm-up.selection:busiest}") Selection selection,
+                       @Value("${doodle.cache.warm-up.lookback:7d}") Duration lookback,
+                       @Value("${doodle.cache.warm-up.calendars:100}") int maxCalendars,
+                       @Value("${doodle.cache.warm-up.days:7}") int days,
+                       @Value("${doodle.cache.warm-up.threads:4}") int threads,
+                       @Value("${doodle.cache.warm-up.budget:20s}") Duration budget) {
+        this.calendarService = calendarService;
+        this.timeSlotService = timeSlotService;
+        this.timeSlotRepository = timeSlotRepository;
+        this.meetingRepository = meetingRepository;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.selection = selection;
+        this.lookback = lookback;
+        this.maxCalendars = maxCalendars;
+        this.days = days;
+        this.threads = threads;
+        this.budget = budget;
+    }
+    
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!enabled) {
+            return;
+        }
+        warmUp();
+    }
+    
+    /**
+     * Warms up to the configured number of calendars within the time budget.
+     *
+     * @return the number of calendars that were fully warmed
+     */
+    public int warmUp() throws InterruptedException {
+        long startedAt = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        List<UUID> calendarIds = selectCalendars(today);
+        if (calendarIds.isEmpty()) {
+            return 0;
+        }
+        
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (UUID calendarId : calendarIds) {
+            tasks.add(() -> {
+                warmCalendar(calendarId, today);
+                return null;
+            });
+        }
+        
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, calendarIds.size()));
+        int warmed = 0;
+        try {
+            // Tasks still running when the budget is spent are cancelled
+            for (Future<Void> result : executor.invokeAll(tasks, budget.toMillis(), TimeUnit.MILLISECONDS)) {
+                if (!result.isCancelled() && succeeded(result)) {
+                    warmed++;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        logger.info("Cache warm-up finished: {} of {} calendars in {} ms", warmed, calendarIds.size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+        return warmed;
+    }
+    
+    private List<UUID> selectCalendars(LocalDate today) {
+        PageRequest limit = PageRequest.of(0, maxCalendars);
+        return switch (selection) {
+            case BUSIEST -> timeSlotRepository.findBusiestCalendarIds(
+                today.atStartOfDay(), today.plusDays(days).atStartOfDay(), limit);
+            case RECENTLY_BOOKED -> meetingRepository.findMostBookedCalendarIds(
+                LocalDateTime.now().minus(lookback), limit);
+        };
+    }
+    
+    private void warmCalendar(UUID calendarId, LocalDate today) {
+        calendarService.getCalendarById(calendarId);
+        Cache timeSlots = cacheManager.getCache("timeSlots");
+        
+        // The same ranges the available-slots endpoint asks for: single days and the whole window
+        LocalDate lastDay = today.plusDays(days - 1L);
+        List<TimeSlot> upcoming = timeSlotService.getAvailableSlots(calendarId,
+            today.atStartOfDay(), lastDay.atTime(LocalTime.MAX));
+        for (LocalDate day = today; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            timeSlotService.getAvailableSlots(calendarId, day.atStartOfDay(), day.atTime(LocalTime.MAX));
+        }
+        if (timeSlots != null) {
+            // Unstored recurring occurrences carry no id and cannot be fetched by id anyway
+            upcoming.stream()
+                .filter(slot -> slot.getId() != null)
+                .forEach(slot -> timeSlots.putIfAbsent(slot.getId(), slot));
+        }
+    }
+    
+    private boolean succeeded(Future<Void> result) throws InterruptedException {
+        try {
+            result.get();
+            return true;
+        } catch (ExecutionException e) {
+            logger.warn("Cache warm-up failed for a calendar", e.getCause());
+            return false;
+        }
+    }
+    
+    /**
+     * How the calendars to warm are picked, set with {@code doodle.cache.warm-up.selection}.
+     */
+    public enum Selection {
+        // Most slots in the warm-up window: calendars with a lot to show, whether or not anyone looks
+        BUSIEST,
+        // Most meetings booked within the lookback: calendars people recently used
+        RECENTLY_BOOKED
+    }
+}
@@ -0,0 +1,27 @@
+package com.doodle.service.cache;
+
+import com.doodle.domain.Calendar;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Cached form of a {@link Calendar}; the lazy time slot collection is not part of it.
+ */
+public record CalendarSnapshot(UUID id, String name, String userId, ZoneId timezone,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+    
+    public static CalendarSnapshot of(Calendar calendar) {
+        return new CalendarSnapshot(calendar.getId(), calendar.getName(), calendar.getUserId(),
+            calendar.getTimezone(), calendar.getCreatedAt(), calendar.getUpdatedAt());
+    }
+    
+    public Calendar toEntity() {
+        Calendar calendar = new Calendar(name, userId, timezone);
+        calendar.setId(id);
+        calendar.setCreatedAt(createdAt);
+        calendar.setUpdatedAt(updatedAt);
+        return calendar;
+    }
+}
@@ -0,0 +1,35 @@
+package com.doodle.service.cache;
+
+import com.doodle.domain.Meeting;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Cached form of a {@link Meeting}, including its time slot so start and end times
+ * are available without touching the database.
+ */
+public record MeetingSnapshot(UUID id, String title, String description, List<String> participants,
+                              TimeSlotSnapshot timeSlot, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    
+    public MeetingSnapshot {
+        participants = participants != null ? List.copyOf(participants) : List.of();
+    }
+    
+    public static MeetingSnapshot of(Meeting meeting) {
+        TimeSlotSnapshot timeSlot = meeting.getTimeSlot() != null ? TimeSlotSnapshot.of(meeting.getTimeSlot()) : null;
+        return new MeetingSnapshot(meeting.getId(), meeting.getTitle(), meeting.getDescription(),
+            List.copyOf(meeting.getParticipants()), timeSlot, meeting.getCreatedAt(), meeting.getUpdatedAt());
+    }
+    
+    public Meeting toEntity() {
+        Meeting meeting = new Meeting(title, description, timeSlot != null ? timeSlot.toEntity() : null);
+        meeting.setId(id);
+        meeting.setParticipants(new LinkedHashSet<>(participants));
+        meeting.setCreatedAt(createdAt);
+        meeting.setUpdatedAt(updatedAt);
+        return meeting;
+    }
+}
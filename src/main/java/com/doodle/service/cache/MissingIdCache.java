@@ -0,0 +1,82 @@
+package com.doodle.service.cache;
+
+import com.doodle.exception.custom.ResourceNotFoundException;
+import com.doodle.service.index.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Negative cache for IDs that were looked up and not found, so clients polling deleted
+ * or bogus IDs stop reaching the database. Entries live in the short-TTL
+ * {@value #CACHE_NAME} cache and are dropped when an entity with that ID is created.
+ * Hits are counted in {@code doodle.cache.negative.hits}, tagged with the entity cache.
+ */
+@Component
+public class MissingIdCache {
+    
+    public static final String CACHE_NAME = "missingIds";
+    
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> hits = new ConcurrentHashMap<>();
+    
+    @Autowired
+    public MissingIdCache(CacheManager cacheManager, MeterRegistry meterRegistry) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+    }
+    
+    public boolean isMissing(String cacheName, UUID id) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null || cache.get(key(cacheName, id)) == null) {
+            return false;
+        }
+        hits.computeIfAbsent(cacheName, name -> Counter.builder("doodle.cache.negative.hits")
+            .tag("cache", name)
+            .register(meterRegistry)).increment();
+        return true;
+    }
+    
+    /**
+     * Remembers the ID as missing and returns the exception to throw.
+     */
+    public ResourceNotFoundException notFound(String cacheName, UUID id, String message) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.put(key(cacheName, id), Boolean.TRUE);
+        }
+        return new ResourceNotFoundException(message);
+    }
+    
+    public void created(String cacheName, UUID id) {
+        if (id != null) {
+            created(cacheName, List.of(id));
+        }
+    }
+    
+    public void created(String cacheName, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                ids.forEach(id -> cache.evict(key(cacheName, id)));
+            }
+        });
+    }
+    
+    private static String key(String cacheName, UUID id) {
+        return cacheName + ":" + id;
+    }
+}
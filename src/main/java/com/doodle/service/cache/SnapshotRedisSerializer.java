@@ -0,0 +1,266 @@
+package com.doodle.service.cache;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import io.micrometer.core.instrument.DistributionSummary;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Binary codec for cache values. Entities are reduced to their snapshot records and
+ * written field by field, so entries carry no class names and never touch lazy
+ * associations. Values of other types fall back to JDK serialization.
+ *
+ * <p>Bump {@link #SCHEMA_VERSION} whenever the layout or a snapshot changes; it is part
+ * of the cache key prefix, so nodes on different versions never read each other's entries.
+ */
+public class SnapshotRedisSerializer implements RedisSerializer<Object> {
+    
+    public static final int SCHEMA_VERSION = 2;
+    
+    private static final byte CALENDAR = 1;
+    private static final byte TIME_SLOT = 2;
+    private static final byte MEETING = 3;
+    private static final byte LIST = 4;
+    private static final byte JDK = 5;
+    
+    private static final SlotStatus[] STATUSES = SlotStatus.values();
+    
+    private final JdkSerializationRedisSerializer fallback = new JdkSerializationRedisSerializer();
+    private final DistributionSummary entrySize;
+    
+    public SnapshotRedisSerializer() {
+        this(null);
+    }
+    
+    /**
+     * @param entrySize records the encoded size of every written entry, may be null
+     */
+    public SnapshotRedisSerializer(DistributionSummary entrySize) {
+        this.entrySize = entrySize;
+    }
+    
+    public static String keyPrefix(String cacheName) {
+        return "v" + SCHEMA_VERSION + ":" + cacheName + "::";
+    }
+    
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(SCHEMA_VERSION);
+            writeValue(out, value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not encode cache value", e);
+        }
+        if (entrySize != null) {
+            entrySize.record(bytes.size());
+        }
+        return bytes.toByteArray();
+    }
+    
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readUnsignedByte() != SCHEMA_VERSION) {
+                // Written by another version, treat as a miss
+                return null;
+            }
+            return readValue(in);
+        } catch (IOException e) {
+            throw new SerializationException("Could not decode cache value", e);
+        }
+    }
+    
+    private void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value instanceof Calendar calendar) {
+            out.writeByte(CALENDAR);
+            writeCalendar(out, CalendarSnapshot.of(calendar));
+        } else if (value instanceof TimeSlot slot) {
+            out.writeByte(TIME_SLOT);
+            writeTimeSlot(out, TimeSlotSnapshot.of(slot));
+        } else if (value instanceof Meeting meeting) {
+            out.writeByte(MEETING);
+            writeMeeting(out, MeetingSnapshot.of(meeting));
+        } else if (value instanceof List<?> list && list.stream().allMatch(this::isSnapshotType)) {
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else {
+            out.writeByte(JDK);
+            byte[] serialized = fallback.serialize(value);
+            out.writeInt(serialized.length);
+            out.write(serialized);
+        }
+    }
+    
+    private Object readValue(DataInputStream in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+            case CALENDAR:
+                return readCalendar(in).toEntity();
+            case TIME_SLOT:
+                return readTimeSlot(in).toEntity();
+            case MEETING:
+                return readMeeting(in).toEntity();
+            case LIST:
+                int size = in.readInt();
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in));
+                }
+                return list;
+            case JDK:
+                byte[] serialized = new byte[in.readInt()];
+                in.readFully(serialized);
+                return fallback.deserialize(serialized);
+            default:
+                throw new SerializationException("Unknown cache value type: " + type);
+        }
+    }
+    
+    private boolean isSnapshotType(Object value) {
+        return value instanceof Calendar || value instanceof TimeSlot || value instanceof Meeting;
+    }
+    
+    private void writeCalendar(DataOutputStream out, CalendarSnapshot calendar) throws IOException {
+        writeUuid(out, calendar.id());
+        writeString(out, calendar.name());
+        writeString(out, calendar.userId());
+        writeString(out, calendar.timezone() != null ? calendar.timezone().getId() : null);
+        writeDateTime(out, calendar.createdAt());
+        writeDateTime(out, calendar.updatedAt());
+    }
+    
+    private CalendarSnapshot readCalendar(DataInputStream in) throws IOException {
+        UUID id = readUuid(in);
+        String name = readString(in);
+        String userId = readString(in);
+        String timezone = readString(in);
+        return new CalendarSnapshot(id, name, userId, timezone != null ? ZoneId.of(timezone) : null,
+            readDateTime(in), readDateTime(in));
+    }
+    
+    private void writeTimeSlot(DataOutputStream out, TimeSlotSnapshot slot) throws IOException {
+        writeUuid(out, slot.id());
+        out.writeBoolean(slot.calendar() != null);
+        if (slot.calendar() != null) {
+            writeCalendar(out, slot.calendar());
+        }
+        writeDateTime(out, slot.startTime());
+        writeDateTime(out, slot.endTime());
+        out.writeByte(slot.status() != null ? slot.status().ordinal() : -1);
+        writeUuid(out, slot.recurringAvailabilityId());
+        writeDateTime(out, slot.createdAt());
+        writeDateTime(out, slot.updatedAt());
+    }
+    
+    private TimeSlotSnapshot readTimeSlot(DataInputStream in) throws IOException {
+        UUID id = readUuid(in);
+        CalendarSnapshot calendar = in.readBoolean() ? readCalendar(in) : null;
+        LocalDateTime startTime = readDateTime(in);
+        LocalDateTime endTime = readDateTime(in);
+        byte status = in.readByte();
+        return new TimeSlotSnapshot(id, calendar, startTime, endTime, status >= 0 ? STATUSES[status] : null,
+            readUuid(in), readDateTime(in), readDateTime(in));
+    }
+    
+    private void writeMeeting(DataOutputStream out, MeetingSnapshot meeting) throws IOException {
+        writeUuid(out, meeting.id());
+        writeString(out, meeting.title());
+        writeString(out, meeting.description());
+        out.writeInt(meeting.participants().size());
+        for (String participant : meeting.participants()) {
+            writeString(out, participant);
+        }
+        out.writeBoolean(meeting.timeSlot() != null);
+        if (meeting.timeSlot() != null) {
+            writeTimeSlot(out, meeting.timeSlot());
+        }
+        writeDateTime(out, meeting.createdAt());
+        writeDateTime(out, meeting.updatedAt());
+    }
+    
+    private MeetingSnapshot readMeeting(DataInputStream in) throws IOException {
+        UUID id = readUuid(in);
+        String title = readString(in);
+        String description = readString(in);
+        int participantCount = in.readInt();
+        List<String> participants = new ArrayList<>(participantCount);
+        for (int i = 0; i < participantCount; i++) {
+            participants.add(readString(in));
+        }
+        TimeSlotSnapshot timeSlot = in.readBoolean() ? readTimeSlot(in) : null;
+        return new MeetingSnapshot(id, title, description, participants, timeSlot,
+            readDateTime(in), readDateTime(in));
+    }
+    
+    private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.getMostSignificantBits());
+            out.writeLong(value.getLeastSignificantBits());
+        }
+    }
+    
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new UUID(in.readLong(), in.readLong()) : null;
+    }
+    
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+    
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+    
+    // Epoch seconds plus nanos; LocalDateTime carries no zone, UTC is only the reference point
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+    
+    private static LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return in.readBoolean() ? LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC) : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.doodle.service.cache;
+
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Cached form of a {@link TimeSlot}. The calendar is copied along, since it is rendered
+ * with the slot; a rename shows on cached slots once their entries expire. The meeting
+ * is left out.
+ */
+public record TimeSlotSnapshot(UUID id, CalendarSnapshot calendar, LocalDateTime startTime, LocalDateTime endTime,
+                               SlotStatus status, UUID recurringAvailabilityId,
+                               LocalDateTime createdAt, LocalDateTime updatedAt) {
+    
+    public static TimeSlotSnapshot of(TimeSlot slot) {
+        CalendarSnapshot calendar = slot.getCalendar() != null ? CalendarSnapshot.of(slot.getCalendar()) : null;
+        return new TimeSlotSnapshot(slot.getId(), calendar, slot.getStartTime(), slot.getEndTime(),
+            slot.getStatus(), slot.getRecurringAvailabilityId(), slot.getCreatedAt(), slot.getUpdatedAt());
+    }
+    
+    public TimeSlot toEntity() {
+        TimeSlot slot = new TimeSlot(calendar != null ? calendar.toEntity() : null, startTime, endTime, status);
+        slot.setId(id);
+        slot.setRecurringAvailabilityId(recurringAvailabilityId);
+        slot.setCreatedAt(createdAt);
+        slot.setUpdatedAt(updatedAt);
+        return slot;
+    }
+}
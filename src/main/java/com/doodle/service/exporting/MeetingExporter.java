@@ -0,0 +1,107 @@
+package com.doodle.service.exporting;
+
+import com.doodle.domain.Meeting;
+import com.doodle.repository.MeetingRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams the meetings of a time range as NDJSON, one meeting per line, ordered by start
+ * time. Meetings are read through a forward-only cursor and written in windows of
+ * {@link Meeting#PARTICIPANT_BATCH_SIZE}: the window's participants load with one batch
+ * query, then the window is written, flushed and cleared from the persistence context.
+ * Heap stays bounded by the window whatever the size of the range.
+ *
+ * <p>The cursor pins one pooled connection and an open read-only transaction for the whole
+ * download, which lasts as long as the client takes to read it. The range is therefore
+ * capped at {@code doodle.export.max-range-days} and the transaction at
+ * {@code doodle.export.timeout-seconds}, so a slow or huge export cannot hold a connection
+ * indefinitely.
+ */
+@Component
+public class MeetingExporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingExporter.class);
+
+    private static final int WINDOW_SIZE = Meeting.PARTICIPANT_BATCH_SIZE;
+
+    private final MeetingRepository meetingRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter meetingWriter;
+    private final int maxRangeDays;
+
+    @Autowired
+    public MeetingExporter(MeetingRepository meetingRepository, EntityManager entityManager,
+                           ObjectMapper objectMapper,
+                           @Value("${doodle.export.max-range-days:366}") int maxRangeDays) {
+        this.meetingRepository = meetingRepository;
+        this.entityManager = entityManager;
+        this.meetingWriter = objectMapper.writerFor(Meeting.class);
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    // The cursor holds its connection and transaction until the last line is written
+    @Transactional(readOnly = true, timeoutString = "${doodle.export.timeout-seconds:600}")
+    public long exportMeetings(LocalDateTime startTime, LocalDateTime endTime, OutputStream output) throws IOException {
+        if (startTime == null || endTime == null || !startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+        if (Duration.between(startTime, endTime).toDays() >= maxRangeDays) {
+            throw new IllegalArgumentException("Export range must not exceed " + maxRangeDays + " days");
+        }
+
+        long exported = 0;
+        List<Meeting> window = new ArrayList<>(WINDOW_SIZE);
+        try (Stream<Meeting> meetings = meetingRepository.streamByTimeRange(startTime, endTime)) {
+            Iterator<Meeting> iterator = meetings.iterator();
+            while (iterator.hasNext()) {
+                window.add(iterator.next());
+                if (window.size() == WINDOW_SIZE) {
+                    exported += write(window, output);
+                }
+            }
+        }
+        exported += write(window, output);
+
+        logger.info("Exported {} meetings between {} and {}", exported, startTime, endTime);
+        return exported;
+    }
+
+    private int write(List<Meeting> window, OutputStream output) throws IOException {
+        if (window.isEmpty()) {
+            return 0;
+        }
+        // Initializing the first collection batch-loads the participants of the whole window
+        for (Meeting meeting : window) {
+            Hibernate.initialize(meeting.getParticipants());
+        }
+        for (Meeting meeting : window) {
+            output.write(meetingWriter.writeValueAsBytes(meeting));
+            output.write('\n');
+        }
+        output.flush();
+
+        int written = window.size();
+        window.clear();
+        // Read-only session: nothing to flush, so clearing only detaches what was written
+        entityManager.clear();
+        return written;
+    }
+}
@@ -0,0 +1,110 @@
+package com.doodle.service.impl;
+
+import com.doodle.domain.TimeWindow;
+import com.doodle.repository.TimeSlotRepository;
+import com.doodle.service.AvailabilityService;
+import com.doodle.service.TimeSlotService;
+import com.doodle.service.availability.FreeTimeCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+@Transactional(readOnly = true)
+public class AvailabilityServiceImpl implements AvailabilityService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityServiceImpl.class);
+    
+    private final TimeSlotRepository timeSlotRepository;
+    private final TimeSlotService timeSlotService;
+    private final int maxParticipants;
+    private final int maxRangeDays;
+    private final int minSlotDurationMinutes;
+    
+    @Autowired
+    public AvailabilityServiceImpl(
+            TimeSlotRepository timeSlotRepository,
+            TimeSlotService timeSlotService,
+            @Value("${doodle.availability.max-participants:200}") int maxParticipants,
+            @Value("${doodle.availability.max-range-days:62}") int maxRangeDays,
+            @Value("${doodle.scheduling.min-slot-duration-minutes:15}") int minSlotDurationMinutes) {
+        this.timeSlotRepository = timeSlotRepository;
+        this.timeSlotService = timeSlotService;
+        this.maxParticipants = maxParticipants;
+        this.maxRangeDays = maxRangeDays;
+        this.minSlotDurationMinutes = minSlotDurationMinutes;
+    }
+    
+    @Override
+    public List<TimeWindow> findCommonFreeTime(
+            List<String> userIds, LocalDateTime startTime, LocalDateTime endTime, int minDurationMinutes) {
+        
+        logger.debug("Computing common free time for {} users between {} and {}", 
+            userIds.size(), startTime, endTime);
+        
+        validateRequest(userIds, startTime, endTime, minDurationMinutes);
+        
+        // Rows arrive grouped by user and sorted by start time within each user
+        Map<String, List<TimeWindow>> busyByUser = new LinkedHashMap<>();
+        for (Object[] row : timeSlotRepository.findBusyIntervalsByUsers(userIds, startTime, endTime)) {
+            busyByUser.computeIfAbsent((String) row[0], userId -> new ArrayList<>())
+                .add(new TimeWindow((LocalDateTime) row[1], (LocalDateTime) row[2]));
+        }
+        
+        List<TimeWindow> freeWindows = FreeTimeCalculator.commonFreeWindows(
+            busyByUser.values(), startTime, endTime, Duration.ofMinutes(minDurationMinutes));
+        
+        logger.debug("Found {} common free windows for {} users", freeWindows.size(), userIds.size());
+        return freeWindows;
+    }
+    
+    @Override
+    public List<TimeWindow> findCommonAvailability(
+            List<UUID> calendarIds, LocalDateTime startTime, LocalDateTime endTime) {
+        
+        logger.debug("Computing common availability for {} calendars between {} and {}", 
+            calendarIds.size(), startTime, endTime);
+        
+        if (calendarIds.isEmpty() || calendarIds.size() > maxParticipants) {
+            throw new IllegalArgumentException("Number of calendars must be between 1 and " + maxParticipants);
+        }
+        validateRange(startTime, endTime);
+        
+        return timeSlotService.getCommonAvailableWindows(calendarIds.stream().distinct().toList(), startTime, endTime);
+    }
+    
+    private void validateRequest(List<String> userIds, LocalDateTime startTime, LocalDateTime endTime,
+                                 int minDurationMinutes) {
+        if (userIds.isEmpty() || userIds.size() > maxParticipants) {
+            throw new IllegalArgumentException("Number of users must be between 1 and " + maxParticipants);
+        }
+        
+        validateRange(startTime, endTime);
+        
+        if (minDurationMinutes < minSlotDurationMinutes) {
+            throw new IllegalArgumentException(
+                "Minimum duration must be at least " + minSlotDurationMinutes + " minutes");
+        }
+    }
+    
+    private void validateRange(LocalDateTime startTime, LocalDateTime endTime) {
+        if (!startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+        
+        if (Duration.between(startTime, endTime).toDays() >= maxRangeDays) {
+            throw new IllegalArgumentException("Time range must not exceed " + maxRangeDays + " days");
+        }
+    }
+}
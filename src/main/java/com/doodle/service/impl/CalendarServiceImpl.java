@@ -4,6 +4,13 @@ import com.doodle.domain.Calendar;
 import com.doodle.exception.custom.ResourceNotFoundException;
 import com.doodle.repository.CalendarRepository;
 import com.doodle.service.CalendarService;
+import com.doodle.service.cache.CacheVersions;
+import com.doodle.service.cache.MissingIdCache;
+import com.doodle.service.index.QuarterHourAvailabilityIndex;
+import com.doodle.service.index.SlotOverlapIndex;
+import com.doodle.service.index.UpcomingAgendaIndex;
+import com.doodle.service.search.MeetingTitleSearch;
+import com.doodle.service.stats.ParticipantStatsCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -23,11 +30,30 @@ public class CalendarServiceImpl implements CalendarService {
     
     private static final Logger logger = LoggerFactory.getLogger(CalendarServiceImpl.class);
     
+    private static final String CALENDARS_CACHE = "calendars";
+    
     private final CalendarRepository calendarRepository;
+    private final SlotOverlapIndex slotOverlapIndex;
+    private final QuarterHourAvailabilityIndex availabilityIndex;
+    private final CacheVersions cacheVersions;
+    private final MissingIdCache missingIds;
+    private final UpcomingAgendaIndex agendaIndex;
+    private final MeetingTitleSearch titleSearch;
+    private final ParticipantStatsCounter participantStats;
     
     @Autowired
-    public CalendarServiceImpl(CalendarRepository calendarRepository) {
+    public CalendarServiceImpl(CalendarRepository calendarRepository, SlotOverlapIndex slotOverlapIndex,
+                               QuarterHourAvailabilityIndex availabilityIndex, CacheVersions cacheVersions,
+                               MissingIdCache missingIds, UpcomingAgendaIndex agendaIndex,
+                               MeetingTitleSearch titleSearch, ParticipantStatsCounter participantStats) {
         this.calendarRepository = calendarRepository;
+        this.slotOverlapIndex = slotOverlapIndex;
+        this.availabilityIndex = availabilityIndex;
+        this.cacheVersions = cacheVersions;
+        this.missingIds = missingIds;
+        this.agendaIndex = agendaIndex;
+        this.titleSearch = titleSearch;
+        this.participantStats = participantStats;
     }
     
     @Override
@@ -39,6 +65,7 @@ public class CalendarServiceImpl implements CalendarService {
         }
         
         Calendar savedCalendar = calendarRepository.save(calendar);
+        missingIds.created(CALENDARS_CACHE, savedCalendar.getId());
         logger.info("Created calendar with ID: {} for user: {}", savedCalendar.getId(), savedCalendar.getUserId());
         
         return savedCalendar;
@@ -49,8 +76,11 @@ public class CalendarServiceImpl implements CalendarService {
     @Transactional(readOnly = true)
     public Calendar getCalendarById(UUID id) {
         logger.debug("Fetching calendar with ID: {}", id);
+        if (missingIds.isMissing(CALENDARS_CACHE, id)) {
+            throw new ResourceNotFoundException("Calendar not found with ID: " + id);
+        }
         return calendarRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Calendar not found with ID: " + id));
+            .orElseThrow(() -> missingIds.notFound(CALENDARS_CACHE, id, "Calendar not found with ID: " + id));
     }
     
     @Override
@@ -103,7 +133,14 @@ public class CalendarServiceImpl implements CalendarService {
         logger.debug("Deleting calendar with ID: {}", id);
         
         Calendar calendar = getCalendarById(id);
+        participantStats.calendarDeleted(id);
         calendarRepository.delete(calendar);
+        slotOverlapIndex.invalidateCalendar(id);
+        availabilityIndex.invalidateCalendar(id);
+        cacheVersions.bump("availableSlots", id);
+        // Meetings of the calendar went with it; participants are not known here
+        agendaIndex.invalidateAll();
+        titleSearch.invalidate();
         
         logger.info("Deleted calendar with ID: {}", id);
     }
@@ -1,25 +1,51 @@
 package com.doodle.service.impl;
 
+import com.doodle.domain.AgendaItem;
+import com.doodle.domain.CursorPage;
 import com.doodle.domain.Meeting;
+import com.doodle.domain.MeetingImportRecord;
+import com.doodle.domain.MeetingImportResult;
+import com.doodle.domain.ParticipantConflict;
 import com.doodle.domain.TimeSlot;
 import com.doodle.domain.enums.SlotStatus;
+import com.doodle.exception.custom.ParticipantConflictException;
 import com.doodle.exception.custom.ResourceNotFoundException;
 import com.doodle.exception.custom.SlotNotAvailableException;
 import com.doodle.repository.MeetingRepository;
+import com.doodle.repository.ParticipantMeetingRepository;
 import com.doodle.service.MeetingService;
 import com.doodle.service.TimeSlotService;
+import com.doodle.service.cache.MissingIdCache;
+import com.doodle.service.index.UpcomingAgendaIndex;
+import com.doodle.service.pagination.PageCursor;
+import com.doodle.service.search.MeetingTitleSearch;
+import com.doodle.service.stats.ParticipantStatsCounter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -28,44 +54,144 @@ public class MeetingServiceImpl implements MeetingService {
     
     private static final Logger logger = LoggerFactory.getLogger(MeetingServiceImpl.class);
     
+    private static final String MEETINGS_CACHE = "meetings";
+    
+    // Shorter queries have no trigram in common with a word they appear inside
+    private static final int MIN_SEARCH_LENGTH = 3;
+    
+    // Bounds the IN list of a single conflict query
+    private static final int CONFLICT_QUERY_CHUNK = 1000;
+    
     private final MeetingRepository meetingRepository;
+    private final ParticipantMeetingRepository participantMeetingRepository;
     private final TimeSlotService timeSlotService;
+    private final MissingIdCache missingIds;
+    private final UpcomingAgendaIndex agendaIndex;
+    private final MeetingTitleSearch titleSearch;
+    private final ParticipantStatsCounter participantStats;
+    private final int maxBulkParticipants;
     
     @Autowired
-    public MeetingServiceImpl(MeetingRepository meetingRepository, TimeSlotService timeSlotService) {
+    public MeetingServiceImpl(MeetingRepository meetingRepository,
+                              ParticipantMeetingRepository participantMeetingRepository,
+                              TimeSlotService timeSlotService, MissingIdCache missingIds,
+                              UpcomingAgendaIndex agendaIndex, MeetingTitleSearch titleSearch,
+                              ParticipantStatsCounter participantStats,
+                              @Value("${doodle.scheduling.max-bulk-participants:1000}") int maxBulkParticipants) {
         this.meetingRepository = meetingRepository;
+        this.participantMeetingRepository = participantMeetingRepository;
         this.timeSlotService = timeSlotService;
+        this.missingIds = missingIds;
+        this.agendaIndex = agendaIndex;
+        this.titleSearch = titleSearch;
+        this.participantStats = participantStats;
+        this.maxBulkParticipants = maxBulkParticipants;
     }
     
     @Override
     public Meeting scheduleMeeting(Meeting meeting) {
+        return scheduleMeeting(meeting, false);
+    }
+    
+    @Override
+    public Meeting scheduleMeeting(Meeting meeting, boolean allowParticipantConflicts) {
         logger.debug("Scheduling meeting: {} for slot: {}", meeting.getTitle(), meeting.getTimeSlot().getId());
         
         UUID slotId = meeting.getTimeSlot().getId();
-        TimeSlot timeSlot = timeSlotService.getTimeSlotById(slotId);
         
-        // Verify slot is available
-        if (!timeSlot.isAvailable()) {
-            throw new SlotNotAvailableException("Time slot is not available for booking");
+        // Claim the slot atomically; losers of a race get SlotNotAvailableException
+        TimeSlot timeSlot = timeSlotService.reserveSlot(slotId);
+        meeting.setTimeSlot(timeSlot);
+        
+        // Throwing rolls back the reservation as well
+        if (!allowParticipantConflicts) {
+            List<ParticipantConflict> conflicts = findParticipantConflicts(
+                meeting.getParticipants(), timeSlot.getStartTime(), timeSlot.getEndTime());
+            if (!conflicts.isEmpty()) {
+                throw new ParticipantConflictException(conflicts.size() +
+                    " participant conflict(s) with existing meetings", conflicts);
+            }
         }
         
-        // Check if slot already has a meeting
-        if (timeSlot.getMeeting() != null) {
-            throw new SlotNotAvailableException("Time slot already has a scheduled meeting");
+        // Flush now so a duplicate meeting for the slot surfaces here rather than at commit
+        Meeting savedMeeting;
+        try {
+            savedMeeting = meetingRepository.saveAndFlush(meeting);
+        } catch (DataIntegrityViolationException e) {
+            throw new SlotNotAvailableException("Time slot already has a scheduled meeting", e);
         }
+        participantMeetingRepository.indexMeeting(savedMeeting.getId());
+        participantStats.increment(savedMeeting.getParticipants());
+        missingIds.created(MEETINGS_CACHE, savedMeeting.getId());
+        agendaIndex.meetingSaved(savedMeeting);
+        titleSearch.meetingSaved(savedMeeting.getId(), savedMeeting.getTitle());
         
-        // Set the complete time slot object
-        meeting.setTimeSlot(timeSlot);
+        logger.info("Scheduled meeting with ID: {} for slot: {}", savedMeeting.getId(), slotId);
+        
+        return savedMeeting;
+    }
+    
+    @Override
+    public List<MeetingImportResult> importMeetings(List<MeetingImportRecord> records) {
+        logger.debug("Importing {} meetings", records.size());
         
-        // Save the meeting
-        Meeting savedMeeting = meetingRepository.save(meeting);
+        MeetingImportResult[] results = new MeetingImportResult[records.size()];
+        Map<UUID, Integer> recordBySlot = new LinkedHashMap<>();
+        for (int i = 0; i < records.size(); i++) {
+            MeetingImportRecord record = records.get(i);
+            try {
+                validateImportRecord(record);
+            } catch (IllegalArgumentException e) {
+                results[i] = MeetingImportResult.failed(record.getLine(), e.getMessage());
+                continue;
+            }
+            if (recordBySlot.putIfAbsent(record.getSlotId(), i) != null) {
+                results[i] = MeetingImportResult.failed(record.getLine(), "Time slot is booked by an earlier line");
+            }
+        }
         
-        // Mark slot as busy
-        timeSlotService.markSlotAsBusy(slotId);
+        // Imported history is taken as is, so participant conflicts are not checked here
+        Map<UUID, TimeSlot> slots = timeSlotService.reserveSlots(recordBySlot.keySet());
+        List<Meeting> meetings = new ArrayList<>();
+        List<Integer> meetingRecords = new ArrayList<>();
+        for (Map.Entry<UUID, Integer> entry : recordBySlot.entrySet()) {
+            MeetingImportRecord record = records.get(entry.getValue());
+            TimeSlot slot = slots.get(entry.getKey());
+            if (slot == null) {
+                results[entry.getValue()] = MeetingImportResult.failed(record.getLine(),
+                    "Time slot not found or not available for booking");
+                continue;
+            }
+            Meeting meeting = new Meeting(record.getTitle(), record.getDescription(), slot);
+            meeting.replaceParticipants(record.getParticipants());
+            meetings.add(meeting);
+            meetingRecords.add(entry.getValue());
+        }
         
-        logger.info("Scheduled meeting with ID: {} for slot: {}", savedMeeting.getId(), slotId);
+        // Meetings and their meeting_participants rows go out as JDBC batches (hibernate.jdbc.batch_size)
+        List<Meeting> savedMeetings = meetingRepository.saveAll(meetings);
+        List<UUID> meetingIds = new ArrayList<>();
+        Map<String, Long> meetingCounts = new HashMap<>();
+        for (int i = 0; i < savedMeetings.size(); i++) {
+            Meeting savedMeeting = savedMeetings.get(i);
+            int index = meetingRecords.get(i);
+            meetingIds.add(savedMeeting.getId());
+            for (String participantId : savedMeeting.getParticipants()) {
+                meetingCounts.merge(participantId, 1L, Long::sum);
+            }
+            agendaIndex.meetingSaved(savedMeeting);
+            titleSearch.meetingSaved(savedMeeting.getId(), savedMeeting.getTitle());
+            results[index] = MeetingImportResult.created(records.get(index).getLine(), savedMeeting.getId());
+        }
+        if (!meetingIds.isEmpty()) {
+            participantMeetingRepository.indexMeetings(meetingIds);
+            participantStats.apply(meetingCounts);
+            missingIds.created(MEETINGS_CACHE, meetingIds);
+        }
         
-        return savedMeeting;
+        logger.info("Imported {} of {} meetings", meetingIds.size(), records.size());
+        
+        return Arrays.asList(results);
     }
     
     @Override
@@ -73,8 +199,11 @@ public class MeetingServiceImpl implements MeetingService {
     @Transactional(readOnly = true)
     public Meeting getMeetingById(UUID id) {
         logger.debug("Fetching meeting with ID: {}", id);
-        return meetingRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Meeting not found with ID: " + id));
+        if (missingIds.isMissing(MEETINGS_CACHE, id)) {
+            throw new ResourceNotFoundException("Meeting not found with ID: " + id);
+        }
+        return meetingRepository.findWithTimeSlotById(id)
+            .orElseThrow(() -> missingIds.notFound(MEETINGS_CACHE, id, "Meeting not found with ID: " + id));
     }
     
     @Override
@@ -84,6 +213,22 @@ public class MeetingServiceImpl implements MeetingService {
         return meetingRepository.findByParticipant(participantId, pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Meeting> getMeetingsByParticipant(String participantId, String cursor, int limit) {
+        logger.debug("Fetching meetings for participant: {} after cursor: {}", participantId, cursor);
+        
+        PageCursor.validateLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        PageRequest slice = PageRequest.of(0, limit + 1);
+        
+        List<Meeting> meetings = after == null
+            ? meetingRepository.findSliceByParticipant(participantId, slice)
+            : meetingRepository.findSliceByParticipantAfter(participantId, after.getStartTime(), after.getId(), slice);
+        
+        return PageCursor.toPage(meetings, limit, meeting -> meeting.getTimeSlot().getStartTime(), Meeting::getId);
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public List<Meeting> getMeetingsByTimeRange(LocalDateTime startTime, LocalDateTime endTime) {
@@ -109,19 +254,78 @@ public class MeetingServiceImpl implements MeetingService {
         return meetingRepository.findByCalendarUserId(userId, pageable);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Meeting> getMeetingsByCalendarUserId(String userId, String cursor, int limit) {
+        logger.debug("Fetching meetings for calendar user: {} after cursor: {}", userId, cursor);
+        
+        PageCursor.validateLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        PageRequest slice = PageRequest.of(0, limit + 1);
+        
+        List<Meeting> meetings = after == null
+            ? meetingRepository.findSliceByCalendarUserId(userId, slice)
+            : meetingRepository.findSliceByCalendarUserIdAfter(userId, after.getStartTime(), after.getId(), slice);
+        
+        return PageCursor.toPage(meetings, limit, meeting -> meeting.getTimeSlot().getStartTime(), Meeting::getId);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<ParticipantConflict> findParticipantConflicts(Collection<String> participantIds,
+                                                              LocalDateTime startTime, LocalDateTime endTime) {
+        if (startTime == null || endTime == null || !startTime.isBefore(endTime)) {
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+        if (participantIds == null || participantIds.isEmpty()) {
+            return List.of();
+        }
+        logger.debug("Checking {} participants for conflicts between {} and {}", participantIds.size(),
+            startTime, endTime);
+        
+        List<String> ids = List.copyOf(new LinkedHashSet<>(participantIds));
+        List<ParticipantConflict> conflicts = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += CONFLICT_QUERY_CHUNK) {
+            List<String> chunk = ids.subList(from, Math.min(from + CONFLICT_QUERY_CHUNK, ids.size()));
+            conflicts.addAll(participantMeetingRepository.findConflicts(chunk, startTime, endTime));
+        }
+        return conflicts;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<AgendaItem> getUpcomingAgenda(String userId, int limit) {
+        logger.debug("Fetching upcoming agenda for user: {} with limit: {}", userId, limit);
+        
+        if (limit < 1 || limit > agendaIndex.getSize()) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + agendaIndex.getSize());
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return agendaIndex.getAgenda(userId, now, limit)
+            .orElseGet(() -> meetingRepository.findUpcomingAgenda(userId, now, PageRequest.of(0, limit)));
+    }
+    
     @Override
     @CacheEvict(value = "meetings", key = "#id")
     public Meeting updateMeeting(UUID id, Meeting meeting) {
         logger.debug("Updating meeting with ID: {}", id);
         
         Meeting existingMeeting = getMeetingById(id);
+        Set<String> previousAttendees = UpcomingAgendaIndex.attendees(existingMeeting);
+        Set<String> previousParticipants = new HashSet<>(existingMeeting.getParticipants());
         
         // Update meeting details (not time slot)
         existingMeeting.setTitle(meeting.getTitle());
         existingMeeting.setDescription(meeting.getDescription());
-        existingMeeting.setParticipants(meeting.getParticipants());
+        existingMeeting.replaceParticipants(meeting.getParticipants());
         
         Meeting updatedMeeting = meetingRepository.save(existingMeeting);
+        updateParticipantIndex(id, previousParticipants, new HashSet<>(updatedMeeting.getParticipants()));
+        Set<String> droppedAttendees = new HashSet<>(previousAttendees);
+        droppedAttendees.removeAll(UpcomingAgendaIndex.attendees(updatedMeeting));
+        agendaIndex.meetingRemoved(droppedAttendees, id);
+        agendaIndex.meetingSaved(updatedMeeting);
+        titleSearch.meetingSaved(id, updatedMeeting.getTitle());
         logger.info("Updated meeting with ID: {}", updatedMeeting.getId());
         
         return updatedMeeting;
@@ -135,8 +339,12 @@ public class MeetingServiceImpl implements MeetingService {
         Meeting meeting = getMeetingById(id);
         UUID slotId = meeting.getTimeSlot().getId();
         
-        // Delete the meeting
+        // Delete the meeting; unlink it first so saving the slot does not cascade to it
+        meeting.getTimeSlot().setMeeting(null);
         meetingRepository.delete(meeting);
+        participantStats.decrement(meeting.getParticipants());
+        agendaIndex.meetingRemoved(meeting);
+        titleSearch.meetingDeleted(id);
         
         // Mark slot as available
         timeSlotService.markSlotAsAvailable(slotId);
@@ -149,9 +357,7 @@ public class MeetingServiceImpl implements MeetingService {
     public void addParticipantToMeeting(UUID meetingId, String participantId) {
         logger.debug("Adding participant {} to meeting {}", participantId, meetingId);
         
-        Meeting meeting = getMeetingById(meetingId);
-        meeting.addParticipant(participantId);
-        meetingRepository.save(meeting);
+        addParticipants(getMeetingById(meetingId), List.of(participantId));
         
         logger.info("Added participant {} to meeting {}", participantId, meetingId);
     }
@@ -161,17 +367,41 @@ public class MeetingServiceImpl implements MeetingService {
     public void removeParticipantFromMeeting(UUID meetingId, String participantId) {
         logger.debug("Removing participant {} from meeting {}", participantId, meetingId);
         
-        Meeting meeting = getMeetingById(meetingId);
-        meeting.removeParticipant(participantId);
-        meetingRepository.save(meeting);
+        removeParticipants(getMeetingById(meetingId), List.of(participantId));
         
         logger.info("Removed participant {} from meeting {}", participantId, meetingId);
     }
     
+    @Override
+    @CacheEvict(value = "meetings", key = "#meetingId")
+    public Meeting addParticipantsToMeeting(UUID meetingId, List<String> participantIds) {
+        logger.debug("Adding {} participants to meeting {}", participantIds.size(), meetingId);
+        
+        validateBulkParticipants(participantIds);
+        Meeting meeting = getMeetingById(meetingId);
+        int added = addParticipants(meeting, participantIds);
+        
+        logger.info("Added {} of {} participants to meeting {}", added, participantIds.size(), meetingId);
+        return meeting;
+    }
+    
+    @Override
+    @CacheEvict(value = "meetings", key = "#meetingId")
+    public Meeting removeParticipantsFromMeeting(UUID meetingId, List<String> participantIds) {
+        logger.debug("Removing {} participants from meeting {}", participantIds.size(), meetingId);
+        
+        validateBulkParticipants(participantIds);
+        Meeting meeting = getMeetingById(meetingId);
+        int removed = removeParticipants(meeting, participantIds);
+        
+        logger.info("Removed {} of {} participants from meeting {}", removed, participantIds.size(), meetingId);
+        return meeting;
+    }
+    
     @Override
     @Transactional(readOnly = true)
     public long countMeetingsByParticipant(String participantId) {
-        return meetingRepository.countByParticipant(participantId);
+        return participantStats.getMeetingCount(participantId);
     }
     
     @Override
@@ -180,4 +410,111 @@ public class MeetingServiceImpl implements MeetingService {
         logger.debug("Searching meetings with title containing: {}", title);
         return meetingRepository.findByTitleContaining(title);
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Meeting> searchMeetings(String query, Pageable pageable) {
+        logger.debug("Searching meetings matching: {}", query);
+        
+        String trimmed = query != null ? query.trim() : "";
+        if (trimmed.length() < MIN_SEARCH_LENGTH) {
+            throw new IllegalArgumentException("Search query must be at least " + MIN_SEARCH_LENGTH + " characters");
+        }
+        
+        Page<UUID> ids = titleSearch.search(trimmed, pageable);
+        Map<UUID, Meeting> byId = new HashMap<>();
+        for (Meeting meeting : meetingRepository.findByIdIn(ids.getContent())) {
+            byId.put(meeting.getId(), meeting);
+        }
+        // Keep the ranking of the search; IDs deleted since are dropped
+        List<Meeting> meetings = ids.getContent().stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .toList();
+        return new PageImpl<>(meetings, pageable, ids.getTotalElements());
+    }
+    
+    private int addParticipants(Meeting meeting, Collection<String> participantIds) {
+        Set<String> added = new LinkedHashSet<>();
+        for (String participantId : participantIds) {
+            if (meeting.addParticipant(participantId)) {
+                added.add(participantId);
+            }
+        }
+        if (added.isEmpty()) {
+            return 0;
+        }
+        
+        // One row insert per new participant, batched, plus one statement for the index
+        meetingRepository.save(meeting);
+        participantMeetingRepository.indexParticipants(meeting.getId(), added);
+        participantStats.increment(added);
+        agendaIndex.meetingSaved(added, UpcomingAgendaIndex.toItem(meeting));
+        return added.size();
+    }
+    
+    private int removeParticipants(Meeting meeting, Collection<String> participantIds) {
+        Set<String> removed = new LinkedHashSet<>();
+        for (String participantId : participantIds) {
+            if (meeting.removeParticipant(participantId)) {
+                removed.add(participantId);
+            }
+        }
+        if (removed.isEmpty()) {
+            return 0;
+        }
+        
+        meetingRepository.save(meeting);
+        participantMeetingRepository.deleteParticipants(meeting.getId(), removed);
+        participantStats.decrement(removed);
+        // The calendar owner keeps the meeting on their agenda
+        Set<String> leavingAgenda = new LinkedHashSet<>(removed);
+        leavingAgenda.removeAll(UpcomingAgendaIndex.attendees(meeting));
+        agendaIndex.meetingRemoved(leavingAgenda, meeting.getId());
+        return removed.size();
+    }
+    
+    private void validateImportRecord(MeetingImportRecord record) {
+        if (record.getSlotId() == null) {
+            throw new IllegalArgumentException("Slot ID is required");
+        }
+        if (record.getTitle() == null || record.getTitle().isBlank()) {
+            throw new IllegalArgumentException("Title is required");
+        }
+        validateBulkParticipants(record.getParticipants());
+    }
+    
+    private void validateBulkParticipants(List<String> participantIds) {
+        if (participantIds == null || participantIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one participant ID is required");
+        }
+        if (participantIds.size() > maxBulkParticipants) {
+            throw new IllegalArgumentException("Cannot change more than " + maxBulkParticipants +
+                " participants in one request");
+        }
+        for (String participantId : participantIds) {
+            if (participantId == null || participantId.isBlank()) {
+                throw new IllegalArgumentException("Participant IDs must not be blank");
+            }
+        }
+    }
+    
+    // Only the participants that changed are written to the participant index and counters
+    private void updateParticipantIndex(UUID meetingId, Set<String> previous, Set<String> current) {
+        Set<String> removed = new HashSet<>(previous);
+        removed.removeAll(current);
+        Set<String> added = new HashSet<>(current);
+        added.removeAll(previous);
+        
+        if (!removed.isEmpty()) {
+            participantMeetingRepository.deleteParticipants(meetingId, removed);
+        }
+        if (!added.isEmpty()) {
+            participantMeetingRepository.indexParticipants(meetingId, added);
+        }
+        Map<String, Long> deltas = new HashMap<>();
+        removed.forEach(participantId -> deltas.put(participantId, -1L));
+        added.forEach(participantId -> deltas.put(participantId, 1L));
+        participantStats.apply(deltas);
+    }
 }
\ No newline at end of file
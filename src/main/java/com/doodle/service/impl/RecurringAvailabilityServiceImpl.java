@@ -0,0 +1,154 @@
+package com.doodle.service.impl;
+
+import com.doodle.domain.RecurringAvailability;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.TimeWindow;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.exception.custom.ResourceNotFoundException;
+import com.doodle.repository.RecurringAvailabilityRepository;
+import com.doodle.service.CalendarService;
+import com.doodle.service.RecurringAvailabilityService;
+import com.doodle.service.availability.RecurrenceExpander;
+import com.doodle.service.cache.CacheVersions;
+import com.doodle.service.index.QuarterHourAvailabilityIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class RecurringAvailabilityServiceImpl implements RecurringAvailabilityService {
+    
+    private static final Logger logger = LoggerFactory.getLogger(RecurringAvailabilityServiceImpl.class);
+    
+    private final RecurringAvailabilityRepository recurringAvailabilityRepository;
+    private final CalendarService calendarService;
+    private final QuarterHourAvailabilityIndex availabilityIndex;
+    private final CacheVersions cacheVersions;
+    
+    @Autowired
+    public RecurringAvailabilityServiceImpl(RecurringAvailabilityRepository recurringAvailabilityRepository,
+                                            CalendarService calendarService,
+                                            QuarterHourAvailabilityIndex availabilityIndex,
+                                            CacheVersions cacheVersions) {
+        this.recurringAvailabilityRepository = recurringAvailabilityRepository;
+        this.calendarService = calendarService;
+        this.availabilityIndex = availabilityIndex;
+        this.cacheVersions = cacheVersions;
+    }
+    
+    @Override
+    public RecurringAvailability createRule(UUID calendarId, RecurringAvailability rule) {
+        logger.debug("Creating recurring availability for calendar: {}", calendarId);
+        
+        rule.setCalendar(calendarService.getCalendarById(calendarId));
+        validateRule(rule);
+        
+        RecurringAvailability savedRule = recurringAvailabilityRepository.save(rule);
+        availabilityIndex.invalidateCalendar(calendarId);
+        cacheVersions.bump("availableSlots", calendarId);
+        logger.info("Created recurring availability with ID: {} for calendar: {}", savedRule.getId(), calendarId);
+        
+        return savedRule;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public RecurringAvailability getRuleById(UUID calendarId, UUID id) {
+        logger.debug("Fetching recurring availability with ID: {} of calendar: {}", id, calendarId);
+        // A rule of another calendar is reported as missing rather than leaked through this calendar's URL
+        return recurringAvailabilityRepository.findById(id)
+            .filter(rule -> rule.getCalendar().getId().equals(calendarId))
+            .orElseThrow(() -> new ResourceNotFoundException("Recurring availability not found with ID: " + id));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<RecurringAvailability> getRulesByCalendarId(UUID calendarId) {
+        logger.debug("Fetching recurring availability for calendar: {}", calendarId);
+        return recurringAvailabilityRepository.findByCalendarId(calendarId);
+    }
+    
+    @Override
+    public void deleteRule(UUID calendarId, UUID id) {
+        logger.debug("Deleting recurring availability with ID: {} from calendar: {}", id, calendarId);
+        
+        RecurringAvailability rule = getRuleById(calendarId, id);
+        recurringAvailabilityRepository.delete(rule);
+        availabilityIndex.invalidateCalendar(rule.getCalendar().getId());
+        cacheVersions.bump("availableSlots", rule.getCalendar().getId());
+        
+        logger.info("Deleted recurring availability with ID: {}", id);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeSlot> expandOccurrences(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime) {
+        List<RecurringAvailability> rules = recurringAvailabilityRepository.findActiveByCalendarId(
+            calendarId, startTime.toLocalDate(), endTime.toLocalDate());
+        if (rules.isEmpty()) {
+            return List.of();
+        }
+        
+        List<TimeSlot> occurrences = new ArrayList<>();
+        for (RecurringAvailability rule : rules) {
+            LocalDate fromDate = max(startTime.toLocalDate(), rule.getValidFrom());
+            LocalDate toDate = rule.getValidUntil() != null 
+                ? min(endTime.toLocalDate(), rule.getValidUntil()) 
+                : endTime.toLocalDate();
+            
+            for (TimeWindow window : RecurrenceExpander.expand(rule.getDaysOfWeek(), rule.getStartTime(), 
+                    rule.getEndTime(), rule.getSlotDurationMinutes(), fromDate, toDate)) {
+                if (window.getStartTime().isBefore(startTime) || window.getEndTime().isAfter(endTime)) {
+                    continue;
+                }
+                TimeSlot occurrence = new TimeSlot(null, window.getStartTime(), window.getEndTime(), SlotStatus.AVAILABLE);
+                occurrence.setRecurringAvailabilityId(rule.getId());
+                occurrences.add(occurrence);
+            }
+        }
+        
+        logger.debug("Expanded {} recurring occurrences for calendar: {}", occurrences.size(), calendarId);
+        return occurrences;
+    }
+    
+    private void validateRule(RecurringAvailability rule) {
+        if (rule.getDaysOfWeekMask() == 0) {
+            throw new IllegalArgumentException("At least one day of week is required");
+        }
+        
+        if (!rule.getStartTime().isBefore(rule.getEndTime())) {
+            throw new IllegalArgumentException("Start time must be before end time");
+        }
+        
+        int duration = rule.getSlotDurationMinutes();
+        if (duration < 15 || duration > 480) {
+            throw new IllegalArgumentException("Time slot duration must be between 15 minutes and 8 hours");
+        }
+        
+        if (Duration.between(rule.getStartTime(), rule.getEndTime()).toMinutes() < duration) {
+            throw new IllegalArgumentException("Daily hours must fit at least one time slot");
+        }
+        
+        if (rule.getValidUntil() != null && rule.getValidUntil().isBefore(rule.getValidFrom())) {
+            throw new IllegalArgumentException("Valid until must not be before valid from");
+        }
+    }
+    
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+    
+    private static LocalDate min(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -1,24 +1,56 @@
 package com.doodle.service.impl;
 
+import com.doodle.domain.Calendar;
+import com.doodle.domain.CursorPage;
+import com.doodle.domain.RecurringAvailability;
+import com.doodle.domain.SlotBatchResult;
 import com.doodle.domain.TimeSlot;
+import com.doodle.domain.TimeSlotSummary;
+import com.doodle.domain.TimeWindow;
 import com.doodle.domain.enums.SlotStatus;
 import com.doodle.exception.custom.ResourceNotFoundException;
+import com.doodle.exception.custom.SlotNotAvailableException;
 import com.doodle.exception.custom.TimeConflictException;
+import com.doodle.repository.SlotOverlapConstraint;
+import com.doodle.repository.ParticipantMeetingRepository;
 import com.doodle.repository.TimeSlotRepository;
 import com.doodle.service.CalendarService;
+import com.doodle.service.RecurringAvailabilityService;
 import com.doodle.service.TimeSlotService;
+import com.doodle.service.cache.CacheVersions;
+import com.doodle.service.cache.MissingIdCache;
+import com.doodle.service.index.IntervalTree;
+import com.doodle.service.index.QuarterHourAvailabilityIndex;
+import com.doodle.service.index.SlotOverlapIndex;
+import com.doodle.service.index.TransactionCallbacks;
+import com.doodle.service.index.UpcomingAgendaIndex;
+import com.doodle.service.pagination.PageCursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -27,13 +59,47 @@ public class TimeSlotServiceImpl implements TimeSlotService {
     
     private static final Logger logger = LoggerFactory.getLogger(TimeSlotServiceImpl.class);
     
+    private static final String AVAILABLE_SLOTS_CACHE = "availableSlots";
+    private static final String TIME_SLOTS_CACHE = "timeSlots";
+    
     private final TimeSlotRepository timeSlotRepository;
+    private final ParticipantMeetingRepository participantMeetingRepository;
     private final CalendarService calendarService;
+    private final SlotOverlapIndex slotOverlapIndex;
+    private final QuarterHourAvailabilityIndex availabilityIndex;
+    private final RecurringAvailabilityService recurringAvailabilityService;
+    private final SlotOverlapConstraint overlapConstraint;
+    private final CacheVersions cacheVersions;
+    private final MissingIdCache missingIds;
+    private final UpcomingAgendaIndex agendaIndex;
+    private final CacheManager cacheManager;
+    private final int maxBulkSlots;
     
     @Autowired
-    public TimeSlotServiceImpl(TimeSlotRepository timeSlotRepository, CalendarService calendarService) {
+    public TimeSlotServiceImpl(TimeSlotRepository timeSlotRepository,
+                               ParticipantMeetingRepository participantMeetingRepository,
+                               CalendarService calendarService,
+                               SlotOverlapIndex slotOverlapIndex,
+                               QuarterHourAvailabilityIndex availabilityIndex,
+                               RecurringAvailabilityService recurringAvailabilityService,
+                               SlotOverlapConstraint overlapConstraint,
+                               CacheVersions cacheVersions,
+                               MissingIdCache missingIds,
+                               UpcomingAgendaIndex agendaIndex,
+                               CacheManager cacheManager,
+                               @Value("${doodle.scheduling.max-bulk-slots:5000}") int maxBulkSlots) {
         this.timeSlotRepository = timeSlotRepository;
+        this.participantMeetingRepository = participantMeetingRepository;
         this.calendarService = calendarService;
+        this.slotOverlapIndex = slotOverlapIndex;
+        this.availabilityIndex = availabilityIndex;
+        this.recurringAvailabilityService = recurringAvailabilityService;
+        this.overlapConstraint = overlapConstraint;
+        this.cacheVersions = cacheVersions;
+        this.missingIds = missingIds;
+        this.agendaIndex = agendaIndex;
+        this.cacheManager = cacheManager;
+        this.maxBulkSlots = maxBulkSlots;
     }
     
     @Override
@@ -42,44 +108,162 @@ public class TimeSlotServiceImpl implements TimeSlotService {
         
         validateTimeSlot(timeSlot);
         
-        // Check for overlapping slots
-        if (hasOverlappingSlots(timeSlot.getCalendar().getId(), 
+        // Check for overlapping slots, unless the exclusion constraint rejects them on insert
+        if (!overlapConstraint.isEnforcedByDatabase() && hasOverlappingSlots(timeSlot.getCalendar().getId(), 
                 timeSlot.getStartTime(), timeSlot.getEndTime(), null)) {
             throw new TimeConflictException("Time slot overlaps with existing slot");
         }
         
-        TimeSlot savedSlot = timeSlotRepository.save(timeSlot);
+        TimeSlot savedSlot = saveSlot(timeSlot, "Time slot overlaps with existing slot");
+        slotOverlapIndex.slotSaved(timeSlot.getCalendar().getId(), savedSlot.getId(),
+            savedSlot.getStartTime(), savedSlot.getEndTime());
+        availabilityIndex.slotAdded(timeSlot.getCalendar().getId(),
+            savedSlot.getStartTime(), savedSlot.getEndTime(), savedSlot.getStatus());
+        cacheVersions.bump(AVAILABLE_SLOTS_CACHE, timeSlot.getCalendar().getId());
+        missingIds.created(TIME_SLOTS_CACHE, savedSlot.getId());
         logger.info("Created time slot with ID: {}", savedSlot.getId());
         
         return savedSlot;
     }
     
+    @Override
+    public SlotBatchResult createTimeSlots(UUID calendarId, List<TimeSlot> timeSlots) {
+        logger.debug("Creating {} time slots for calendar: {}", timeSlots.size(), calendarId);
+        
+        if (timeSlots.size() > maxBulkSlots) {
+            throw new IllegalArgumentException("A batch may contain at most " + maxBulkSlots + " time slots");
+        }
+        
+        Calendar calendar = calendarService.getCalendarById(calendarId);
+        SlotBatchResult result = new SlotBatchResult();
+        
+        // Load every existing slot the batch could collide with in a single query
+        LocalDateTime rangeStart = null;
+        LocalDateTime rangeEnd = null;
+        for (TimeSlot timeSlot : timeSlots) {
+            if (timeSlot.getStartTime() != null && (rangeStart == null || timeSlot.getStartTime().isBefore(rangeStart))) {
+                rangeStart = timeSlot.getStartTime();
+            }
+            if (timeSlot.getEndTime() != null && (rangeEnd == null || timeSlot.getEndTime().isAfter(rangeEnd))) {
+                rangeEnd = timeSlot.getEndTime();
+            }
+        }
+        
+        IntervalTree occupied = new IntervalTree();
+        if (rangeStart != null && rangeEnd != null && rangeStart.isBefore(rangeEnd)) {
+            for (Object[] row : timeSlotRepository.findSlotIntervalsByCalendarIdAndTimeRange(
+                    calendarId, rangeStart, rangeEnd)) {
+                occupied.insert((UUID) row[0], (LocalDateTime) row[1], (LocalDateTime) row[2]);
+            }
+        }
+        
+        // Validate in memory; accepted slots also block later items of the same batch
+        List<TimeSlot> accepted = new ArrayList<>();
+        for (int i = 0; i < timeSlots.size(); i++) {
+            TimeSlot timeSlot = timeSlots.get(i);
+            try {
+                validateTimeSlot(timeSlot);
+            } catch (IllegalArgumentException e) {
+                result.addConflict(i, timeSlot.getStartTime(), timeSlot.getEndTime(), e.getMessage());
+                continue;
+            }
+            
+            if (occupied.overlaps(timeSlot.getStartTime(), timeSlot.getEndTime(), null)) {
+                result.addConflict(i, timeSlot.getStartTime(), timeSlot.getEndTime(),
+                    "Time slot overlaps with existing slot");
+                continue;
+            }
+            
+            occupied.insert(UUID.randomUUID(), timeSlot.getStartTime(), timeSlot.getEndTime());
+            timeSlot.setCalendar(calendar);
+            if (timeSlot.getStatus() == null) {
+                timeSlot.setStatus(SlotStatus.AVAILABLE);
+            }
+            accepted.add(timeSlot);
+        }
+        
+        // Inserts are grouped into JDBC batches (hibernate.jdbc.batch_size)
+        List<TimeSlot> savedSlots = timeSlotRepository.saveAll(accepted);
+        if (overlapConstraint.isEnforcedByDatabase()) {
+            // A concurrent writer may have taken a range after the in-memory check
+            try {
+                timeSlotRepository.flush();
+            } catch (DataIntegrityViolationException e) {
+                throw translateOverlap(e, "Time slots overlap with a concurrently created slot");
+            }
+        }
+        for (TimeSlot savedSlot : savedSlots) {
+            slotOverlapIndex.slotSaved(calendarId, savedSlot.getId(), savedSlot.getStartTime(), savedSlot.getEndTime());
+            availabilityIndex.slotAdded(calendarId, savedSlot.getStartTime(), savedSlot.getEndTime(), savedSlot.getStatus());
+            result.addCreated(savedSlot.getId());
+        }
+        if (!savedSlots.isEmpty()) {
+            cacheVersions.bump(AVAILABLE_SLOTS_CACHE, calendarId);
+            missingIds.created(TIME_SLOTS_CACHE, result.getCreatedSlotIds());
+        }
+        
+        logger.info("Created {} time slots for calendar: {} ({} conflicts)", 
+            result.getCreatedCount(), calendarId, result.getConflicts().size());
+        
+        return result;
+    }
+    
     @Override
     @Cacheable(value = "timeSlots", key = "#id")
     @Transactional(readOnly = true)
     public TimeSlot getTimeSlotById(UUID id) {
         logger.debug("Fetching time slot with ID: {}", id);
-        return timeSlotRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Time slot not found with ID: " + id));
+        if (missingIds.isMissing(TIME_SLOTS_CACHE, id)) {
+            throw new ResourceNotFoundException("Time slot not found with ID: " + id);
+        }
+        return timeSlotRepository.findWithCalendarById(id)
+            .orElseThrow(() -> missingIds.notFound(TIME_SLOTS_CACHE, id, "Time slot not found with ID: " + id));
     }
     
     @Override
     @Transactional(readOnly = true)
-    public Page<TimeSlot> getTimeSlotsByCalendarId(UUID calendarId, Pageable pageable) {
+    public Page<TimeSlotSummary> getTimeSlotsByCalendarId(UUID calendarId, Pageable pageable) {
         logger.debug("Fetching time slots for calendar: {}", calendarId);
         // Verify calendar exists
         calendarService.getCalendarById(calendarId);
-        return timeSlotRepository.findAll(pageable); // This should be filtered by calendar
+        return timeSlotRepository.findSummariesByCalendarId(calendarId, pageable);
     }
     
     @Override
-    @Cacheable(value = "availableSlots", key = "#calendarId + '_' + #startTime + '_' + #endTime")
+    // sync: concurrent misses on the same range wait for one load instead of all querying
+    @Cacheable(value = AVAILABLE_SLOTS_CACHE, sync = true,
+               key = "#calendarId + '_v' + @cacheVersions.current('availableSlots', #calendarId) + '_' + #startTime + '_' + #endTime")
     @Transactional(readOnly = true)
     public List<TimeSlot> getAvailableSlots(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime) {
         logger.debug("Fetching available slots for calendar: {} between {} and {}", 
             calendarId, startTime, endTime);
         
-        return timeSlotRepository.findAvailableSlots(calendarId, SlotStatus.AVAILABLE, startTime, endTime);
+        // Nothing on the grid is available in this range, so skip the queries entirely
+        if (availabilityIndex.hasNoAvailability(calendarId, startTime, endTime, this::loadAvailability)) {
+            return new ArrayList<>();
+        }
+        
+        List<TimeSlot> availableSlots = 
+            timeSlotRepository.findAvailableSlots(calendarId, SlotStatus.AVAILABLE, startTime, endTime);
+        
+        List<TimeSlot> occurrences = getUnmaterializedOccurrences(calendarId, startTime, endTime);
+        if (occurrences.isEmpty()) {
+            return availableSlots;
+        }
+        return mergeByStartTime(availableSlots, occurrences);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeWindow> getCommonAvailableWindows(List<UUID> calendarIds, LocalDateTime startTime,
+                                                      LocalDateTime endTime) {
+        logger.debug("Intersecting availability of {} calendars between {} and {}", 
+            calendarIds.size(), startTime, endTime);
+        
+        for (UUID calendarId : calendarIds) {
+            calendarService.getCalendarById(calendarId);
+        }
+        return availabilityIndex.findCommonAvailableWindows(calendarIds, startTime, endTime, this::loadAvailability);
     }
     
     @Override
@@ -88,11 +272,89 @@ public class TimeSlotServiceImpl implements TimeSlotService {
             UUID calendarId, LocalDateTime startTime, LocalDateTime endTime, Pageable pageable) {
         
         logger.debug("Fetching time slots for calendar: {} in time range", calendarId);
-        return timeSlotRepository.findByCalendarIdAndTimeRange(calendarId, startTime, endTime, pageable);
+        
+        List<TimeSlot> occurrences = getUnmaterializedOccurrences(calendarId, startTime, endTime);
+        if (occurrences.isEmpty()) {
+            return timeSlotRepository.findByCalendarIdAndTimeRange(calendarId, startTime, endTime, pageable);
+        }
+        
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(mergeByStartTime(timeSlotRepository.findByCalendarIdAndTimeRange(
+                calendarId, startTime, endTime, pageable).getContent(), occurrences));
+        }
+        
+        // Recurring occurrences only exist in memory. The merged row at position p is stored row
+        // p - k, where k counts the occurrences before it, so the page only needs stored rows
+        // [offset - occurrences, offset + size) rather than every stored row in the range.
+        long offset = pageable.getOffset();
+        long storedFrom = Math.max(0, offset - occurrences.size());
+        int window = (int) (offset + pageable.getPageSize() - storedFrom);
+        int windowPage = (int) (storedFrom / window);
+        Page<TimeSlot> stored = timeSlotRepository.findByCalendarIdAndTimeRange(calendarId, startTime, endTime,
+            PageRequest.of(windowPage, window, pageable.getSort()));
+        List<TimeSlot> storedSlots = new ArrayList<>(stored.getContent());
+        // The window is page-sized but not page-aligned, so it may run into the next page
+        if ((long) (windowPage + 1) * window < offset + pageable.getPageSize() && stored.hasNext()) {
+            storedSlots.addAll(timeSlotRepository.findByCalendarIdAndTimeRange(
+                calendarId, startTime, endTime, stored.nextPageable()).getContent());
+        }
+        storedSlots = storedSlots.subList(
+            (int) Math.min(storedFrom - (long) windowPage * window, storedSlots.size()), storedSlots.size());
+        
+        // Occurrences sort after stored rows with the same start, as in mergeByStartTime
+        List<TimeSlot> laterOccurrences = occurrences;
+        if (storedFrom > 0) {
+            LocalDateTime firstStart = storedSlots.isEmpty() ? null : storedSlots.get(0).getStartTime();
+            laterOccurrences = occurrences.stream()
+                .filter(occurrence -> firstStart != null && !occurrence.getStartTime().isBefore(firstStart))
+                .toList();
+        }
+        long mergedFrom = storedFrom + occurrences.size() - laterOccurrences.size();
+        List<TimeSlot> merged = mergeByStartTime(storedSlots, laterOccurrences);
+        int fromIndex = (int) Math.min(Math.max(0, offset - mergedFrom), merged.size());
+        int toIndex = Math.min(fromIndex + pageable.getPageSize(), merged.size());
+        return new PageImpl<>(merged.subList(fromIndex, toIndex), pageable,
+            stored.getTotalElements() + occurrences.size());
     }
     
     @Override
-    @CacheEvict(value = {"timeSlots", "availableSlots"}, key = "#id")
+    @Transactional(readOnly = true)
+    public CursorPage<TimeSlot> getTimeSlotsByCalendarIdAndTimeRange(
+            UUID calendarId, LocalDateTime startTime, LocalDateTime endTime, String cursor, int limit) {
+        
+        logger.debug("Fetching time slots for calendar: {} in time range after cursor: {}", calendarId, cursor);
+        
+        PageCursor.validateLimit(limit);
+        PageCursor after = PageCursor.decode(cursor);
+        PageRequest slice = PageRequest.of(0, limit + 1);
+        
+        List<TimeSlot> slots = after == null
+            ? timeSlotRepository.findSliceByCalendarIdAndTimeRange(calendarId, startTime, endTime, slice)
+            : timeSlotRepository.findSliceByCalendarIdAndTimeRangeAfter(
+                calendarId, startTime, endTime, after.getStartTime(), after.getId(), slice);
+        
+        // Occurrences only need expanding up to the first stored row that will not fit on this page
+        LocalDateTime occurrencesFrom = after != null && after.getStartTime().isAfter(startTime) 
+            ? after.getStartTime() : startTime;
+        LocalDateTime occurrencesTo = slots.size() > limit ? slots.get(limit).getStartTime() : endTime;
+        List<TimeSlot> occurrences = new ArrayList<>();
+        if (occurrencesFrom.isBefore(occurrencesTo)) {
+            for (TimeSlot occurrence : getUnmaterializedOccurrences(calendarId, occurrencesFrom, occurrencesTo)) {
+                // Occurrences carry no id and sort after stored rows with the same start
+                if (after == null || occurrence.getStartTime().isAfter(after.getStartTime())) {
+                    occurrences.add(occurrence);
+                }
+            }
+        }
+        if (!occurrences.isEmpty()) {
+            slots = mergeByStartTime(slots, occurrences);
+        }
+        
+        return PageCursor.toPage(slots, limit, TimeSlot::getStartTime, TimeSlot::getId);
+    }
+    
+    @Override
+    @CacheEvict(value = "timeSlots", key = "#id")
     public TimeSlot updateTimeSlot(UUID id, TimeSlot timeSlot) {
         logger.debug("Updating time slot with ID: {}", id);
         
@@ -100,23 +362,36 @@ public class TimeSlotServiceImpl implements TimeSlotService {
         validateTimeSlot(timeSlot);
         
         // Check for overlapping slots (excluding current slot)
-        if (hasOverlappingSlots(existingSlot.getCalendar().getId(), 
+        if (!overlapConstraint.isEnforcedByDatabase() && hasOverlappingSlots(existingSlot.getCalendar().getId(), 
                 timeSlot.getStartTime(), timeSlot.getEndTime(), id)) {
             throw new TimeConflictException("Updated time slot would overlap with existing slot");
         }
         
+        availabilityIndex.slotRemoved(existingSlot.getCalendar().getId(),
+            existingSlot.getStartTime(), existingSlot.getEndTime(), existingSlot.getStatus());
+        
         existingSlot.setStartTime(timeSlot.getStartTime());
         existingSlot.setEndTime(timeSlot.getEndTime());
         existingSlot.setStatus(timeSlot.getStatus());
         
-        TimeSlot updatedSlot = timeSlotRepository.save(existingSlot);
+        TimeSlot updatedSlot = saveSlot(existingSlot, "Updated time slot would overlap with existing slot");
+        slotOverlapIndex.slotSaved(existingSlot.getCalendar().getId(), updatedSlot.getId(),
+            updatedSlot.getStartTime(), updatedSlot.getEndTime());
+        availabilityIndex.slotAdded(existingSlot.getCalendar().getId(),
+            updatedSlot.getStartTime(), updatedSlot.getEndTime(), updatedSlot.getStatus());
+        cacheVersions.bump(AVAILABLE_SLOTS_CACHE, existingSlot.getCalendar().getId());
+        if (updatedSlot.getMeeting() != null) {
+            participantMeetingRepository.updateTimes(updatedSlot.getMeeting().getId(),
+                updatedSlot.getStartTime(), updatedSlot.getEndTime());
+            agendaIndex.meetingSaved(updatedSlot.getMeeting());
+        }
         logger.info("Updated time slot with ID: {}", updatedSlot.getId());
         
         return updatedSlot;
     }
     
     @Override
-    @CacheEvict(value = {"timeSlots", "availableSlots"}, key = "#id")
+    @CacheEvict(value = "timeSlots", key = "#id")
     public void deleteTimeSlot(UUID id) {
         logger.debug("Deleting time slot with ID: {}", id);
         
@@ -128,13 +403,19 @@ public class TimeSlotServiceImpl implements TimeSlotService {
         }
         
         timeSlotRepository.delete(timeSlot);
+        slotOverlapIndex.slotDeleted(timeSlot.getCalendar().getId(), id);
+        availabilityIndex.slotRemoved(timeSlot.getCalendar().getId(),
+            timeSlot.getStartTime(), timeSlot.getEndTime(), timeSlot.getStatus());
+        cacheVersions.bump(AVAILABLE_SLOTS_CACHE, timeSlot.getCalendar().getId());
         logger.info("Deleted time slot with ID: {}", id);
     }
     
     @Override
     @Transactional(readOnly = true)
     public boolean hasOverlappingSlots(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime, UUID excludeSlotId) {
-        return timeSlotRepository.existsOverlappingSlot(calendarId, excludeSlotId, startTime, endTime);
+        // Answer from the in-memory index when possible, fall back to the database otherwise
+        return slotOverlapIndex.hasOverlap(calendarId, startTime, endTime, excludeSlotId)
+            .orElseGet(() -> timeSlotRepository.existsOverlappingSlot(calendarId, excludeSlotId, startTime, endTime));
     }
     
     @Override
@@ -145,21 +426,93 @@ public class TimeSlotServiceImpl implements TimeSlotService {
     }
     
     @Override
-    @CacheEvict(value = {"timeSlots", "availableSlots"}, key = "#slotId")
+    @CacheEvict(value = "timeSlots", key = "#slotId")
     public void markSlotAsBusy(UUID slotId) {
         logger.debug("Marking slot as busy: {}", slotId);
         TimeSlot slot = getTimeSlotById(slotId);
-        slot.setStatus(SlotStatus.BUSY);
-        timeSlotRepository.save(slot);
+        changeStatus(slot, SlotStatus.BUSY);
     }
     
     @Override
-    @CacheEvict(value = {"timeSlots", "availableSlots"}, key = "#slotId")
+    @CacheEvict(value = "timeSlots", key = "#slotId")
+    public TimeSlot reserveSlot(UUID slotId) {
+        logger.debug("Reserving slot: {}", slotId);
+        
+        // A single conditional UPDATE instead of read-check-write, so two bookings can never both win
+        int updated;
+        try {
+            updated = timeSlotRepository.updateStatusIfCurrent(slotId, SlotStatus.AVAILABLE, SlotStatus.BUSY);
+        } catch (PessimisticLockingFailureException e) {
+            // Databases that abort instead of re-checking the row after a concurrent commit
+            throw new SlotNotAvailableException("Time slot is not available for booking", e);
+        }
+        
+        TimeSlot slot = timeSlotRepository.findById(slotId)
+            .orElseThrow(() -> new ResourceNotFoundException("Time slot not found with ID: " + slotId));
+        if (updated == 0) {
+            throw new SlotNotAvailableException("Time slot is not available for booking");
+        }
+        
+        UUID calendarId = slot.getCalendar().getId();
+        availabilityIndex.slotRemoved(calendarId, slot.getStartTime(), slot.getEndTime(), SlotStatus.AVAILABLE);
+        availabilityIndex.slotAdded(calendarId, slot.getStartTime(), slot.getEndTime(), SlotStatus.BUSY);
+        cacheVersions.bump(AVAILABLE_SLOTS_CACHE, calendarId);
+        
+        return slot;
+    }
+    
+    @Override
+    public Map<UUID, TimeSlot> reserveSlots(Collection<UUID> slotIds) {
+        logger.debug("Reserving {} slots", slotIds.size());
+        if (slotIds.isEmpty()) {
+            return Map.of();
+        }
+        
+        // One locking IN query; the rows still AVAILABLE under the lock are ours to book
+        List<UUID> available = timeSlotRepository.lockIdsByStatus(slotIds, SlotStatus.AVAILABLE);
+        if (available.isEmpty()) {
+            return Map.of();
+        }
+        
+        Map<UUID, TimeSlot> reserved = new HashMap<>();
+        Set<UUID> calendarIds = new HashSet<>();
+        for (TimeSlot slot : timeSlotRepository.findAllWithCalendarAndMeetingByIdIn(available)) {
+            UUID calendarId = slot.getCalendar().getId();
+            availabilityIndex.slotRemoved(calendarId, slot.getStartTime(), slot.getEndTime(), SlotStatus.AVAILABLE);
+            slot.setStatus(SlotStatus.BUSY);
+            availabilityIndex.slotAdded(calendarId, slot.getStartTime(), slot.getEndTime(), SlotStatus.BUSY);
+            calendarIds.add(calendarId);
+            reserved.put(slot.getId(), slot);
+        }
+        
+        // The status changes are flushed as batched UPDATEs (hibernate.order_updates)
+        calendarIds.forEach(calendarId -> cacheVersions.bump(AVAILABLE_SLOTS_CACHE, calendarId));
+        evictAfterCommit(TIME_SLOTS_CACHE, reserved.keySet());
+        
+        return reserved;
+    }
+    
+    @Override
+    @CacheEvict(value = "timeSlots", key = "#slotId")
     public void markSlotAsAvailable(UUID slotId) {
         logger.debug("Marking slot as available: {}", slotId);
         TimeSlot slot = getTimeSlotById(slotId);
-        slot.setStatus(SlotStatus.AVAILABLE);
-        timeSlotRepository.save(slot);
+        changeStatus(slot, SlotStatus.AVAILABLE);
+    }
+    
+    @Override
+    public TimeSlot materializeRecurringSlot(UUID calendarId, UUID recurringAvailabilityId, LocalDateTime startTime) {
+        logger.debug("Materializing recurring slot {} of calendar {} at {}", recurringAvailabilityId, calendarId, startTime);
+        
+        RecurringAvailability rule = recurringAvailabilityService.getRuleById(calendarId, recurringAvailabilityId);
+        if (!rule.isOccurrenceStart(startTime)) {
+            throw new IllegalArgumentException("Start time is not an occurrence of the recurring availability");
+        }
+        
+        TimeSlot timeSlot = new TimeSlot(rule.getCalendar(), startTime, 
+            startTime.plusMinutes(rule.getSlotDurationMinutes()), SlotStatus.AVAILABLE);
+        
+        return createTimeSlot(timeSlot);
     }
     
     @Override
@@ -168,7 +521,101 @@ public class TimeSlotServiceImpl implements TimeSlotService {
         return timeSlotRepository.getSlotCountByDate(calendarId, startTime, endTime);
     }
     
+    private TimeSlot saveSlot(TimeSlot timeSlot, String conflictMessage) {
+        if (!overlapConstraint.isEnforcedByDatabase()) {
+            return timeSlotRepository.save(timeSlot);
+        }
+        // Flush so an exclusion violation surfaces here instead of at commit
+        try {
+            return timeSlotRepository.saveAndFlush(timeSlot);
+        } catch (DataIntegrityViolationException e) {
+            throw translateOverlap(e, conflictMessage);
+        }
+    }
+    
+    private void evictAfterCommit(String cacheName, Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Set<UUID> evicted = Set.copyOf(ids);
+        TransactionCallbacks.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                evicted.forEach(cache::evict);
+            }
+        });
+    }
+    
+    private RuntimeException translateOverlap(DataIntegrityViolationException e, String conflictMessage) {
+        return overlapConstraint.isViolation(e) ? new TimeConflictException(conflictMessage, e) : e;
+    }
+    
+    private void changeStatus(TimeSlot slot, SlotStatus status) {
+        UUID calendarId = slot.getCalendar().getId();
+        availabilityIndex.slotRemoved(calendarId, slot.getStartTime(), slot.getEndTime(), slot.getStatus());
+        slot.setStatus(status);
+        timeSlotRepository.save(slot);
+        availabilityIndex.slotAdded(calendarId, slot.getStartTime(), slot.getEndTime(), status);
+        cacheVersions.bump(AVAILABLE_SLOTS_CACHE, calendarId);
+    }
+    
+    private QuarterHourAvailabilityIndex.LoadedAvailability loadAvailability(
+            UUID calendarId, LocalDateTime startTime, LocalDateTime endTime) {
+        List<TimeWindow> windows = new ArrayList<>();
+        for (Object[] row : timeSlotRepository.findSlotIntervalsByCalendarIdAndStatusAndTimeRange(
+                calendarId, SlotStatus.AVAILABLE, startTime, endTime)) {
+            windows.add(new TimeWindow((LocalDateTime) row[0], (LocalDateTime) row[1]));
+        }
+        
+        // Rule occurrences count even when hidden by a stored row: deleting that row reveals them
+        List<TimeSlot> occurrences = recurringAvailabilityService.expandOccurrences(calendarId, startTime, endTime);
+        for (TimeSlot occurrence : filterUnmaterialized(calendarId, occurrences, startTime, endTime)) {
+            windows.add(new TimeWindow(occurrence.getStartTime(), occurrence.getEndTime()));
+        }
+        return new QuarterHourAvailabilityIndex.LoadedAvailability(windows, !occurrences.isEmpty());
+    }
+    
+    private List<TimeSlot> getUnmaterializedOccurrences(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime) {
+        return filterUnmaterialized(calendarId,
+            recurringAvailabilityService.expandOccurrences(calendarId, startTime, endTime), startTime, endTime);
+    }
+    
+    private List<TimeSlot> filterUnmaterialized(UUID calendarId, List<TimeSlot> occurrences,
+                                                LocalDateTime startTime, LocalDateTime endTime) {
+        if (occurrences.isEmpty()) {
+            return occurrences;
+        }
+        
+        // Stored rows (booked or overridden occurrences, one-off slots) take precedence
+        IntervalTree occupied = new IntervalTree();
+        for (Object[] row : timeSlotRepository.findSlotIntervalsByCalendarIdAndTimeRange(
+                calendarId, startTime, endTime)) {
+            occupied.insert((UUID) row[0], (LocalDateTime) row[1], (LocalDateTime) row[2]);
+        }
+        
+        List<TimeSlot> unmaterialized = new ArrayList<>();
+        for (TimeSlot occurrence : occurrences) {
+            if (!occupied.overlaps(occurrence.getStartTime(), occurrence.getEndTime(), null)) {
+                occupied.insert(UUID.randomUUID(), occurrence.getStartTime(), occurrence.getEndTime());
+                unmaterialized.add(occurrence);
+            }
+        }
+        return unmaterialized;
+    }
+    
+    private List<TimeSlot> mergeByStartTime(List<TimeSlot> slots, List<TimeSlot> occurrences) {
+        List<TimeSlot> merged = new ArrayList<>(slots.size() + occurrences.size());
+        merged.addAll(slots);
+        merged.addAll(occurrences);
+        merged.sort(Comparator.comparing(TimeSlot::getStartTime));
+        return merged;
+    }
+    
     private void validateTimeSlot(TimeSlot timeSlot) {
+        if (timeSlot.getStartTime() == null || timeSlot.getEndTime() == null) {
+            throw new IllegalArgumentException("Start time and end time are required");
+        }
+        
         if (timeSlot.getStartTime().isAfter(timeSlot.getEndTime()) || 
             timeSlot.getStartTime().isEqual(timeSlot.getEndTime())) {
             throw new IllegalArgumentException("Start time must be before end time");
@@ -0,0 +1,139 @@
+package com.doodle.service.importing;
+
+import com.doodle.domain.MeetingImportRecord;
+import com.doodle.domain.MeetingImportResult;
+import com.doodle.service.MeetingService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams an NDJSON meeting import: one meeting per line in, one {@link MeetingImportResult}
+ * per line out. Lines are read and booked in chunks of {@code doodle.import.chunk-size},
+ * each chunk in its own transaction, so memory stays bounded by the chunk size whatever
+ * the input size. With open-in-view every chunk transaction joins the request's persistence
+ * context, so it is cleared after each chunk. A chunk that fails as a whole is reported
+ * line by line and the import carries on with the next one.
+ */
+@Component
+public class MeetingImporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingImporter.class);
+
+    private final MeetingService meetingService;
+    private final EntityManager entityManager;
+    private final ObjectReader recordReader;
+    private final ObjectWriter resultWriter;
+    private final int chunkSize;
+
+    @Autowired
+    public MeetingImporter(MeetingService meetingService, EntityManager entityManager, ObjectMapper objectMapper,
+                           @Value("${doodle.import.chunk-size:500}") int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be positive");
+        }
+        this.meetingService = meetingService;
+        this.entityManager = entityManager;
+        this.recordReader = objectMapper.readerFor(MeetingImportRecord.class);
+        this.resultWriter = objectMapper.writerFor(MeetingImportResult.class);
+        this.chunkSize = chunkSize;
+    }
+
+    public Summary importMeetings(InputStream input, OutputStream output) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Summary summary = new Summary();
+        List<MeetingImportRecord> chunk = new ArrayList<>(chunkSize);
+        List<MeetingImportResult> rejected = new ArrayList<>();
+
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                MeetingImportRecord record = recordReader.readValue(line);
+                record.setLine(lineNumber);
+                chunk.add(record);
+            } catch (JsonProcessingException e) {
+                rejected.add(MeetingImportResult.failed(lineNumber, "Malformed JSON: " + e.getOriginalMessage()));
+            }
+            if (chunk.size() + rejected.size() >= chunkSize) {
+                flush(chunk, rejected, output, summary);
+            }
+        }
+        flush(chunk, rejected, output, summary);
+
+        logger.info("Meeting import finished: {} created, {} failed", summary.getCreated(), summary.getFailed());
+        return summary;
+    }
+
+    private void flush(List<MeetingImportRecord> chunk, List<MeetingImportResult> rejected,
+                       OutputStream output, Summary summary) throws IOException {
+        List<MeetingImportResult> results = new ArrayList<>(rejected);
+        if (!chunk.isEmpty()) {
+            results.addAll(importChunk(chunk));
+        }
+        results.sort((left, right) -> Integer.compare(left.getLine(), right.getLine()));
+        for (MeetingImportResult result : results) {
+            summary.count(result);
+            output.write(resultWriter.writeValueAsBytes(result));
+            output.write('\n');
+        }
+        // Clients see progress per chunk rather than at the end of the stream
+        output.flush();
+        chunk.clear();
+        rejected.clear();
+    }
+
+    private List<MeetingImportResult> importChunk(List<MeetingImportRecord> chunk) {
+        try {
+            return meetingService.importMeetings(chunk);
+        } catch (RuntimeException e) {
+            logger.warn("Meeting import chunk at line {} rolled back", chunk.get(0).getLine(), e);
+            List<MeetingImportResult> results = new ArrayList<>(chunk.size());
+            for (MeetingImportRecord record : chunk) {
+                results.add(MeetingImportResult.failed(record.getLine(), "Chunk rolled back: " + e.getMessage()));
+            }
+            return results;
+        } finally {
+            // The chunk has committed or rolled back: detach its meetings, slots and calendars
+            entityManager.clear();
+        }
+    }
+
+    public static class Summary {
+        private int created;
+        private int failed;
+
+        private void count(MeetingImportResult result) {
+            if (result.getStatus() == MeetingImportResult.Status.CREATED) {
+                created++;
+            } else {
+                failed++;
+            }
+        }
+
+        // Getters
+        public int getCreated() { return created; }
+
+        public int getFailed() { return failed; }
+    }
+}
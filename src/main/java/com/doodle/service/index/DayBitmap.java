@@ -0,0 +1,66 @@
+package com.doodle.service.index;
+
+/**
+ * Availability of one calendar-day on a 15-minute grid: bit q is set when quarter-hour
+ * q (0..95) is covered by an available slot. Bits 0-63 live in {@code low}, 64-95 in
+ * {@code high}. Ranges are half-open [from, to) in quarter-hour units.
+ */
+public final class DayBitmap {
+
+    public static final int QUARTERS_PER_DAY = 96;
+    public static final int MINUTES_PER_QUARTER = 15;
+
+    private long low;
+    private long high;
+
+    public DayBitmap() {}
+
+    public DayBitmap(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    public void set(int from, int to) {
+        low |= mask(from, to, 0);
+        high |= mask(from, to, 64);
+    }
+
+    public void clear(int from, int to) {
+        low &= ~mask(from, to, 0);
+        high &= ~mask(from, to, 64);
+    }
+
+    public boolean isAllSet(int from, int to) {
+        long lowMask = mask(from, to, 0);
+        long highMask = mask(from, to, 64);
+        return (low & lowMask) == lowMask && (high & highMask) == highMask;
+    }
+
+    public boolean isNoneSet(int from, int to) {
+        return (low & mask(from, to, 0)) == 0 && (high & mask(from, to, 64)) == 0;
+    }
+
+    public boolean isSet(int quarter) {
+        return quarter < 64 ? (low & (1L << quarter)) != 0 : (high & (1L << (quarter - 64))) != 0;
+    }
+
+    public DayBitmap and(DayBitmap other) {
+        return new DayBitmap(low & other.low, high & other.high);
+    }
+
+    public DayBitmap copy() {
+        return new DayBitmap(low, high);
+    }
+
+    // Bits [from, to) that fall into the 64-bit word starting at quarter 'offset'
+    private static long mask(int from, int to, int offset) {
+        int start = Math.max(from - offset, 0);
+        int end = Math.min(to - offset, 64);
+        if (start >= end) {
+            return 0L;
+        }
+        long upper = end == 64 ? -1L : (1L << end) - 1;
+        long lower = (1L << start) - 1;
+        return upper & ~lower;
+    }
+}
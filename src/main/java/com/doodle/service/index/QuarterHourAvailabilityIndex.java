@@ -0,0 +1,345 @@
+package com.doodle.service.index;
+
+import com.doodle.domain.TimeWindow;
+import com.doodle.domain.enums.SlotStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Bounded LRU index of {@link DayBitmap}s keyed by calendar, then epoch day. Days are loaded
+ * on demand through an {@link AvailabilityLoader} and then patched in place on committed
+ * slot mutations. Days whose availability comes from recurring rules are dropped instead of
+ * patched, since storing or deleting a slot can hide or reveal rule occurrences.
+ */
+@Component
+public class QuarterHourAvailabilityIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuarterHourAvailabilityIndex.class);
+
+    private static final long QUARTER_NANOS = Duration.ofMinutes(DayBitmap.MINUTES_PER_QUARTER).toNanos();
+
+    public interface AvailabilityLoader {
+        LoadedAvailability load(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime);
+    }
+
+    /**
+     * Available windows overlapping the loaded range, and whether any recurring rule
+     * produced occurrences in it.
+     */
+    public record LoadedAvailability(List<TimeWindow> availableWindows, boolean recurring) {}
+
+    private final boolean enabled;
+    private final int maxEntries;
+    private final int maxDaysPerQuery;
+    // Access-ordered, so iteration starts at the least recently used calendar; guarded by itself
+    private final Map<UUID, CalendarDays> calendars = new LinkedHashMap<>(256, 0.75f, true);
+    private int dayCount;
+
+    @Autowired
+    public QuarterHourAvailabilityIndex(
+            @Value("${doodle.scheduling.availability-index.enabled:true}") boolean enabled,
+            @Value("${doodle.scheduling.availability-index.max-entries:200000}") int maxEntries,
+            @Value("${doodle.scheduling.availability-index.max-days-per-query:62}") int maxDaysPerQuery) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.maxDaysPerQuery = maxDaysPerQuery;
+    }
+
+    public boolean isAligned(LocalDateTime startTime, LocalDateTime endTime) {
+        return isOnGrid(startTime) && (isOnGrid(endTime) || endTime.toLocalTime().equals(LocalTime.MAX));
+    }
+
+    /**
+     * True only if no available slot can lie within [startTime, endTime]; false means
+     * "unknown or available" and the caller must consult the database.
+     */
+    public boolean hasNoAvailability(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime,
+                                     AvailabilityLoader loader) {
+        if (!enabled || !isAligned(startTime, endTime)) {
+            return false;
+        }
+        LocalDateTime end = normalizeEnd(endTime);
+        Map<LocalDate, DayEntry> days;
+        try {
+            days = getDays(calendarId, startTime, end, loader);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load availability index for calendar: {}", calendarId, e);
+            return false;
+        }
+        if (days == null) {
+            return false;
+        }
+        for (Map.Entry<LocalDate, DayEntry> day : days.entrySet()) {
+            DayEntry entry = day.getValue();
+            int[] quarters = quarterRange(day.getKey(), startTime, end);
+            if (entry.unalignedAvailable > 0 || !entry.bitmap.isNoneSet(quarters[0], quarters[1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean isRangeAvailable(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime,
+                                    AvailabilityLoader loader) {
+        if (!isAligned(startTime, endTime)) {
+            return false;
+        }
+        List<TimeWindow> windows = findCommonAvailableWindows(List.of(calendarId), startTime, endTime, loader);
+        return windows.size() == 1 && windows.get(0).getStartTime().equals(startTime)
+            && windows.get(0).getEndTime().equals(normalizeEnd(endTime));
+    }
+
+    /**
+     * Windows on the quarter-hour grid in which every calendar has an available slot,
+     * computed by AND-ing the day bitmaps.
+     */
+    public List<TimeWindow> findCommonAvailableWindows(List<UUID> calendarIds, LocalDateTime startTime,
+                                                       LocalDateTime endTime, AvailabilityLoader loader) {
+        LocalDateTime end = normalizeEnd(endTime);
+        List<Map<LocalDate, DayEntry>> calendarDays = new ArrayList<>(calendarIds.size());
+        for (UUID calendarId : calendarIds) {
+            // Null only when the index is not used for this range, so the loader still runs once
+            Map<LocalDate, DayEntry> days = getDays(calendarId, startTime, end, loader);
+            if (days == null) {
+                days = buildDays(startTime, end, loader.load(calendarId, dayStart(startTime), dayEnd(end)));
+            }
+            calendarDays.add(days);
+        }
+
+        List<TimeWindow> windows = new ArrayList<>();
+        for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(end); date = date.plusDays(1)) {
+            DayBitmap common = null;
+            for (Map<LocalDate, DayEntry> days : calendarDays) {
+                DayBitmap bitmap = days.get(date).bitmap;
+                common = common == null ? bitmap.copy() : common.and(bitmap);
+            }
+            if (common == null) {
+                break;
+            }
+            int[] quarters = quarterRange(date, startTime, end);
+            collectRuns(windows, date, common, quarters[0], quarters[1]);
+        }
+        return windows;
+    }
+
+    public void slotAdded(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime, SlotStatus status) {
+        TransactionCallbacks.afterCommit(() -> apply(calendarId, startTime, endTime, status, true));
+    }
+
+    public void slotRemoved(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime, SlotStatus status) {
+        TransactionCallbacks.afterCommit(() -> apply(calendarId, startTime, endTime, status, false));
+    }
+
+    public void invalidateCalendar(UUID calendarId) {
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (calendars) {
+                CalendarDays removed = calendars.remove(calendarId);
+                if (removed != null) {
+                    dayCount -= removed.days.size();
+                }
+            }
+        });
+    }
+
+    private void apply(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime, SlotStatus status,
+                       boolean added) {
+        synchronized (calendars) {
+            // No entry means no day is cached and no load is in flight for the calendar
+            CalendarDays calendar = calendars.get(calendarId);
+            if (calendar == null) {
+                return;
+            }
+            calendar.generation++;
+            for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+                DayEntry entry = calendar.days.get(date.toEpochDay());
+                if (entry == null) {
+                    continue;
+                }
+                if (entry.recurring) {
+                    calendar.days.remove(date.toEpochDay());
+                    dayCount--;
+                    continue;
+                }
+                if (status == SlotStatus.AVAILABLE) {
+                    entry.apply(date, startTime, endTime, added);
+                }
+            }
+        }
+    }
+
+    // Returns the entries for every day touched by [startTime, endTime), or null if the index is not used for it
+    private Map<LocalDate, DayEntry> getDays(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime,
+                                             AvailabilityLoader loader) {
+        LocalDate firstDay = startTime.toLocalDate();
+        LocalDate lastDay = endTime.minusNanos(1).toLocalDate();
+        if (!enabled || ChronoUnit.DAYS.between(firstDay, lastDay) >= maxDaysPerQuery) {
+            return null;
+        }
+
+        Map<LocalDate, DayEntry> days = new LinkedHashMap<>();
+        LocalDate firstMissing = null;
+        LocalDate lastMissing = null;
+        CalendarDays calendar;
+        long generation;
+        synchronized (calendars) {
+            // Registered before loading, so mutations during the load bump its generation
+            calendar = calendars.computeIfAbsent(calendarId, id -> new CalendarDays());
+            generation = calendar.generation;
+            for (LocalDate date = firstDay; !date.isAfter(lastDay); date = date.plusDays(1)) {
+                DayEntry entry = calendar.days.get(date.toEpochDay());
+                if (entry == null) {
+                    firstMissing = firstMissing == null ? date : firstMissing;
+                    lastMissing = date;
+                }
+                days.put(date, entry);
+            }
+        }
+        if (firstMissing == null) {
+            return days;
+        }
+
+        LocalDateTime loadStart = firstMissing.atStartOfDay();
+        LocalDateTime loadEnd = lastMissing.plusDays(1).atStartOfDay();
+        Map<LocalDate, DayEntry> loaded = buildDays(loadStart, loadEnd, loader.load(calendarId, loadStart, loadEnd));
+
+        synchronized (calendars) {
+            // Checked and installed under one lock: skipped if the calendar changed, was evicted or invalidated
+            if (calendars.get(calendarId) == calendar && calendar.generation == generation) {
+                loaded.forEach((date, entry) -> {
+                    if (calendar.days.put(date.toEpochDay(), entry) == null) {
+                        dayCount++;
+                    }
+                });
+                evictOverflow();
+            }
+        }
+        days.putAll(loaded);
+        return days;
+    }
+
+    // Drops least recently used calendars until the index is back within its bounds; callers hold the lock
+    private void evictOverflow() {
+        Iterator<CalendarDays> iterator = calendars.values().iterator();
+        while ((dayCount > maxEntries || calendars.size() > maxEntries) && iterator.hasNext()) {
+            dayCount -= iterator.next().days.size();
+            iterator.remove();
+        }
+    }
+
+    private Map<LocalDate, DayEntry> buildDays(LocalDateTime startTime, LocalDateTime endTime,
+                                               LoadedAvailability availability) {
+        Map<LocalDate, DayEntry> days = new LinkedHashMap<>();
+        for (LocalDate date = startTime.toLocalDate(); date.atStartOfDay().isBefore(endTime); date = date.plusDays(1)) {
+            DayEntry entry = new DayEntry();
+            entry.recurring = availability.recurring();
+            days.put(date, entry);
+        }
+        for (TimeWindow window : availability.availableWindows()) {
+            for (LocalDate date = window.getStartTime().toLocalDate();
+                 date.atStartOfDay().isBefore(window.getEndTime()); date = date.plusDays(1)) {
+                DayEntry entry = days.get(date);
+                if (entry != null) {
+                    entry.apply(date, window.getStartTime(), window.getEndTime(), true);
+                }
+            }
+        }
+        return days;
+    }
+
+    private static void collectRuns(List<TimeWindow> windows, LocalDate date, DayBitmap bitmap, int from, int to) {
+        LocalDateTime dayStart = date.atStartOfDay();
+        int quarter = from;
+        while (quarter < to) {
+            if (!bitmap.isSet(quarter)) {
+                quarter++;
+                continue;
+            }
+            int runStart = quarter;
+            while (quarter < to && bitmap.isSet(quarter)) {
+                quarter++;
+            }
+            LocalDateTime start = dayStart.plusMinutes((long) runStart * DayBitmap.MINUTES_PER_QUARTER);
+            LocalDateTime end = dayStart.plusMinutes((long) quarter * DayBitmap.MINUTES_PER_QUARTER);
+
+            // Join runs that continue across midnight
+            int last = windows.size() - 1;
+            if (last >= 0 && windows.get(last).getEndTime().equals(start)) {
+                windows.set(last, new TimeWindow(windows.get(last).getStartTime(), end));
+            } else {
+                windows.add(new TimeWindow(start, end));
+            }
+        }
+    }
+
+    // Quarters of 'date' fully covered by [startTime, endTime), plus whether both ends sit on the grid
+    private static int[] quarterRange(LocalDate date, LocalDateTime startTime, LocalDateTime endTime) {
+        LocalDateTime dayStart = date.atStartOfDay();
+        LocalDateTime dayEnd = dayStart.plusDays(1);
+        LocalDateTime start = startTime.isAfter(dayStart) ? startTime : dayStart;
+        LocalDateTime end = endTime.isBefore(dayEnd) ? endTime : dayEnd;
+        long startNanos = Duration.between(dayStart, start).toNanos();
+        long endNanos = Duration.between(dayStart, end).toNanos();
+        int from = (int) ((startNanos + QUARTER_NANOS - 1) / QUARTER_NANOS);
+        int to = (int) (endNanos / QUARTER_NANOS);
+        boolean aligned = startNanos % QUARTER_NANOS == 0 && endNanos % QUARTER_NANOS == 0;
+        return new int[] {from, Math.max(from, to), aligned ? 1 : 0};
+    }
+
+    private static boolean isOnGrid(LocalDateTime dateTime) {
+        return dateTime.toLocalTime().toNanoOfDay() % QUARTER_NANOS == 0;
+    }
+
+    private static LocalDateTime normalizeEnd(LocalDateTime endTime) {
+        // Treat the inclusive end-of-day bound used by the controllers as the next midnight
+        return endTime.toLocalTime().equals(LocalTime.MAX) ? endTime.toLocalDate().plusDays(1).atStartOfDay() : endTime;
+    }
+
+    private static LocalDateTime dayStart(LocalDateTime dateTime) {
+        return dateTime.toLocalDate().atStartOfDay();
+    }
+
+    private static LocalDateTime dayEnd(LocalDateTime dateTime) {
+        return dateTime.minusNanos(1).toLocalDate().plusDays(1).atStartOfDay();
+    }
+
+    private static final class CalendarDays {
+        private final Map<Long, DayEntry> days = new HashMap<>();
+        // Bumped on every mutation so a concurrent load never installs a stale snapshot
+        private long generation;
+    }
+
+    private static final class DayEntry {
+        private final DayBitmap bitmap = new DayBitmap();
+        // Available slots not on the grid; their partial quarters are invisible to the bitmap
+        private int unalignedAvailable;
+        private boolean recurring;
+
+        private void apply(LocalDate date, LocalDateTime startTime, LocalDateTime endTime, boolean added) {
+            int[] quarters = quarterRange(date, startTime, endTime);
+            if (added) {
+                bitmap.set(quarters[0], quarters[1]);
+            } else {
+                bitmap.clear(quarters[0], quarters[1]);
+            }
+            if (quarters[2] == 0) {
+                unalignedAvailable = Math.max(0, unalignedAvailable + (added ? 1 : -1));
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package com.doodle.service.index;
+
+import com.doodle.repository.TimeSlotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-calendar in-memory interval trees used to answer slot overlap checks without
+ * hitting the database. Calendars are loaded lazily on first lookup and kept in sync
+ * with committed slot mutations. Lookups return empty when the calendar cannot be
+ * served from memory so callers fall back to the database query.
+ */
+@Component
+public class SlotOverlapIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlotOverlapIndex.class);
+
+    private final TimeSlotRepository timeSlotRepository;
+    private final boolean enabled;
+    private final boolean verify;
+    private final int maxCalendars;
+    private final long refreshAfterMillis;
+
+    // Holds loaded calendars and placeholders of loads in flight; mutations mark placeholders stale
+    private final Map<UUID, CalendarIntervals> calendars = new ConcurrentHashMap<>();
+
+    @Autowired
+    public SlotOverlapIndex(
+            TimeSlotRepository timeSlotRepository,
+            @Value("${doodle.scheduling.overlap-index.enabled:true}") boolean enabled,
+            @Value("${doodle.scheduling.overlap-index.verify:false}") boolean verify,
+            @Value("${doodle.scheduling.overlap-index.max-calendars:10000}") int maxCalendars,
+            @Value("${doodle.scheduling.overlap-index.refresh-after-seconds:300}") long refreshAfterSeconds) {
+        this.timeSlotRepository = timeSlotRepository;
+        this.enabled = enabled;
+        this.verify = verify;
+        this.maxCalendars = maxCalendars;
+        this.refreshAfterMillis = refreshAfterSeconds * 1000;
+    }
+
+    public Optional<Boolean> hasOverlap(UUID calendarId, LocalDateTime startTime, LocalDateTime endTime, UUID excludeSlotId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        CalendarIntervals intervals = getOrLoad(calendarId);
+        if (intervals == null) {
+            return Optional.empty();
+        }
+        boolean overlaps;
+        synchronized (intervals) {
+            overlaps = intervals.tree.overlaps(startTime, endTime, excludeSlotId);
+        }
+        
+        if (verify) {
+            boolean expected = timeSlotRepository.existsOverlappingSlot(calendarId, excludeSlotId, startTime, endTime);
+            if (expected != overlaps) {
+                throw new IllegalStateException("Overlap index out of sync for calendar " + calendarId +
+                    ": index=" + overlaps + ", database=" + expected);
+            }
+        }
+        return Optional.of(overlaps);
+    }
+
+    public void slotSaved(UUID calendarId, UUID slotId, LocalDateTime startTime, LocalDateTime endTime) {
+        TransactionCallbacks.afterCommit(() -> apply(calendarId, slotId, startTime, endTime));
+    }
+
+    public void slotDeleted(UUID calendarId, UUID slotId) {
+        TransactionCallbacks.afterCommit(() -> apply(calendarId, slotId, null, null));
+    }
+
+    public void invalidateCalendar(UUID calendarId) {
+        TransactionCallbacks.afterCommit(() -> calendars.remove(calendarId));
+    }
+
+    private void apply(UUID calendarId, UUID slotId, LocalDateTime startTime, LocalDateTime endTime) {
+        // Runs under the map's lock for the key, so it cannot interleave with a load installing
+        calendars.computeIfPresent(calendarId, (id, intervals) -> {
+            synchronized (intervals) {
+                if (intervals.loading) {
+                    intervals.stale = true;
+                    return intervals;
+                }
+                LocalDateTime previousStart = intervals.starts.remove(slotId);
+                if (previousStart != null) {
+                    intervals.tree.remove(slotId, previousStart);
+                }
+                if (startTime != null) {
+                    intervals.tree.insert(slotId, startTime, endTime);
+                    intervals.starts.put(slotId, startTime);
+                }
+            }
+            return intervals;
+        });
+    }
+
+    private CalendarIntervals getOrLoad(UUID calendarId) {
+        CalendarIntervals intervals = calendars.get(calendarId);
+        if (intervals != null && !intervals.loading
+                && System.currentTimeMillis() - intervals.loadedAt < refreshAfterMillis) {
+            return intervals;
+        }
+
+        CalendarIntervals placeholder = CalendarIntervals.loading();
+        if (calendars.size() >= maxCalendars && !calendars.containsKey(calendarId)) {
+            evictOne();
+        }
+        calendars.put(calendarId, placeholder);
+
+        CalendarIntervals loaded;
+        try {
+            loaded = load(calendarId);
+        } catch (RuntimeException e) {
+            calendars.remove(calendarId, placeholder);
+            logger.warn("Failed to load overlap index for calendar: {}", calendarId, e);
+            return null;
+        }
+
+        // Install only if no mutation, eviction, invalidation or other load touched the placeholder
+        CalendarIntervals installed = calendars.compute(calendarId, (id, current) -> {
+            if (current != placeholder) {
+                return current;
+            }
+            synchronized (placeholder) {
+                return placeholder.stale ? null : loaded;
+            }
+        });
+        // A slot changed while we were loading; let the caller use the database this time
+        return installed == loaded ? loaded : null;
+    }
+
+    private CalendarIntervals load(UUID calendarId) {
+        List<Object[]> rows = timeSlotRepository.findSlotIntervalsByCalendarId(calendarId);
+        CalendarIntervals intervals = new CalendarIntervals();
+        for (Object[] row : rows) {
+            UUID slotId = (UUID) row[0];
+            LocalDateTime startTime = (LocalDateTime) row[1];
+            LocalDateTime endTime = (LocalDateTime) row[2];
+            intervals.tree.insert(slotId, startTime, endTime);
+            intervals.starts.put(slotId, startTime);
+        }
+        logger.debug("Loaded overlap index for calendar: {} with {} slots", calendarId, rows.size());
+        return intervals;
+    }
+
+    private void evictOne() {
+        Iterator<UUID> iterator = calendars.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class CalendarIntervals {
+        private final IntervalTree tree = new IntervalTree();
+        private final Map<UUID, LocalDateTime> starts = new HashMap<>();
+        private final long loadedAt = System.currentTimeMillis();
+        // A placeholder for a load in flight, never served
+        private final boolean loading;
+        // Set on a placeholder when a slot of the calendar changes before the load installs
+        private boolean stale;
+
+        private CalendarIntervals() {
+            this(false);
+        }
+
+        private CalendarIntervals(boolean loading) {
+            this.loading = loading;
+        }
+
+        private static CalendarIntervals loading() {
+            return new CalendarIntervals(true);
+        }
+    }
+}
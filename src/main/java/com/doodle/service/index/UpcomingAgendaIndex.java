@@ -0,0 +1,261 @@
+package com.doodle.service.index;
+
+import com.doodle.domain.AgendaItem;
+import com.doodle.domain.Meeting;
+import com.doodle.repository.MeetingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user bounded agenda of the next meetings a user attends or hosts, ordered by start
+ * time. Users are loaded lazily on first read and then kept up to date from committed
+ * meeting mutations, so an agenda read is served from memory. Reads return empty when
+ * the user cannot be served from memory so callers fall back to the database query.
+ */
+@Component
+public class UpcomingAgendaIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpcomingAgendaIndex.class);
+
+    private static final Comparator<AgendaItem> BY_START_TIME = Comparator
+        .comparing(AgendaItem::getStartTime)
+        .thenComparing(AgendaItem::getMeetingId);
+
+    private final MeetingRepository meetingRepository;
+    private final boolean enabled;
+    private final int size;
+    private final int maxUsers;
+
+    // Holds loaded agendas and placeholders of loads in flight; mutations mark placeholders stale
+    private final Map<String, UserAgenda> agendas = new ConcurrentHashMap<>();
+    // Bumped by invalidateAll so a load that started before it never installs its result
+    private final AtomicLong epoch = new AtomicLong();
+
+    @Autowired
+    public UpcomingAgendaIndex(
+            MeetingRepository meetingRepository,
+            @Value("${doodle.agenda.enabled:true}") boolean enabled,
+            @Value("${doodle.agenda.size:50}") int size,
+            @Value("${doodle.agenda.max-users:100000}") int maxUsers) {
+        this.meetingRepository = meetingRepository;
+        this.enabled = enabled;
+        this.size = size;
+        this.maxUsers = maxUsers;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public Optional<List<AgendaItem>> getAgenda(String userId, LocalDateTime from, int limit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        UserAgenda agenda = agendas.get(userId);
+        if (agenda != null && !agenda.loading) {
+            synchronized (agenda) {
+                agenda.prune(from);
+                if (agenda.canServe(limit)) {
+                    return Optional.of(agenda.first(limit));
+                }
+            }
+        }
+
+        // Not loaded yet, or too many entries went by to answer from what is left
+        agenda = load(userId, from);
+        if (agenda == null) {
+            return Optional.empty();
+        }
+        synchronized (agenda) {
+            return Optional.of(agenda.first(limit));
+        }
+    }
+
+    public void meetingSaved(Meeting meeting) {
+        meetingSaved(attendees(meeting), toItem(meeting));
+    }
+
+    public void meetingRemoved(Meeting meeting) {
+        meetingRemoved(attendees(meeting), meeting.getId());
+    }
+
+    public void meetingSaved(Collection<String> userIds, AgendaItem item) {
+        List<String> users = List.copyOf(userIds);
+        TransactionCallbacks.afterCommit(() -> users.forEach(userId -> apply(userId, item.getMeetingId(), item)));
+    }
+
+    public void meetingRemoved(Collection<String> userIds, UUID meetingId) {
+        List<String> users = List.copyOf(userIds);
+        TransactionCallbacks.afterCommit(() -> users.forEach(userId -> apply(userId, meetingId, null)));
+    }
+
+    public void invalidateAll() {
+        TransactionCallbacks.afterCommit(() -> {
+            epoch.incrementAndGet();
+            agendas.clear();
+        });
+    }
+
+    // Participants plus the owner of the calendar the meeting is booked in
+    public static Set<String> attendees(Meeting meeting) {
+        Set<String> users = new LinkedHashSet<>(meeting.getParticipants());
+        users.add(meeting.getTimeSlot().getCalendar().getUserId());
+        return users;
+    }
+
+    public static AgendaItem toItem(Meeting meeting) {
+        return new AgendaItem(meeting.getId(), meeting.getTitle(), meeting.getStartTime(), meeting.getEndTime());
+    }
+
+    private void apply(String userId, UUID meetingId, AgendaItem item) {
+        // Runs under the map's lock for the key, so it cannot interleave with a load installing
+        agendas.computeIfPresent(userId, (id, agenda) -> {
+            synchronized (agenda) {
+                if (agenda.loading) {
+                    agenda.stale = true;
+                } else {
+                    agenda.remove(meetingId);
+                    if (item != null) {
+                        agenda.add(item);
+                    }
+                }
+            }
+            return agenda;
+        });
+    }
+
+    private UserAgenda load(String userId, LocalDateTime from) {
+        long loadEpoch = epoch.get();
+        UserAgenda placeholder = UserAgenda.loading(size);
+        if (agendas.size() >= maxUsers && !agendas.containsKey(userId)) {
+            evictOne();
+        }
+        agendas.put(userId, placeholder);
+
+        List<AgendaItem> items;
+        try {
+            items = meetingRepository.findUpcomingAgenda(userId, from, PageRequest.of(0, size + 1));
+        } catch (RuntimeException e) {
+            agendas.remove(userId, placeholder);
+            logger.warn("Failed to load agenda for user: {}", userId, e);
+            return null;
+        }
+
+        UserAgenda agenda = new UserAgenda(size);
+        for (AgendaItem item : items) {
+            agenda.add(item);
+        }
+        // Install only if no mutation, eviction, other load or invalidateAll touched the placeholder;
+        // otherwise a meeting changed while we were loading, so serve this read but do not keep it
+        UserAgenda installed = agendas.compute(userId, (id, current) -> {
+            if (current != placeholder) {
+                return current;
+            }
+            synchronized (placeholder) {
+                return placeholder.stale || epoch.get() != loadEpoch ? null : agenda;
+            }
+        });
+        if (installed == agenda) {
+            logger.debug("Loaded agenda for user: {} with {} meetings", userId, agenda.items.size());
+        }
+        return agenda;
+    }
+
+    private void evictOne() {
+        Iterator<String> iterator = agendas.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static final class UserAgenda {
+        private final int capacity;
+        // A placeholder for a load in flight, never served
+        private final boolean loading;
+        // Set on a placeholder when a meeting of the user changes before the load installs
+        private boolean stale;
+        private final TreeSet<AgendaItem> items = new TreeSet<>(BY_START_TIME);
+        private final Map<UUID, AgendaItem> byMeeting = new HashMap<>();
+        // First entry dropped for capacity: meetings from here on may be missing, while every
+        // meeting before it is kept. Removals do not move it, so later additions stay rejected
+        private AgendaItem horizon;
+
+        private UserAgenda(int capacity) {
+            this(capacity, false);
+        }
+
+        private UserAgenda(int capacity, boolean loading) {
+            this.capacity = capacity;
+            this.loading = loading;
+        }
+
+        private static UserAgenda loading(int capacity) {
+            return new UserAgenda(capacity, true);
+        }
+
+        private void add(AgendaItem item) {
+            if (horizon != null && BY_START_TIME.compare(item, horizon) >= 0) {
+                return;
+            }
+            if (items.size() >= capacity && BY_START_TIME.compare(item, items.last()) > 0) {
+                horizon = item;
+                return;
+            }
+            items.add(item);
+            byMeeting.put(item.getMeetingId(), item);
+            if (items.size() > capacity) {
+                horizon = items.pollLast();
+                byMeeting.remove(horizon.getMeetingId());
+            }
+        }
+
+        private void remove(UUID meetingId) {
+            AgendaItem previous = byMeeting.remove(meetingId);
+            if (previous != null) {
+                items.remove(previous);
+            }
+        }
+
+        private void prune(LocalDateTime from) {
+            while (!items.isEmpty() && items.first().getStartTime().isBefore(from)) {
+                byMeeting.remove(items.pollFirst().getMeetingId());
+            }
+        }
+
+        private boolean canServe(int limit) {
+            return horizon == null || items.size() >= limit;
+        }
+
+        private List<AgendaItem> first(int limit) {
+            List<AgendaItem> result = new ArrayList<>(Math.min(limit, items.size()));
+            for (AgendaItem item : items) {
+                if (result.size() == limit) {
+                    break;
+                }
+                result.add(item);
+            }
+            return result;
+        }
+    }
+}
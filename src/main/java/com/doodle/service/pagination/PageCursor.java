@@ -0,0 +1,79 @@
+package com.doodle.service.pagination;
+
+import com.doodle.domain.CursorPage;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Opaque continuation token for keyset pagination on (start_time, id). Listings fetch
+ * limit + 1 rows ordered by that key and seek past the last row of the previous page,
+ * so no OFFSET scan or COUNT query is needed.
+ */
+public final class PageCursor {
+
+    // Sorts after every real id, used for rows that only exist in memory (recurring occurrences)
+    public static final UUID LAST_ID = new UUID(-1L, -1L);
+
+    public static final int MAX_LIMIT = 200;
+
+    private final LocalDateTime startTime;
+    private final UUID id;
+
+    public PageCursor(LocalDateTime startTime, UUID id) {
+        this.startTime = startTime;
+        this.id = id;
+    }
+
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            return new PageCursor(LocalDateTime.parse(value.substring(0, separator)),
+                UUID.fromString(value.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString((startTime + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds a page from up to limit + 1 rows; the extra row only signals that more follow.
+     */
+    public static <T> CursorPage<T> toPage(List<T> rows, int limit, Function<T, LocalDateTime> startTime,
+                                           Function<T, UUID> id) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        T last = items.get(limit - 1);
+        UUID lastId = id.apply(last);
+        return new CursorPage<>(List.copyOf(items),
+            new PageCursor(startTime.apply(last), lastId != null ? lastId : LAST_ID).encode());
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,155 @@
+package com.doodle.service.search;
+
+import com.doodle.repository.MeetingRepository;
+import com.doodle.service.index.TransactionCallbacks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Ranked meeting title search. On PostgreSQL with pg_trgm (migration V8) the query is
+ * answered by the GIN trigram index; elsewhere, e.g. on H2, an in-process trigram index
+ * built from the meetings table gives the same matches and ranking. Both return meeting
+ * IDs ordered by trigram similarity.
+ */
+@Component
+public class MeetingTitleSearch {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingTitleSearch.class);
+
+    private static final String WHERE =
+        "FROM meetings m WHERE m.title % :query OR m.title ILIKE :pattern";
+
+    private final MeetingRepository meetingRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean indexedByDatabase;
+
+    // Loads and committed mutations both run under the index lock, so a mutation that
+    // commits while the index loads is applied after the load rather than lost
+    private final TrigramIndex index = new TrigramIndex();
+    private boolean loaded;
+
+    @Autowired
+    public MeetingTitleSearch(MeetingRepository meetingRepository, DataSource dataSource,
+                              @Value("${doodle.search.database.enabled:true}") boolean databaseEnabled) {
+        this.meetingRepository = meetingRepository;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.indexedByDatabase = databaseEnabled && detect(dataSource);
+        logger.info("Meeting title search uses {}", indexedByDatabase ? "pg_trgm index" : "in-process trigram index");
+    }
+
+    public boolean isIndexedByDatabase() {
+        return indexedByDatabase;
+    }
+
+    public Page<UUID> search(String query, Pageable pageable) {
+        if (indexedByDatabase) {
+            return searchDatabase(query, pageable);
+        }
+        List<TrigramIndex.Match> matches;
+        synchronized (index) {
+            ensureLoaded();
+            matches = index.search(query);
+        }
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        List<UUID> ids = matches.subList(from, to).stream().map(TrigramIndex.Match::id).toList();
+        return new PageImpl<>(ids, pageable, matches.size());
+    }
+
+    public void meetingSaved(UUID meetingId, String title) {
+        if (!indexedByDatabase) {
+            TransactionCallbacks.afterCommit(() -> apply(meetingId, title));
+        }
+    }
+
+    public void meetingDeleted(UUID meetingId) {
+        if (!indexedByDatabase) {
+            TransactionCallbacks.afterCommit(() -> apply(meetingId, null));
+        }
+    }
+
+    // Meetings removed in bulk, e.g. with their calendar; reloaded on the next search
+    public void invalidate() {
+        if (!indexedByDatabase) {
+            TransactionCallbacks.afterCommit(() -> {
+                synchronized (index) {
+                    loaded = false;
+                }
+            });
+        }
+    }
+
+    private Page<UUID> searchDatabase(String query, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("query", query)
+            .addValue("pattern", "%" + escapeLike(query) + "%")
+            .addValue("limit", pageable.getPageSize())
+            .addValue("offset", pageable.getOffset());
+        List<UUID> ids = jdbcTemplate.queryForList(
+            "SELECT m.id " + WHERE + " ORDER BY similarity(m.title, :query) DESC, m.title, m.id " +
+            "LIMIT :limit OFFSET :offset", params, UUID.class);
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*) " + WHERE, params, Long.class);
+        return new PageImpl<>(ids, pageable, total != null ? total : 0L);
+    }
+
+    private void apply(UUID meetingId, String title) {
+        synchronized (index) {
+            if (!loaded) {
+                return;
+            }
+            if (title != null) {
+                index.put(meetingId, title);
+            } else {
+                index.remove(meetingId);
+            }
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        index.clear();
+        for (Object[] row : meetingRepository.findAllTitles()) {
+            index.put((UUID) row[0], (String) row[1]);
+        }
+        loaded = true;
+        logger.debug("Loaded meeting title search index with {} meetings", index.size());
+    }
+
+    private static String escapeLike(String query) {
+        return query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static boolean detect(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return false;
+            }
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm'");
+                 ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next();
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not detect pg_trgm, using in-process title search", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.doodle.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory inverted index from trigram to document IDs. A query only touches the posting
+ * lists of its own trigrams; a document matches when it contains the query as a substring
+ * or its trigram similarity reaches {@link Trigrams#SIMILARITY_THRESHOLD}. Not thread-safe.
+ */
+public class TrigramIndex {
+
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    private final Map<UUID, String> texts = new HashMap<>();
+    private final Map<UUID, Integer> trigramCounts = new HashMap<>();
+
+    public void put(UUID id, String text) {
+        remove(id);
+        Set<String> trigrams = Trigrams.of(text);
+        for (String trigram : trigrams) {
+            postings.computeIfAbsent(trigram, t -> new HashSet<>()).add(id);
+        }
+        texts.put(id, text);
+        trigramCounts.put(id, trigrams.size());
+    }
+
+    public void remove(UUID id) {
+        String previous = texts.remove(id);
+        if (previous == null) {
+            return;
+        }
+        trigramCounts.remove(id);
+        for (String trigram : Trigrams.of(previous)) {
+            Set<UUID> ids = postings.get(trigram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    postings.remove(trigram);
+                }
+            }
+        }
+    }
+
+    public void clear() {
+        postings.clear();
+        texts.clear();
+        trigramCounts.clear();
+    }
+
+    public int size() {
+        return texts.size();
+    }
+
+    // Matches ordered by similarity, then text and ID, like the database query
+    public List<Match> search(String query) {
+        Set<String> queryTrigrams = Trigrams.of(query);
+        Map<UUID, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            for (UUID id : postings.getOrDefault(trigram, Set.of())) {
+                shared.merge(id, 1, Integer::sum);
+            }
+        }
+
+        String needle = query.toLowerCase(Locale.ROOT);
+        List<Match> matches = new ArrayList<>();
+        for (Map.Entry<UUID, Integer> candidate : shared.entrySet()) {
+            UUID id = candidate.getKey();
+            String text = texts.get(id);
+            double score = Trigrams.similarity(candidate.getValue(), queryTrigrams.size(), trigramCounts.get(id));
+            if (score >= Trigrams.SIMILARITY_THRESHOLD || text.toLowerCase(Locale.ROOT).contains(needle)) {
+                matches.add(new Match(id, text, score));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match::score).reversed()
+            .thenComparing(Match::text)
+            .thenComparing(Match::id));
+        return matches;
+    }
+
+    public record Match(UUID id, String text, double score) {}
+}
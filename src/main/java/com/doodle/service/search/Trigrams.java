@@ -0,0 +1,50 @@
+package com.doodle.service.search;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Trigram extraction and similarity as defined by PostgreSQL's pg_trgm, so the in-process
+ * search ranks titles the same way the database does: text is lower-cased, split into
+ * alphanumeric words, each word is padded with two leading and one trailing space, and
+ * similarity is the number of shared trigrams over the size of their union.
+ */
+public final class Trigrams {
+
+    // pg_trgm.similarity_threshold default, used by the % operator
+    public static final double SIMILARITY_THRESHOLD = 0.3;
+
+    private Trigrams() {}
+
+    public static Set<String> of(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        if (text == null) {
+            return trigrams;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        int wordStart = -1;
+        for (int i = 0; i <= lower.length(); i++) {
+            boolean alphanumeric = i < lower.length() && Character.isLetterOrDigit(lower.charAt(i));
+            if (alphanumeric && wordStart < 0) {
+                wordStart = i;
+            } else if (!alphanumeric && wordStart >= 0) {
+                addWord(trigrams, lower.substring(wordStart, i));
+                wordStart = -1;
+            }
+        }
+        return trigrams;
+    }
+
+    public static double similarity(int shared, int leftCount, int rightCount) {
+        int union = leftCount + rightCount - shared;
+        return union == 0 ? 0.0 : (double) shared / union;
+    }
+
+    private static void addWord(Set<String> trigrams, String word) {
+        String padded = "  " + word + " ";
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.doodle.service.stats;
+
+import com.doodle.repository.ParticipantMeetingRepository;
+import com.doodle.repository.ParticipantStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Maintains the participant_stats meeting counters. Callers pass the participants whose
+ * participant_meetings rows they add or remove, inside the same transaction, and the
+ * deltas are upserted in one JDBC batch. Rows are written in participant ID order so
+ * concurrent transactions lock shared counters in the same order and cannot deadlock.
+ * A periodic reconcile recounts from participant_meetings and repairs any drift.
+ */
+@Component
+public class ParticipantStatsCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantStatsCounter.class);
+
+    private static final String POSTGRES_UPSERT =
+        "INSERT INTO participant_stats (participant_id, meeting_count, updated_at) " +
+        "VALUES (:participantId, :delta, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (participant_id) DO UPDATE SET " +
+        "meeting_count = participant_stats.meeting_count + EXCLUDED.meeting_count, " +
+        "updated_at = EXCLUDED.updated_at";
+
+    private static final String MERGE_UPSERT =
+        "MERGE INTO participant_stats ps " +
+        "USING (VALUES (CAST(:participantId AS VARCHAR(255)), CAST(:delta AS BIGINT))) AS d(participant_id, delta) " +
+        "ON ps.participant_id = d.participant_id " +
+        "WHEN MATCHED THEN UPDATE SET meeting_count = ps.meeting_count + d.delta, updated_at = CURRENT_TIMESTAMP " +
+        "WHEN NOT MATCHED THEN INSERT (participant_id, meeting_count, updated_at) " +
+        "VALUES (d.participant_id, d.delta, CURRENT_TIMESTAMP)";
+
+    // One grouped count of participant_meetings joined to the counters, instead of a
+    // correlated recount per counter row
+    private static final String POSTGRES_REPAIR =
+        "UPDATE participant_stats ps SET meeting_count = c.meeting_count, updated_at = CURRENT_TIMESTAMP " +
+        "FROM (SELECT participant_id, COUNT(*) AS meeting_count FROM participant_meetings " +
+        "GROUP BY participant_id) c " +
+        "WHERE ps.participant_id = c.participant_id AND ps.meeting_count <> c.meeting_count";
+
+    private static final String MERGE_REPAIR =
+        "MERGE INTO participant_stats ps " +
+        "USING (SELECT participant_id, COUNT(*) AS meeting_count FROM participant_meetings " +
+        "GROUP BY participant_id) c " +
+        "ON ps.participant_id = c.participant_id " +
+        "WHEN MATCHED AND ps.meeting_count <> c.meeting_count THEN " +
+        "UPDATE SET meeting_count = c.meeting_count, updated_at = CURRENT_TIMESTAMP";
+
+    // Transaction-scoped, so it is released with the reconcile transaction even if the node dies
+    private static final String POSTGRES_TRY_LOCK = "SELECT pg_try_advisory_xact_lock(:key)";
+
+    // Advisory lock key of the reconcile job; any constant other jobs do not use
+    private static final long RECONCILE_LOCK_KEY = 7_301_240_511L;
+
+    private final ParticipantStatsRepository statsRepository;
+    private final ParticipantMeetingRepository participantMeetingRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+    private final String upsert;
+    private final String repair;
+    private final boolean reconcileEnabled;
+
+    @Autowired
+    public ParticipantStatsCounter(ParticipantStatsRepository statsRepository,
+                                   ParticipantMeetingRepository participantMeetingRepository,
+                                   DataSource dataSource,
+                                   @Value("${doodle.participant-stats.reconcile.enabled:true}") boolean reconcileEnabled) {
+        this.statsRepository = statsRepository;
+        this.participantMeetingRepository = participantMeetingRepository;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.postgres = isPostgres(dataSource);
+        this.upsert = postgres ? POSTGRES_UPSERT : MERGE_UPSERT;
+        this.repair = postgres ? POSTGRES_REPAIR : MERGE_REPAIR;
+        this.reconcileEnabled = reconcileEnabled;
+    }
+
+    public long getMeetingCount(String participantId) {
+        return statsRepository.findMeetingCount(participantId).orElse(0L);
+    }
+
+    public void increment(Collection<String> participantIds) {
+        adjust(participantIds, 1);
+    }
+
+    public void decrement(Collection<String> participantIds) {
+        adjust(participantIds, -1);
+    }
+
+    public void apply(Map<String, Long> deltas) {
+        List<SqlParameterSource> batch = new ArrayList<>(deltas.size());
+        for (Map.Entry<String, Long> entry : new TreeMap<>(deltas).entrySet()) {
+            if (entry.getValue() != 0) {
+                batch.add(new MapSqlParameterSource()
+                    .addValue("participantId", entry.getKey())
+                    .addValue("delta", entry.getValue()));
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(upsert, batch.toArray(new SqlParameterSource[0]));
+        }
+    }
+
+    // Must run before the calendar is deleted, while its participant_meetings rows still exist
+    public void calendarDeleted(UUID calendarId) {
+        Map<String, Long> deltas = new TreeMap<>();
+        for (Object[] row : participantMeetingRepository.countByCalendarId(calendarId)) {
+            deltas.put((String) row[0], -((Long) row[1]));
+        }
+        apply(deltas);
+    }
+
+    /**
+     * Recounts every participant from participant_meetings and fixes counters that differ
+     * or are missing. Runs under repeatable read, so a counter changed by a concurrent
+     * booking after the recount started fails the run instead of being overwritten with
+     * a stale count; the next run picks it up. Every instance schedules the run, but on
+     * PostgreSQL only the one that gets the advisory lock recounts; the others skip it.
+     */
+    @Scheduled(initialDelayString = "${doodle.participant-stats.reconcile.interval:PT1H}",
+               fixedDelayString = "${doodle.participant-stats.reconcile.interval:PT1H}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int reconcile() {
+        if (!reconcileEnabled) {
+            return 0;
+        }
+        if (postgres && !Boolean.TRUE.equals(jdbcTemplate.queryForObject(POSTGRES_TRY_LOCK,
+                Map.of("key", RECONCILE_LOCK_KEY), Boolean.class))) {
+            logger.debug("Participant meeting counters are being reconciled by another instance");
+            return 0;
+        }
+        int repaired = jdbcTemplate.update(repair, Map.of())
+            + statsRepository.resetCountsWithoutMeetings()
+            + statsRepository.insertMissingCounts();
+        if (repaired > 0) {
+            logger.warn("Repaired {} drifted participant meeting counters", repaired);
+        } else {
+            logger.debug("Participant meeting counters are in sync");
+        }
+        return repaired;
+    }
+
+    private void adjust(Collection<String> participantIds, long delta) {
+        Map<String, Long> deltas = new TreeMap<>();
+        for (String participantId : participantIds) {
+            deltas.put(participantId, delta);
+        }
+        apply(deltas);
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException e) {
+            logger.warn("Could not detect database, using MERGE for participant counters", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+-- Conflict checks filter on start_time < :end AND end_time > :start. Scanning by end time
+-- bounds the scan to meetings not yet over at :start without assuming a maximum meeting
+-- length, which the start time index would need to stop scanning a participant's history.
+CREATE INDEX idx_participant_meetings_end_time
+    ON participant_meetings(participant_id, end_time) INCLUDE (start_time, meeting_id);
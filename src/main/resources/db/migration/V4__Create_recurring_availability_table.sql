@@ -0,0 +1,17 @@
+CREATE TABLE recurring_availability (
+    id UUID PRIMARY KEY DEFAULT uuid_generate_v4(),
+    calendar_id UUID NOT NULL REFERENCES calendars(id) ON DELETE CASCADE,
+    days_of_week INTEGER NOT NULL CHECK (days_of_week > 0 AND days_of_week < 128),
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    slot_duration_minutes INTEGER NOT NULL CHECK (slot_duration_minutes BETWEEN 15 AND 480),
+    valid_from DATE NOT NULL,
+    valid_until DATE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    
+    CONSTRAINT check_recurring_availability_hours CHECK (end_time > start_time),
+    CONSTRAINT check_recurring_availability_validity CHECK (valid_until IS NULL OR valid_until >= valid_from)
+);
+
+CREATE INDEX idx_recurring_availability_calendar_id ON recurring_availability(calendar_id);
@@ -0,0 +1,2 @@
+-- Supports keyset pagination ordered by (start_time, id) within a calendar
+CREATE INDEX idx_time_slot_calendar_start_id ON time_slots(calendar_id, start_time, id);
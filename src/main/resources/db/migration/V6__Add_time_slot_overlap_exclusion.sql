@@ -0,0 +1,8 @@
+-- Reject overlapping slots within a calendar in the database itself, so concurrent
+-- writers cannot both pass the application-level overlap check.
+-- btree_gist provides the GiST equality operator class for calendar_id.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+ALTER TABLE time_slots
+    ADD CONSTRAINT exclude_time_slot_overlap
+    EXCLUDE USING gist (calendar_id WITH =, tsrange(start_time, end_time, '[)') WITH &&);
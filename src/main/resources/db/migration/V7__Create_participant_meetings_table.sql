@@ -0,0 +1,21 @@
+-- Denormalized participant index: participant lookups filter and order by start time
+-- without joining meetings and time_slots or probing meeting_participants per meeting.
+CREATE TABLE participant_meetings (
+    participant_id VARCHAR(255) NOT NULL,
+    meeting_id UUID NOT NULL REFERENCES meetings(id) ON DELETE CASCADE,
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP NOT NULL,
+    PRIMARY KEY (participant_id, meeting_id)
+);
+
+-- Covering index: participant lookups, time range filters, keyset pagination and counts
+-- are answered by an index-only scan
+CREATE INDEX idx_participant_meetings_covering
+    ON participant_meetings(participant_id, start_time, meeting_id) INCLUDE (end_time);
+CREATE INDEX idx_participant_meetings_meeting_id ON participant_meetings(meeting_id);
+
+INSERT INTO participant_meetings (participant_id, meeting_id, start_time, end_time)
+SELECT mp.participant_id, m.id, ts.start_time, ts.end_time
+FROM meeting_participants mp
+JOIN meetings m ON m.id = mp.meeting_id
+JOIN time_slots ts ON ts.id = m.time_slot_id;
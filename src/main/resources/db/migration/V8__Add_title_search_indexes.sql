@@ -0,0 +1,6 @@
+-- Trigram GIN indexes: ranked title search (% operator, similarity) and the existing
+-- LIKE '%...%' name and title filters become index scans instead of sequential scans
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_meeting_title_trgm ON meetings USING gin (title gin_trgm_ops);
+CREATE INDEX idx_calendar_name_trgm ON calendars USING gin (name gin_trgm_ops);
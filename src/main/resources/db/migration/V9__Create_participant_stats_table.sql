@@ -0,0 +1,12 @@
+-- Per-participant meeting counter, adjusted in the same transaction as participant_meetings,
+-- so the participant meeting count is a primary key lookup instead of an index range count
+CREATE TABLE participant_stats (
+    participant_id VARCHAR(255) PRIMARY KEY,
+    meeting_count BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO participant_stats (participant_id, meeting_count, updated_at)
+SELECT participant_id, COUNT(*), CURRENT_TIMESTAMP
+FROM participant_meetings
+GROUP BY participant_id;
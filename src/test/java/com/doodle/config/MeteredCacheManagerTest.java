@@ -0,0 +1,92 @@
+package com.doodle.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredCacheManagerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new MeteredCacheManager(new ConcurrentMapCacheManager("calendars"), meterRegistry)
+            .getCache("calendars");
+    }
+
+    @Test
+    void get_CountsHitsAndMisses() {
+        // Given
+        cache.put("1", "calendar");
+
+        // When
+        cache.get("1");
+        cache.get("1");
+        cache.get("2");
+
+        // Then
+        assertEquals(2, count("doodle.cache.gets", "result", "hit"));
+        assertEquals(1, count("doodle.cache.gets", "result", "miss"));
+        assertEquals(1, meterRegistry.get("doodle.cache.puts").tag("cache", "calendars").counter().count());
+    }
+
+    @Test
+    void getWithLoader_TimesOnlyActualLoads() {
+        // When
+        cache.get("1", () -> "loaded");
+        cache.get("1", () -> "loaded again");
+        cache.evict("1");
+
+        // Then
+        assertEquals(1, meterRegistry.get("doodle.cache.load").tag("cache", "calendars").timer().count());
+        assertEquals(1, count("doodle.cache.gets", "result", "hit"));
+        assertEquals(1, count("doodle.cache.gets", "result", "miss"));
+        assertEquals(1, count("doodle.cache.evict.requests", "operation", "evict"));
+    }
+
+    @Test
+    void evict_CountsRequestsByOperation() {
+        // Given
+        cache.put("1", "calendar");
+
+        // When
+        cache.evict("1");
+        cache.evictIfPresent("2");
+        cache.clear();
+
+        // Then
+        assertEquals(2, count("doodle.cache.evict.requests", "operation", "evict"));
+        assertEquals(1, count("doodle.cache.evict.requests", "operation", "clear"));
+    }
+
+    @Test
+    void cacheProperties_SpecsOverrideDefaults() {
+        // Given
+        CacheProperties properties = new CacheProperties();
+        CacheProperties.Spec calendars = new CacheProperties.Spec();
+        calendars.setTtl(Duration.ofSeconds(10));
+        calendars.setMaxSize(5L);
+        properties.setSpecs(Map.of("calendars", calendars));
+
+        // When & Then
+        assertEquals(Duration.ofSeconds(10), properties.ttlFor("calendars"));
+        assertEquals(Duration.ofMinutes(10), properties.ttlFor("meetings"));
+        assertEquals(5, properties.nearCacheMaxSizeFor("calendars"));
+        assertEquals(10000, properties.nearCacheMaxSizeFor("meetings"));
+        assertEquals(Duration.ofSeconds(10), properties.nearCacheTtlFor("calendars"));
+        assertEquals(Duration.ofSeconds(30), properties.nearCacheTtlFor("meetings"));
+    }
+
+    private double count(String name, String tag, String value) {
+        return meterRegistry.get(name).tag("cache", "calendars").tag(tag, value).counter().count();
+    }
+}
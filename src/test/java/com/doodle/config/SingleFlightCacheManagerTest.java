@@ -0,0 +1,87 @@
+package com.doodle.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightCacheManagerTest {
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SingleFlightCacheManager(new ConcurrentMapCacheManager("availableSlots"))
+            .getCache("availableSlots");
+    }
+
+    @Test
+    void get_ConcurrentMissesShareOneLoad() throws Exception {
+        // Given
+        int callers = 32;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch arrived = new CountDownLatch(callers);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                arrived.countDown();
+                return cache.get("key", () -> {
+                    loads.incrementAndGet();
+                    release.await();
+                    return "value";
+                });
+            }));
+        }
+
+        // When
+        assertTrue(arrived.await(10, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        release.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Then
+        for (Future<String> result : results) {
+            assertEquals("value", result.get());
+        }
+        assertEquals(1, loads.get());
+        assertEquals("value", cache.get("key").get());
+    }
+
+    @Test
+    void get_FailedLoadIsNotCachedAndCanBeRetried() {
+        // When
+        Cache.ValueRetrievalException failure = assertThrows(Cache.ValueRetrievalException.class,
+            () -> cache.get("key", () -> {
+                throw new IllegalStateException("database down");
+            }));
+
+        // Then
+        assertInstanceOf(IllegalStateException.class, failure.getCause());
+        assertNull(cache.get("key"));
+        assertEquals("value", cache.get("key", () -> "value"));
+    }
+
+    @Test
+    void get_DifferentKeysLoadIndependently() {
+        // When
+        String first = cache.get("first", () -> cache.get("second", () -> "nested") + "-outer");
+
+        // Then
+        assertEquals("nested-outer", first);
+        assertEquals("nested", cache.get("second").get());
+    }
+}
@@ -0,0 +1,183 @@
+package com.doodle.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheManagerTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("calendars", "availableSlots");
+        CacheProperties properties = new CacheProperties();
+        properties.getNearCache().setCaches(Set.of("calendars"));
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, properties,
+            new SimpleMeterRegistry());
+        cacheManager.setNearCacheActive(true);
+    }
+
+    @Test
+    void get_LocalHitSkipsRemote() {
+        // Given
+        Cache cache = cacheManager.getCache("calendars");
+        cache.put("42", "calendar");
+        remote("calendars").clear();
+
+        // When
+        Cache.ValueWrapper value = cache.get("42");
+
+        // Then
+        assertNotNull(value);
+        assertEquals("calendar", value.get());
+    }
+
+    @Test
+    void put_PublishesInvalidationForOtherNodes() {
+        // Given
+        Cache cache = cacheManager.getCache("calendars");
+
+        // When
+        cache.put("42", "calendar");
+        cache.evict("42");
+
+        // Then
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(2)).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), message.capture());
+        assertTrue(message.getAllValues().stream().allMatch(m -> m.endsWith("|calendars|42")));
+        assertNull(cache.get("42"));
+    }
+
+    @Test
+    void onInvalidation_FromOtherNodeDropsLocalEntry() {
+        // Given
+        Cache cache = cacheManager.getCache("calendars");
+        cache.put("42", "calendar");
+        remote("calendars").put("42", "renamed calendar");
+
+        // When
+        cacheManager.onInvalidation("other-node|calendars|42");
+
+        // Then
+        assertEquals("renamed calendar", cache.get("42").get());
+    }
+
+    @Test
+    void onInvalidation_OwnMessagesAreIgnored() {
+        // Given
+        Cache cache = cacheManager.getCache("calendars");
+        cache.put("42", "calendar");
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL), message.capture());
+        remote("calendars").put("42", "renamed calendar");
+
+        // When
+        cacheManager.onInvalidation(message.getValue());
+
+        // Then
+        assertEquals("calendar", cache.get("42").get());
+    }
+
+    @Test
+    void get_InvalidationDuringRemoteReadIsNotLost() {
+        // Given: another node invalidates while this node is still reading the old remote value
+        remoteCacheManager = new ConcurrentMapCacheManager("calendars") {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new ConcurrentMapCache(name) {
+                    @Override
+                    protected Object lookup(Object key) {
+                        Object value = super.lookup(key);
+                        if ("calendar".equals(value)) {
+                            put(key, "renamed calendar");
+                            cacheManager.onInvalidation("other-node|calendars|" + key);
+                        }
+                        return value;
+                    }
+                };
+            }
+        };
+        CacheProperties properties = new CacheProperties();
+        properties.getNearCache().setCaches(Set.of("calendars"));
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, properties,
+            new SimpleMeterRegistry());
+        cacheManager.setNearCacheActive(true);
+        remote("calendars").put("42", "calendar");
+        Cache cache = cacheManager.getCache("calendars");
+
+        // When
+        Object first = cache.get("42").get();
+
+        // Then: the value read before the invalidation was not kept locally
+        assertEquals("calendar", first);
+        assertEquals("renamed calendar", cache.get("42").get());
+    }
+
+    @Test
+    void get_EveryHitReturnsItsOwnCopy() {
+        // Given
+        Cache cache = cacheManager.getCache("calendars");
+        cache.put("42", new ArrayList<>(List.of("alice")));
+
+        // When
+        @SuppressWarnings("unchecked")
+        List<String> first = (List<String>) cache.get("42").get();
+        first.add("mallory");
+
+        // Then
+        assertEquals(List.of("alice"), cache.get("42").get());
+        assertNotSame(first, cache.get("42").get());
+    }
+
+    @Test
+    void getCache_InactiveNearCacheReadsRemote() {
+        // Given
+        Cache cache = cacheManager.getCache("calendars");
+        cache.put("42", "calendar");
+
+        // When
+        cacheManager.setNearCacheActive(false);
+        remote("calendars").put("42", "renamed calendar");
+
+        // Then
+        assertEquals("renamed calendar", cache.get("42").get());
+    }
+
+    @Test
+    void getCache_CachesOutsideNearCacheSetAreRemoteOnly() {
+        // When
+        Cache cache = cacheManager.getCache("availableSlots");
+        cache.put("key", "value");
+
+        // Then
+        assertInstanceOf(ConcurrentMapCache.class, cache);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    private Cache remote(String name) {
+        return remoteCacheManager.getCache(name);
+    }
+}
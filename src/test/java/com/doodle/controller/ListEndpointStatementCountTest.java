@@ -0,0 +1,179 @@
+package com.doodle.controller;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.service.CalendarService;
+import com.doodle.service.MeetingService;
+import com.doodle.service.TimeSlotService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every list endpoint must issue the same number of SQL statements for a short and a long
+ * result, i.e. no statement per returned row while the response is serialized.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:statementcountdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none"
+})
+class ListEndpointStatementCountTest {
+
+    private static final int FEW = 2;
+    private static final int MANY = 25;
+
+    private static final AtomicInteger DAYS = new AtomicInteger(10);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void meetingsByParticipantAndTimeRange() throws Exception {
+        assertConstant(data -> "/api/v1/meetings?participantId=" + data.participant
+            + "&startDate=" + data.day + "&endDate=" + data.day.plusDays(1), 1);
+    }
+
+    @Test
+    void meetingsByTimeRange() throws Exception {
+        assertConstant(data -> "/api/v1/meetings?startDate=" + data.day + "&endDate=" + data.day.plusDays(1), 1);
+    }
+
+    @Test
+    void meetingsByTitle() throws Exception {
+        assertConstant(data -> "/api/v1/meetings?title=" + data.run, 1);
+    }
+
+    @Test
+    void meetingsByParticipantPage() throws Exception {
+        assertConstant(data -> "/api/v1/meetings/participant/" + data.participant + "?size=50", 2);
+    }
+
+    @Test
+    void meetingsByParticipantCursor() throws Exception {
+        assertConstant(data -> "/api/v1/meetings/participant/" + data.participant + "/cursor?limit=50", 1);
+    }
+
+    @Test
+    void meetingsByCalendarUserPage() throws Exception {
+        assertConstant(data -> "/api/v1/meetings/calendar-user/" + data.owner + "?size=50", 2);
+    }
+
+    @Test
+    void meetingsByCalendarUserCursor() throws Exception {
+        assertConstant(data -> "/api/v1/meetings/calendar-user/" + data.owner + "/cursor?limit=50", 1);
+    }
+
+    @Test
+    void meetingSearch() throws Exception {
+        assertConstant(data -> "/api/v1/meetings/search?q=" + data.run + "&size=50", 1);
+    }
+
+    @Test
+    void slotsByTimeRangePage() throws Exception {
+        assertConstant(data -> "/api/v1/calendars/" + data.calendarId + "/slots?startDate=" + data.day
+            + "&endDate=" + data.day.plusDays(1) + "&size=100", 2);
+    }
+
+    @Test
+    void slotsByCursor() throws Exception {
+        assertConstant(data -> "/api/v1/calendars/" + data.calendarId + "/slots/cursor?startDate=" + data.day
+            + "&endDate=" + data.day.plusDays(1) + "&limit=100", 1);
+    }
+
+    @Test
+    void availableSlots() throws Exception {
+        assertConstant(data -> "/api/v1/calendars/" + data.calendarId + "/slots/available?startDate=" + data.day
+            + "&endDate=" + data.day.plusDays(1), 1);
+    }
+
+    // Participants are batch-fetched, so meeting lists may take one statement more than the query itself
+    private void assertConstant(Function<Data, String> url, int queries) throws Exception {
+        long few = statements(url.apply(data(FEW)));
+        long many = statements(url.apply(data(MANY)));
+
+        assertEquals(few, many, "Statement count grew with the result size");
+        assertTrue(many <= queries + 3, "Expected at most " + (queries + 3) + " statements but got " + many);
+    }
+
+    private long statements(String url) throws Exception {
+        // Warm-up: lazily built in-memory indexes load on first use only
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        statistics.clear();
+        mockMvc.perform(get(url)).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Data data(int meetings) {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        String owner = "owner-" + run;
+        String participant = "participant-" + run;
+        // Each data set gets its own day, so time range queries only see its own rows
+        LocalDate day = LocalDate.now().plusDays(DAYS.addAndGet(2));
+        Calendar calendar = calendarService.createCalendar(new Calendar("Team", owner, ZoneId.of("UTC")));
+
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 0; i < meetings * 2; i++) {
+            LocalDateTime start = day.atTime(8, 0).plusMinutes(15L * i);
+            slots.add(new TimeSlot(null, start, start.plusMinutes(15), SlotStatus.AVAILABLE));
+        }
+        timeSlotService.createTimeSlots(calendar.getId(), slots);
+        for (int i = 0; i < meetings; i++) {
+            TimeSlot reference = new TimeSlot();
+            reference.setId(slots.get(i * 2).getId());
+            Meeting meeting = new Meeting("Sync " + run + " " + i, null, reference);
+            meeting.setParticipants(new LinkedHashSet<>(List.of(participant, "guest-" + run + "-" + i)));
+            meetingService.scheduleMeeting(meeting);
+        }
+        return new Data(run, owner, participant, calendar.getId(), day);
+    }
+
+    private record Data(String run, String owner, String participant, UUID calendarId, LocalDate day) {}
+}
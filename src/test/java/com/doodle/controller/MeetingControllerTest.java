@@ -0,0 +1,68 @@
+package com.doodle.controller;
+
+import com.doodle.service.MeetingService;
+import com.doodle.service.exporting.MeetingExporter;
+import com.doodle.service.importing.MeetingImporter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(MeetingController.class)
+class MeetingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private MeetingService meetingService;
+
+    @MockBean
+    private MeetingImporter meetingImporter;
+
+    @MockBean
+    private MeetingExporter meetingExporter;
+
+    @Test
+    void exportMeetings_FailureAfterFirstLinesEndsStreamWithErrorLine() throws Exception {
+        // Given
+        when(meetingExporter.exportMeetings(any(), any(), any())).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(2);
+            output.write("{\"title\":\"Planning\"}\n".getBytes(StandardCharsets.UTF_8));
+            output.flush();
+            throw new IllegalStateException("connection lost");
+        });
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/meetings/export")
+                .param("startDate", "2030-01-01")
+                .param("endDate", "2030-01-31"))
+            .andExpect(status().isOk())
+            .andExpect(content().string("{\"title\":\"Planning\"}\n{\"error\":\"Export aborted\"}\n"));
+    }
+
+    @Test
+    void exportMeetings_FailureBeforeFirstLineIsAJsonError() throws Exception {
+        // Given
+        when(meetingExporter.exportMeetings(any(), any(), any()))
+            .thenThrow(new IllegalArgumentException("Export range must not exceed 366 days"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/meetings/export")
+                .param("startDate", "2030-01-01")
+                .param("endDate", "2032-01-01"))
+            .andExpect(status().isBadRequest())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.message").value("Export range must not exceed 366 days"));
+    }
+}
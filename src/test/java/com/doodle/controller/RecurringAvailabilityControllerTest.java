@@ -0,0 +1,83 @@
+package com.doodle.controller;
+
+import com.doodle.exception.custom.ResourceNotFoundException;
+import com.doodle.service.RecurringAvailabilityService;
+import com.doodle.service.TimeSlotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(RecurringAvailabilityController.class)
+class RecurringAvailabilityControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RecurringAvailabilityService recurringAvailabilityService;
+
+    @MockBean
+    private TimeSlotService timeSlotService;
+
+    @Test
+    void deleteRule_Success() throws Exception {
+        // Given
+        UUID calendarId = UUID.randomUUID();
+        UUID ruleId = UUID.randomUUID();
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/calendars/{calendarId}/availability-rules/{ruleId}", calendarId, ruleId))
+                .andExpect(status().isNoContent());
+
+        verify(recurringAvailabilityService).deleteRule(calendarId, ruleId);
+    }
+
+    @Test
+    void deleteRule_OfAnotherCalendar_NotFound() throws Exception {
+        // Given
+        UUID otherCalendarId = UUID.randomUUID();
+        UUID ruleId = UUID.randomUUID();
+
+        doThrow(new ResourceNotFoundException("Recurring availability not found with ID: " + ruleId))
+            .when(recurringAvailabilityService).deleteRule(otherCalendarId, ruleId);
+
+        // When & Then
+        mockMvc.perform(delete("/api/v1/calendars/{calendarId}/availability-rules/{ruleId}", otherCalendarId, ruleId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("RESOURCE_NOT_FOUND"));
+    }
+
+    @Test
+    void materializeOccurrence_OfAnotherCalendar_NotFound() throws Exception {
+        // Given
+        UUID otherCalendarId = UUID.randomUUID();
+        UUID ruleId = UUID.randomUUID();
+        LocalDateTime startTime = LocalDateTime.of(2030, 1, 7, 9, 0);
+
+        when(timeSlotService.materializeRecurringSlot(eq(otherCalendarId), eq(ruleId), any()))
+            .thenThrow(new ResourceNotFoundException("Recurring availability not found with ID: " + ruleId));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/calendars/{calendarId}/availability-rules/{ruleId}/occurrences",
+                    otherCalendarId, ruleId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"startTime\":\"2030-01-07T09:00:00\"}"))
+                .andExpect(status().isNotFound());
+
+        verify(timeSlotService).materializeRecurringSlot(otherCalendarId, ruleId, startTime);
+    }
+}
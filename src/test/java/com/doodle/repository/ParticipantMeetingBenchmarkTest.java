@@ -0,0 +1,160 @@
+package com.doodle.repository;
+
+import com.doodle.domain.Meeting;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares participant lookups through participant_meetings with the MEMBER OF queries they
+ * replaced. The regular suite only checks the results agree on a small data set; the timed
+ * run is tagged {@code benchmark} and runs with {@code mvn test -Pbenchmark} on 20k
+ * participant rows, or -Ddoodle.benchmark.participant-rows=10000000 for the full size.
+ * H2 timings only compare the two query shapes, not PostgreSQL plans.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:participantbenchdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none",
+    "logging.level.com.doodle=INFO"
+})
+class ParticipantMeetingBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParticipantMeetingBenchmarkTest.class);
+
+    private static final int PARTICIPANTS_PER_MEETING = 5;
+    private static final int MEETINGS_PER_PARTICIPANT = 50;
+    private static final int LOOKUPS = 20;
+    private static final int SMALL_ROWS = 1_000;
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private static final String MEMBER_OF_RANGE =
+        "SELECT m FROM Meeting m WHERE :participantId MEMBER OF m.participants " +
+        "AND m.timeSlot.startTime >= :startTime AND m.timeSlot.endTime <= :endTime ORDER BY m.timeSlot.startTime";
+    private static final String MEMBER_OF_COUNT =
+        "SELECT COUNT(m) FROM Meeting m WHERE :participantId MEMBER OF m.participants";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private int rows;
+    private int users;
+
+    @Test
+    void participantLookups_IndexTableMatchesMemberOf() {
+        // Given
+        load(SMALL_ROWS);
+
+        // When & Then
+        compareLookups();
+        assertEquals(10, meetingRepository.findSliceByParticipant("user-0", PageRequest.of(0, 10)).size());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void participantLookups_Benchmark() {
+        // Given
+        load(Integer.getInteger("doodle.benchmark.participant-rows", 20_000));
+
+        // When
+        long[] nanos = compareLookups();
+
+        // Then
+        logger.info("{} participant rows, {} lookups: MEMBER OF {} ms/lookup, participant index {} ms/lookup",
+            rows, LOOKUPS, String.format("%.2f", nanos[0] / 1e6 / LOOKUPS),
+            String.format("%.2f", nanos[1] / 1e6 / LOOKUPS));
+    }
+
+    private void load(int rows) {
+        this.rows = rows;
+        int meetings = rows / PARTICIPANTS_PER_MEETING;
+        users = Math.max(PARTICIPANTS_PER_MEETING + 1, rows / MEETINGS_PER_PARTICIPANT);
+
+        long startedAt = System.nanoTime();
+        jdbcTemplate.update("INSERT INTO calendars (id, name, user_id, timezone, created_at, updated_at) " +
+            "SELECT " + uuid(1, "X") + ", 'Calendar ' || X, 'owner-' || X, 'UTC', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+            "FROM SYSTEM_RANGE(0, ?)", (meetings - 1) / 100);
+        jdbcTemplate.update("INSERT INTO time_slots (id, calendar_id, start_time, end_time, status, created_at, updated_at) " +
+            "SELECT " + uuid(2, "X") + ", " + uuid(1, "X / 100") + ", " +
+            "DATEADD('MINUTE', X * 30, TIMESTAMP '2030-01-01 00:00:00'), " +
+            "DATEADD('MINUTE', X * 30 + 30, TIMESTAMP '2030-01-01 00:00:00'), " +
+            "'BUSY', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP FROM SYSTEM_RANGE(0, ?)", meetings - 1);
+        jdbcTemplate.update("INSERT INTO meetings (id, title, time_slot_id, created_at, updated_at) " +
+            "SELECT " + uuid(3, "X") + ", 'Meeting ' || X, " + uuid(2, "X") + ", CURRENT_TIMESTAMP, CURRENT_TIMESTAMP " +
+            "FROM SYSTEM_RANGE(0, ?)", meetings - 1);
+        jdbcTemplate.update("INSERT INTO meeting_participants (meeting_id, participant_id) " +
+            "SELECT " + uuid(3, "X / " + PARTICIPANTS_PER_MEETING) + ", 'user-' || MOD(X, ?) " +
+            "FROM SYSTEM_RANGE(0, ?)", users, rows - 1);
+        jdbcTemplate.update("INSERT INTO participant_meetings (participant_id, meeting_id, start_time, end_time) " +
+            "SELECT mp.participant_id, m.id, ts.start_time, ts.end_time FROM meeting_participants mp " +
+            "JOIN meetings m ON m.id = mp.meeting_id JOIN time_slots ts ON ts.id = m.time_slot_id");
+        jdbcTemplate.execute("ANALYZE");
+        logger.info("Loaded {} participant rows for {} users in {} ms", rows, users,
+            (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    // Returns the total nanos spent in the MEMBER OF and the participant index queries
+    private long[] compareLookups() {
+        LocalDateTime endTime = BASE.plusMinutes(30L * rows / PARTICIPANTS_PER_MEETING / 2);
+        long memberOfNanos = 0;
+        long indexNanos = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            String participantId = "user-" + (i * 7919 % users);
+
+            long startedAt = System.nanoTime();
+            List<Meeting> expected = entityManager.createQuery(MEMBER_OF_RANGE, Meeting.class)
+                .setParameter("participantId", participantId)
+                .setParameter("startTime", BASE)
+                .setParameter("endTime", endTime)
+                .getResultList();
+            long expectedCount = entityManager.createQuery(MEMBER_OF_COUNT, Long.class)
+                .setParameter("participantId", participantId)
+                .getSingleResult();
+            memberOfNanos += System.nanoTime() - startedAt;
+
+            startedAt = System.nanoTime();
+            List<Meeting> actual = meetingRepository.findByParticipantAndTimeRange(participantId, BASE, endTime);
+            long actualCount = meetingRepository.countByParticipant(participantId);
+            indexNanos += System.nanoTime() - startedAt;
+
+            assertEquals(ids(() -> expected), ids(() -> actual));
+            assertEquals(expectedCount, actualCount);
+            assertEquals(MEETINGS_PER_PARTICIPANT, actualCount);
+            entityManager.clear();
+        }
+        return new long[] {memberOfNanos, indexNanos};
+    }
+
+    private static String uuid(int table, String expression) {
+        return "CAST('00000000-0000-0000-" + String.format("%04d", table) + "-' || " +
+            "LPAD(CAST(" + expression + " AS VARCHAR), 12, '0') AS UUID)";
+    }
+
+    private static List<Object> ids(Supplier<List<Meeting>> meetings) {
+        return meetings.get().stream().map(m -> (Object) m.getId()).toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.doodle.repository;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.service.CalendarService;
+import com.doodle.service.MeetingService;
+import com.doodle.service.TimeSlotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:participantdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none"
+})
+class ParticipantMeetingRepositoryTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Test
+    void participantIndex_FollowsMeetingAndSlotChanges() {
+        // Given
+        String alice = "alice-" + UUID.randomUUID();
+        String bob = "bob-" + UUID.randomUUID();
+        Calendar calendar = calendarService.createCalendar(
+            new Calendar("Index", "owner-" + UUID.randomUUID(), ZoneId.of("UTC")));
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        TimeSlot slot = timeSlotService.createTimeSlot(
+            new TimeSlot(calendar, base, base.plusMinutes(30), SlotStatus.AVAILABLE));
+        TimeSlot reference = new TimeSlot();
+        reference.setId(slot.getId());
+        Meeting meeting = new Meeting("Indexed", null, reference);
+        meeting.setParticipants(new LinkedHashSet<>(List.of(alice)));
+        UUID meetingId = meetingService.scheduleMeeting(meeting).getId();
+
+        // When
+        meetingService.addParticipantToMeeting(meetingId, bob);
+        meetingService.removeParticipantFromMeeting(meetingId, alice);
+
+        // Then
+        assertEquals(0, meetingService.countMeetingsByParticipant(alice));
+        assertEquals(1, meetingService.countMeetingsByParticipant(bob));
+        assertEquals(1, meetingService.getMeetingsByParticipant(bob, PageRequest.of(0, 10)).getTotalElements());
+
+        // When
+        Meeting update = new Meeting("Indexed", null, null);
+        update.setParticipants(new LinkedHashSet<>(List.of(alice)));
+        meetingService.updateMeeting(meetingId, update);
+        timeSlotService.updateTimeSlot(slot.getId(),
+            new TimeSlot(calendar, base.plusHours(2), base.plusHours(2).plusMinutes(30), SlotStatus.BUSY));
+
+        // Then
+        assertEquals(0, meetingService.countMeetingsByParticipant(bob));
+        assertEquals(List.of(meetingId), meetingRepository.findByParticipantAndTimeRange(alice,
+            base.plusHours(2), base.plusHours(3)).stream().map(Meeting::getId).toList());
+        assertTrue(meetingRepository.findByParticipantAndTimeRange(alice, base, base.plusHours(1)).isEmpty());
+
+        // When
+        meetingService.deleteMeeting(meetingId);
+
+        // Then
+        assertEquals(0, meetingService.countMeetingsByParticipant(alice));
+    }
+}
@@ -4,12 +4,22 @@ import com.doodle.domain.Calendar;
 import com.doodle.exception.custom.ResourceNotFoundException;
 import com.doodle.repository.CalendarRepository;
 import com.doodle.service.impl.CalendarServiceImpl;
+import com.doodle.service.cache.CacheVersions;
+import com.doodle.service.cache.MissingIdCache;
+import com.doodle.service.index.QuarterHourAvailabilityIndex;
+import com.doodle.service.index.SlotOverlapIndex;
+import com.doodle.service.index.UpcomingAgendaIndex;
+import com.doodle.service.search.MeetingTitleSearch;
+import com.doodle.service.stats.ParticipantStatsCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -31,6 +41,27 @@ class CalendarServiceTest {
     @Mock
     private CalendarRepository calendarRepository;
     
+    @Mock
+    private SlotOverlapIndex slotOverlapIndex;
+    
+    @Mock
+    private QuarterHourAvailabilityIndex availabilityIndex;
+    
+    @Mock
+    private CacheVersions cacheVersions;
+    
+    @Mock
+    private UpcomingAgendaIndex agendaIndex;
+    
+    @Mock
+    private MeetingTitleSearch titleSearch;
+    
+    @Mock
+    private ParticipantStatsCounter participantStats;
+    
+    @Spy
+    private MissingIdCache missingIds = new MissingIdCache(new ConcurrentMapCacheManager(), new SimpleMeterRegistry());
+    
     @InjectMocks
     private CalendarServiceImpl calendarService;
     
@@ -109,6 +140,23 @@ class CalendarServiceTest {
         assertTrue(exception.getMessage().contains("Calendar not found"));
     }
     
+    @Test
+    void getCalendarById_NotFound_IsRememberedUntilCreated() {
+        // Given
+        when(calendarRepository.findById(testId)).thenReturn(Optional.empty());
+        when(calendarRepository.save(any(Calendar.class))).thenReturn(testCalendar);
+        assertThrows(ResourceNotFoundException.class, () -> calendarService.getCalendarById(testId));
+        
+        // When
+        assertThrows(ResourceNotFoundException.class, () -> calendarService.getCalendarById(testId));
+        calendarService.createCalendar(testCalendar);
+        assertThrows(ResourceNotFoundException.class, () -> calendarService.getCalendarById(testId));
+        
+        // Then
+        verify(calendarRepository, times(2)).findById(testId);
+        assertTrue(missingIds.isMissing("calendars", testId));
+    }
+    
     @Test
     void getCalendarsByUserId_Success() {
         // Given
@@ -168,7 +216,11 @@ class CalendarServiceTest {
         calendarService.deleteCalendar(testId);
         
         // Then
+        verify(participantStats).calendarDeleted(testId);
         verify(calendarRepository).delete(testCalendar);
+        verify(slotOverlapIndex).invalidateCalendar(testId);
+        verify(availabilityIndex).invalidateCalendar(testId);
+        verify(cacheVersions).bump("availableSlots", testId);
     }
     
     @Test
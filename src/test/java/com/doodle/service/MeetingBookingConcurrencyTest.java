@@ -0,0 +1,138 @@
+package com.doodle.service;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.exception.custom.SlotNotAvailableException;
+import com.doodle.repository.MeetingRepository;
+import com.doodle.repository.TimeSlotRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:bookingdb;LOCK_TIMEOUT=10000",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none",
+    "spring.datasource.hikari.maximum-pool-size=64"
+})
+class MeetingBookingConcurrencyTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(MeetingBookingConcurrencyTest.class);
+
+    private static final int THREADS = 64;
+    private static final int SLOTS = 10;
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private TimeSlotRepository timeSlotRepository;
+
+    @Test
+    void scheduleMeeting_ConcurrentBookings_ExactlyOneWinnerPerSlot() throws Exception {
+        // Given
+        Calendar calendar = calendarService.createCalendar(
+            new Calendar("Contended", "owner-" + UUID.randomUUID(), ZoneId.of("UTC")));
+        LocalDateTime base = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        List<UUID> slotIds = new ArrayList<>();
+        for (int i = 0; i < SLOTS; i++) {
+            TimeSlot slot = new TimeSlot(calendar, base.plusMinutes(30L * i), base.plusMinutes(30L * (i + 1)),
+                SlotStatus.AVAILABLE);
+            slotIds.add(timeSlotService.createTimeSlot(slot).getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        Map<UUID, AtomicInteger> winnersBySlot = new ConcurrentHashMap<>();
+        Queue<Throwable> unexpected = new ConcurrentLinkedQueue<>();
+
+        // Every thread tries every slot, starting at a different one
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < SLOTS; i++) {
+                    UUID slotId = slotIds.get((offset + i) % SLOTS);
+                    try {
+                        meetingService.scheduleMeeting(meeting(slotId, offset));
+                        booked.incrementAndGet();
+                        winnersBySlot.computeIfAbsent(slotId, id -> new AtomicInteger()).incrementAndGet();
+                    } catch (SlotNotAvailableException e) {
+                        rejected.incrementAndGet();
+                    } catch (Throwable e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            });
+        }
+
+        // When
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        int attempts = THREADS * SLOTS;
+        logger.info("{} booking attempts by {} threads on {} slots in {} s: {} attempts/s, {} bookings/s",
+            attempts, THREADS, SLOTS, String.format("%.3f", seconds),
+            String.format("%.0f", attempts / seconds), String.format("%.1f", booked.get() / seconds));
+
+        // Then
+        assertTrue(unexpected.isEmpty(), () -> "Unexpected failures: " + unexpected);
+        assertEquals(SLOTS, booked.get());
+        assertEquals(attempts - SLOTS, rejected.get());
+        assertEquals(SLOTS, winnersBySlot.size());
+        winnersBySlot.values().forEach(count -> assertEquals(1, count.get()));
+        for (UUID slotId : slotIds) {
+            assertEquals(SlotStatus.BUSY, timeSlotRepository.findById(slotId).orElseThrow().getStatus());
+        }
+        assertEquals(SLOTS, meetingRepository.count());
+    }
+
+    private static Meeting meeting(UUID slotId, int thread) {
+        TimeSlot timeSlot = new TimeSlot();
+        timeSlot.setId(slotId);
+        Meeting meeting = new Meeting("Booking from thread " + thread, null, timeSlot);
+        meeting.setParticipants(new LinkedHashSet<>(List.of("user-" + thread)));
+        return meeting;
+    }
+}
@@ -0,0 +1,157 @@
+package com.doodle.service;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.service.exporting.MeetingExporter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:exportdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none"
+})
+class MeetingExportTest {
+
+    private static final AtomicInteger YEARS = new AtomicInteger();
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingExporter meetingExporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String run;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString();
+        // Each test gets its own year, so ranges only see their own meetings
+        start = LocalDateTime.now().plusYears(YEARS.incrementAndGet())
+            .withHour(0).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void exportMeetings_WritesOneLinePerMeetingInStartOrder() throws Exception {
+        // Given
+        List<Meeting> meetings = schedule(3);
+        schedule(start.plusDays(10), 1);
+
+        // When
+        List<JsonNode> lines = export(start, start.plusDays(1));
+
+        // Then
+        assertEquals(meetings.stream().map(meeting -> meeting.getId().toString()).toList(),
+            lines.stream().map(line -> line.get("id").asText()).toList());
+        JsonNode first = lines.get(0);
+        assertEquals("Export 0", first.get("title").asText());
+        Set<String> participants = new LinkedHashSet<>();
+        first.get("participants").forEach(participant -> participants.add(participant.asText()));
+        assertEquals(Set.of("alice-" + run, "guest-" + run + "-0"), participants);
+        assertEquals(meetings.get(0).getTimeSlot().getCalendar().getId().toString(),
+            first.get("timeSlot").get("calendar").get("id").asText());
+    }
+
+    @Test
+    void exportMeetings_StatementsGrowPerWindowNotPerMeeting() throws Exception {
+        // Given
+        schedule(250);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<JsonNode> lines = export(start, start.plusDays(30));
+
+        // Then
+        assertEquals(250, lines.size());
+        // One cursor plus one participant batch per window of 100 meetings
+        assertTrue(statistics.getPrepareStatementCount() <= 4,
+            "Expected one statement per window but got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void exportMeetings_EmptyAndInvalidRanges() throws Exception {
+        // When & Then
+        assertTrue(export(start, start.plusDays(1)).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+            () -> meetingExporter.exportMeetings(start, start, new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class,
+            () -> meetingExporter.exportMeetings(start, start.plusDays(400), new ByteArrayOutputStream()));
+    }
+
+    private List<JsonNode> export(LocalDateTime from, LocalDateTime to) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        meetingExporter.exportMeetings(from, to, output);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return lines;
+    }
+
+    private List<Meeting> schedule(int count) {
+        return schedule(start, count);
+    }
+
+    private List<Meeting> schedule(LocalDateTime from, int count) {
+        Calendar calendar = calendarService.createCalendar(
+            new Calendar("Archive", "owner-" + UUID.randomUUID(), ZoneId.of("UTC")));
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime slotStart = from.plusMinutes(30L * i);
+            slots.add(new TimeSlot(null, slotStart, slotStart.plusMinutes(30), SlotStatus.AVAILABLE));
+        }
+        timeSlotService.createTimeSlots(calendar.getId(), slots);
+        List<Meeting> meetings = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TimeSlot reference = new TimeSlot();
+            reference.setId(slots.get(i).getId());
+            Meeting meeting = new Meeting("Export " + i, null, reference);
+            meeting.setParticipants(new LinkedHashSet<>(List.of("alice-" + run, "guest-" + run + "-" + i)));
+            meetings.add(meetingService.scheduleMeeting(meeting, true));
+        }
+        return meetings;
+    }
+}
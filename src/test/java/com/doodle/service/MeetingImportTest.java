@@ -0,0 +1,215 @@
+package com.doodle.service;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.service.importing.MeetingImporter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:importdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none",
+    "doodle.import.chunk-size=100"
+})
+class MeetingImportTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingImporter meetingImporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String run;
+    private LocalDateTime start;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString();
+        start = LocalDateTime.now().plusDays(3).withHour(0).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void importMeetings_ReportsStatusPerLine() throws Exception {
+        // Given
+        List<TimeSlot> slots = slots(3);
+        String input = String.join("\n",
+            line(slots.get(0).getId(), "Planning", "alice"),
+            "{not json",
+            "",
+            line(slots.get(1).getId(), " ", "alice"),
+            line(UUID.randomUUID(), "Unknown slot", "alice"),
+            line(slots.get(0).getId(), "Same slot again", "bob"),
+            line(slots.get(2).getId(), "Retro", "alice"));
+
+        // When
+        List<JsonNode> results = importLines(input);
+
+        // Then
+        assertEquals(List.of(1, 2, 4, 5, 6, 7), results.stream().map(r -> r.get("line").asInt()).toList());
+        assertEquals(List.of("CREATED", "FAILED", "FAILED", "FAILED", "FAILED", "CREATED"),
+            results.stream().map(r -> r.get("status").asText()).toList());
+        assertTrue(results.get(1).get("error").asText().startsWith("Malformed JSON"));
+        assertEquals("Title is required", results.get(2).get("error").asText());
+        assertEquals("Time slot is booked by an earlier line", results.get(4).get("error").asText());
+
+        UUID meetingId = UUID.fromString(results.get(0).get("meetingId").asText());
+        assertEquals("Planning", meetingService.getMeetingById(meetingId).getTitle());
+        assertEquals(SlotStatus.BUSY, timeSlotService.getTimeSlotById(slots.get(0).getId()).getStatus());
+        assertEquals(SlotStatus.AVAILABLE, timeSlotService.getTimeSlotById(slots.get(1).getId()).getStatus());
+        assertEquals(2, meetingService.countMeetingsByParticipant(user("alice")));
+    }
+
+    @Test
+    void importMeetings_AlreadyBookedSlotFailsOnlyItsLine() throws Exception {
+        // Given
+        List<TimeSlot> slots = slots(2);
+        importLines(line(slots.get(0).getId(), "First", "alice"));
+
+        // When
+        List<JsonNode> results = importLines(String.join("\n",
+            line(slots.get(0).getId(), "Second", "bob"),
+            line(slots.get(1).getId(), "Third", "bob")));
+
+        // Then
+        assertEquals("FAILED", results.get(0).get("status").asText());
+        assertEquals("Time slot not found or not available for booking", results.get(0).get("error").asText());
+        assertEquals("CREATED", results.get(1).get("status").asText());
+    }
+
+    @Test
+    void importMeetings_BatchesStatementsPerChunk() throws Exception {
+        // Given
+        List<TimeSlot> slots = slots(300);
+        StringBuilder input = new StringBuilder();
+        for (TimeSlot slot : slots) {
+            input.append(line(slot.getId(), "Imported", "alice", "bob", "carol")).append('\n');
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<JsonNode> results = importLines(input.toString());
+
+        // Then
+        assertEquals(300, results.stream().filter(r -> "CREATED".equals(r.get("status").asText())).count());
+        assertEquals(300, meetingService.countMeetingsByParticipant(user("carol")));
+        // Three chunks; each takes a handful of batched statements instead of several per meeting
+        assertTrue(statistics.getPrepareStatementCount() < 60,
+            "Expected batched statements but got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void importMeetings_KeepsRequestPersistenceContextFlat() throws Exception {
+        // Given
+        List<TimeSlot> slots = slots(300);
+        StringBuilder input = new StringBuilder();
+        for (TimeSlot slot : slots) {
+            input.append(line(slot.getId(), "Imported", "alice")).append('\n');
+        }
+        // Bind a request-scoped EntityManager the way open-in-view does
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+            new EntityManagerHolder(requestEntityManager));
+        List<Integer> managedPerChunk = new ArrayList<>();
+        OutputStream output = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                managedPerChunk.add(requestEntityManager.unwrap(Session.class).getStatistics().getEntityCount());
+            }
+        };
+
+        // When
+        try {
+            meetingImporter.importMeetings(
+                new ByteArrayInputStream(input.toString().getBytes(StandardCharsets.UTF_8)), output);
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+
+        // Then
+        // One sample per chunk plus the final, empty flush
+        assertTrue(managedPerChunk.size() >= 3);
+        assertEquals(List.of(0), managedPerChunk.stream().distinct().toList());
+        assertEquals(300, meetingService.countMeetingsByParticipant(user("alice")));
+    }
+
+    private List<JsonNode> importLines(String input) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        meetingImporter.importMeetings(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isEmpty()) {
+                results.add(objectMapper.readTree(line));
+            }
+        }
+        return results;
+    }
+
+    private String line(UUID slotId, String title, String... participants) throws Exception {
+        List<String> ids = new ArrayList<>();
+        for (String participant : participants) {
+            ids.add(user(participant));
+        }
+        return objectMapper.writeValueAsString(Map.of("slotId", slotId, "title", title, "participants", ids));
+    }
+
+    private List<TimeSlot> slots(int count) {
+        Calendar calendar = calendarService.createCalendar(
+            new Calendar("Legacy", "owner-" + UUID.randomUUID(), ZoneId.of("UTC")));
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            LocalDateTime slotStart = start.plusMinutes(30L * i);
+            slots.add(new TimeSlot(null, slotStart, slotStart.plusMinutes(30), SlotStatus.AVAILABLE));
+        }
+        timeSlotService.createTimeSlots(calendar.getId(), slots);
+        return slots;
+    }
+
+    private String user(String name) {
+        return name + "-" + run;
+    }
+}
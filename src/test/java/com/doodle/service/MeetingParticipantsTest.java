@@ -0,0 +1,146 @@
+package com.doodle.service;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:participantsdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none",
+    "doodle.scheduling.max-bulk-participants=300"
+})
+class MeetingParticipantsTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+    private String run;
+    private UUID meetingId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        run = UUID.randomUUID().toString();
+        Calendar calendar = calendarService.createCalendar(
+            new Calendar("All hands", "owner-" + UUID.randomUUID(), ZoneId.of("UTC")));
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+        TimeSlot slot = timeSlotService.createTimeSlot(
+            new TimeSlot(calendar, start, start.plusHours(1), SlotStatus.AVAILABLE));
+        TimeSlot reference = new TimeSlot();
+        reference.setId(slot.getId());
+        Meeting meeting = new Meeting("All hands", null, reference);
+        meeting.setParticipants(new LinkedHashSet<>(users("attendee", 500)));
+        meetingId = meetingService.scheduleMeeting(meeting).getId();
+    }
+
+    @Test
+    void addParticipantToMeeting_WritesOnlyTheNewRow() {
+        // Given
+        statistics.clear();
+
+        // When
+        meetingService.addParticipantToMeeting(meetingId, user("late-joiner", 0));
+
+        // Then
+        assertTrue(statistics.getPrepareStatementCount() < 10,
+            () -> "Expected a handful of statements, got " + statistics.getPrepareStatementCount());
+        // A bag would be deleted and re-inserted in full
+        assertEquals(0, statistics.getCollectionRecreateCount());
+        assertEquals(0, statistics.getCollectionRemoveCount());
+        assertEquals(1, statistics.getCollectionUpdateCount());
+        assertEquals(501, participants().size());
+        assertEquals(1, meetingService.countMeetingsByParticipant(user("late-joiner", 0)));
+    }
+
+    @Test
+    void addAndRemoveParticipantsToMeeting_ApplyInOneBatch() {
+        // Given
+        List<String> invited = users("guest", 200);
+        List<String> leaving = users("attendee", 100);
+        statistics.clear();
+
+        // When
+        meetingService.addParticipantsToMeeting(meetingId, invited);
+        long addStatements = statistics.getPrepareStatementCount();
+        statistics.clear();
+        meetingService.removeParticipantsFromMeeting(meetingId, leaving);
+        long removeStatements = statistics.getPrepareStatementCount();
+
+        // Then
+        assertTrue(addStatements < 10, () -> "Add used " + addStatements + " statements");
+        assertTrue(removeStatements < 10, () -> "Remove used " + removeStatements + " statements");
+        Set<String> participants = participants();
+        assertEquals(600, participants.size());
+        assertTrue(participants.containsAll(invited));
+        assertFalse(participants.contains(user("attendee", 0)));
+        assertEquals(1, meetingService.countMeetingsByParticipant(user("guest", 0)));
+        assertEquals(0, meetingService.countMeetingsByParticipant(user("attendee", 0)));
+    }
+
+    @Test
+    void addParticipantsToMeeting_SkipsExistingAndRejectsOversizedLists() {
+        // When
+        meetingService.addParticipantsToMeeting(meetingId,
+            List.of(user("attendee", 1), user("attendee", 1), user("new", 0)));
+
+        // Then
+        assertEquals(501, participants().size());
+        assertThrows(IllegalArgumentException.class,
+            () -> meetingService.addParticipantsToMeeting(meetingId, users("crowd", 301)));
+        assertThrows(IllegalArgumentException.class,
+            () -> meetingService.removeParticipantsFromMeeting(meetingId, List.of()));
+        assertThrows(IllegalArgumentException.class,
+            () -> meetingService.addParticipantsToMeeting(meetingId, List.of(" ")));
+    }
+
+    private Set<String> participants() {
+        return transactionTemplate.execute(status -> Set.copyOf(meetingService.getMeetingById(meetingId).getParticipants()));
+    }
+
+    private List<String> users(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> user(prefix, i)).collect(Collectors.toList());
+    }
+
+    private String user(String prefix, int index) {
+        return prefix + "-" + index + "-" + run;
+    }
+}
@@ -0,0 +1,116 @@
+package com.doodle.service;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.service.search.MeetingTitleSearch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:searchdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none"
+})
+class MeetingSearchTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingTitleSearch titleSearch;
+
+    private Calendar calendar;
+    private LocalDateTime base;
+    private String tag;
+    private int slots;
+
+    @BeforeEach
+    void setUp() {
+        calendar = calendarService.createCalendar(new Calendar("Search", "owner-" + UUID.randomUUID(), ZoneId.of("UTC")));
+        base = LocalDateTime.now().plusDays(1).withHour(8).withMinute(0).withSecond(0).withNano(0);
+        // Random word so searches only see this test's meetings
+        tag = "zq" + UUID.randomUUID().toString().substring(0, 8).replace("-", "");
+    }
+
+    @Test
+    void searchMeetings_RanksAndPagesWithInProcessIndex() {
+        // Given
+        Meeting exact = schedule(tag + " retro");
+        Meeting longer = schedule(tag + " retro with the extended platform team");
+        schedule("Unrelated standup");
+
+        // When
+        Page<Meeting> first = meetingService.searchMeetings(tag + " retro", PageRequest.of(0, 1));
+        Page<Meeting> second = meetingService.searchMeetings(tag + " retro", PageRequest.of(1, 1));
+
+        // Then
+        assertFalse(titleSearch.isIndexedByDatabase());
+        assertEquals(2, first.getTotalElements());
+        assertEquals(exact.getId(), first.getContent().get(0).getId());
+        assertEquals(longer.getId(), second.getContent().get(0).getId());
+    }
+
+    @Test
+    void searchMeetings_FollowsUpdatesAndDeletes() {
+        // Given
+        Meeting meeting = schedule(tag + " planning");
+        assertEquals(1, meetingService.searchMeetings(tag, PageRequest.of(0, 10)).getTotalElements());
+
+        // When
+        Meeting update = new Meeting(tag + "renamed budget review", null, null);
+        update.setParticipants(new LinkedHashSet<>(List.of("alice")));
+        meetingService.updateMeeting(meeting.getId(), update);
+
+        // Then
+        assertEquals(0, meetingService.searchMeetings(tag + " planning", PageRequest.of(0, 10)).getTotalElements());
+        assertEquals(meeting.getId(), meetingService.searchMeetings(tag + "renamed", PageRequest.of(0, 10))
+            .getContent().get(0).getId());
+
+        // When
+        meetingService.deleteMeeting(meeting.getId());
+
+        // Then
+        assertEquals(0, meetingService.searchMeetings(tag, PageRequest.of(0, 10)).getTotalElements());
+    }
+
+    @Test
+    void searchMeetings_ShortQueryIsRejected() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> meetingService.searchMeetings(" ab ", PageRequest.of(0, 10)));
+    }
+
+    private Meeting schedule(String title) {
+        LocalDateTime start = base.plusHours(slots++);
+        TimeSlot slot = timeSlotService.createTimeSlot(new TimeSlot(calendar, start, start.plusMinutes(30),
+            SlotStatus.AVAILABLE));
+        TimeSlot reference = new TimeSlot();
+        reference.setId(slot.getId());
+        Meeting meeting = new Meeting(title, null, reference);
+        meeting.setParticipants(new LinkedHashSet<>(List.of("alice")));
+        return meetingService.scheduleMeeting(meeting);
+    }
+}
@@ -0,0 +1,172 @@
+package com.doodle.service;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.ParticipantConflict;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.exception.custom.ParticipantConflictException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:conflictsdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none",
+    // Lower than the stored meetings below, as after tightening the limit on a live system
+    "doodle.scheduling.max-slot-duration-minutes=60"
+})
+class ParticipantConflictTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String run;
+    private LocalDateTime nine;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString();
+        nine = LocalDateTime.now().plusDays(2).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void scheduleMeeting_OverlappingParticipantIsRejected() {
+        // Given
+        Meeting existing = schedule("Standup", nine, nine.plusHours(1), List.of(user("alice"), user("bob")));
+        TimeSlot slot = slot(nine.plusMinutes(30), nine.plusMinutes(90));
+
+        // When
+        ParticipantConflictException exception = assertThrows(ParticipantConflictException.class,
+            () -> meetingService.scheduleMeeting(meeting("Review", slot, List.of(user("alice"), user("carol")))));
+
+        // Then
+        assertEquals(1, exception.getConflicts().size());
+        ParticipantConflict conflict = exception.getConflicts().get(0);
+        assertEquals(user("alice"), conflict.getParticipantId());
+        assertEquals(existing.getId(), conflict.getMeetingId());
+        assertEquals("Standup", conflict.getTitle());
+        assertEquals(SlotStatus.AVAILABLE, timeSlotService.getTimeSlotById(slot.getId()).getStatus());
+    }
+
+    @Test
+    void scheduleMeeting_AdjacentMeetingsDoNotConflict() {
+        // Given
+        schedule("Standup", nine, nine.plusHours(1), List.of(user("alice")));
+
+        // When
+        Meeting next = schedule("Review", nine.plusHours(1), nine.plusHours(2), List.of(user("alice")));
+
+        // Then
+        assertNotNull(next.getId());
+        assertTrue(meetingService.findParticipantConflicts(List.of(user("alice")),
+            nine.minusHours(1), nine).isEmpty());
+    }
+
+    @Test
+    void scheduleMeeting_AllowParticipantConflictsBooksAnyway() {
+        // Given
+        schedule("Standup", nine, nine.plusHours(1), List.of(user("alice")));
+        TimeSlot slot = slot(nine, nine.plusHours(1));
+
+        // When
+        Meeting booked = meetingService.scheduleMeeting(meeting("Review", slot, List.of(user("alice"))), true);
+
+        // Then
+        assertNotNull(booked.getId());
+        assertEquals(2, meetingService.findParticipantConflicts(List.of(user("alice")),
+            nine, nine.plusHours(1)).size());
+    }
+
+    @Test
+    void findParticipantConflicts_FindsMeetingsLongerThanTheSlotLimit() {
+        // Given
+        Meeting offsite = schedule("Offsite", nine, nine.plusHours(8), List.of(user("alice")));
+
+        // When
+        List<ParticipantConflict> conflicts = meetingService.findParticipantConflicts(List.of(user("alice")),
+            nine.plusHours(7), nine.plusHours(9));
+
+        // Then
+        assertEquals(1, conflicts.size());
+        assertEquals(offsite.getId(), conflicts.get(0).getMeetingId());
+    }
+
+    @Test
+    void findParticipantConflicts_LargeInviteListUsesFewStatements() {
+        // Given
+        List<String> attendees = IntStream.range(0, 600).mapToObj(i -> user("attendee-" + i))
+            .collect(Collectors.toList());
+        schedule("All hands", nine, nine.plusHours(2), attendees.subList(0, 300));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        List<ParticipantConflict> conflicts = meetingService.findParticipantConflicts(
+            attendees, nine.plusHours(1), nine.plusHours(3));
+
+        // Then
+        assertEquals(300, conflicts.size());
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+            "Expected a single conflict query but got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findParticipantConflicts_InvalidRangeIsRejected() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class,
+            () -> meetingService.findParticipantConflicts(List.of(user("alice")), nine, nine));
+        assertTrue(meetingService.findParticipantConflicts(List.of(), nine, nine.plusHours(1)).isEmpty());
+    }
+
+    private Meeting schedule(String title, LocalDateTime start, LocalDateTime end, List<String> participants) {
+        return meetingService.scheduleMeeting(meeting(title, slot(start, end), participants));
+    }
+
+    private TimeSlot slot(LocalDateTime start, LocalDateTime end) {
+        Calendar calendar = calendarService.createCalendar(
+            new Calendar("Team", "owner-" + UUID.randomUUID(), ZoneId.of("UTC")));
+        return timeSlotService.createTimeSlot(new TimeSlot(calendar, start, end, SlotStatus.AVAILABLE));
+    }
+
+    private static Meeting meeting(String title, TimeSlot slot, List<String> participants) {
+        TimeSlot reference = new TimeSlot();
+        reference.setId(slot.getId());
+        Meeting meeting = new Meeting(title, null, reference);
+        meeting.setParticipants(new LinkedHashSet<>(participants));
+        return meeting;
+    }
+
+    private String user(String name) {
+        return name + "-" + run;
+    }
+}
@@ -0,0 +1,191 @@
+package com.doodle.service;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.repository.MeetingRepository;
+import com.doodle.service.stats.ParticipantStatsCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:participantstatsdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none"
+})
+class ParticipantStatsTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    @Autowired
+    private ParticipantStatsCounter participantStats;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String run;
+    private Calendar calendar;
+    private LocalDateTime nine;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString();
+        calendar = calendarService.createCalendar(new Calendar("Team", "owner-" + run, ZoneId.of("UTC")));
+        nine = LocalDateTime.now().plusDays(2).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void countMeetingsByParticipant_FollowsParticipantChanges() {
+        // Given
+        Meeting first = schedule(0, user("alice"), user("bob"));
+        Meeting second = schedule(1, user("alice"));
+
+        // When
+        meetingService.addParticipantsToMeeting(second.getId(), List.of(user("bob"), user("carol")));
+        meetingService.removeParticipantFromMeeting(first.getId(), user("bob"));
+        Meeting update = new Meeting("Renamed", null, null);
+        update.setParticipants(new LinkedHashSet<>(List.of(user("alice"), user("dave"))));
+        meetingService.updateMeeting(first.getId(), update);
+
+        // Then
+        assertCounts(2, 1, 1, 1);
+
+        // When
+        meetingService.deleteMeeting(first.getId());
+
+        // Then
+        assertCounts(1, 1, 1, 0);
+    }
+
+    @Test
+    void countMeetingsByParticipant_CalendarDeleteDecrementsCounters() {
+        // Given
+        schedule(0, user("alice"), user("bob"));
+        schedule(1, user("alice"));
+        Calendar other = calendarService.createCalendar(new Calendar("Other", "owner-" + run, ZoneId.of("UTC")));
+        schedule(other, 2, user("alice"));
+
+        // When
+        calendarService.deleteCalendar(calendar.getId());
+
+        // Then
+        assertEquals(1, meetingService.countMeetingsByParticipant(user("alice")));
+        assertEquals(0, meetingService.countMeetingsByParticipant(user("bob")));
+    }
+
+    @Test
+    void countMeetingsByParticipant_IsAPrimaryKeyLookup() {
+        // Given
+        schedule(0, user("alice"));
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        long count = meetingService.countMeetingsByParticipant(user("alice"));
+
+        // Then
+        assertEquals(1, count);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, meetingService.countMeetingsByParticipant(user("nobody")));
+    }
+
+    @Test
+    void reconcile_RepairsDriftedAndMissingCounters() {
+        // Given
+        schedule(0, user("alice"), user("bob"));
+        schedule(1, user("alice"));
+        participantStats.reconcile();
+        jdbcTemplate.update("UPDATE participant_stats SET meeting_count = 7 WHERE participant_id = ?", user("alice"));
+        jdbcTemplate.update("DELETE FROM participant_stats WHERE participant_id = ?", user("bob"));
+
+        // When
+        int repaired = participantStats.reconcile();
+
+        // Then
+        assertEquals(2, repaired);
+        assertEquals(2, meetingService.countMeetingsByParticipant(user("alice")));
+        assertEquals(1, meetingService.countMeetingsByParticipant(user("bob")));
+        assertEquals(meetingRepository.countByParticipant(user("alice")),
+            meetingService.countMeetingsByParticipant(user("alice")));
+        assertEquals(0, participantStats.reconcile());
+    }
+
+    @Test
+    void reconcile_ResetsCountersWithoutMeetings() {
+        // Given
+        Meeting meeting = schedule(0, user("alice"), user("bob"));
+        meetingService.removeParticipantFromMeeting(meeting.getId(), user("alice"));
+        participantStats.reconcile();
+        jdbcTemplate.update("UPDATE participant_stats SET meeting_count = 3 WHERE participant_id = ?", user("alice"));
+
+        // When
+        int repaired = participantStats.reconcile();
+
+        // Then
+        assertEquals(1, repaired);
+        assertEquals(0, meetingService.countMeetingsByParticipant(user("alice")));
+    }
+
+    private void assertCounts(long alice, long bob, long carol, long dave) {
+        assertEquals(List.of(alice, bob, carol, dave), List.of(
+            meetingService.countMeetingsByParticipant(user("alice")),
+            meetingService.countMeetingsByParticipant(user("bob")),
+            meetingService.countMeetingsByParticipant(user("carol")),
+            meetingService.countMeetingsByParticipant(user("dave"))));
+        for (String name : List.of("alice", "bob", "carol", "dave")) {
+            assertEquals(meetingRepository.countByParticipant(user(name)),
+                meetingService.countMeetingsByParticipant(user(name)));
+        }
+    }
+
+    private Meeting schedule(int hour, String... participants) {
+        return schedule(calendar, hour, participants);
+    }
+
+    private Meeting schedule(Calendar target, int hour, String... participants) {
+        LocalDateTime start = nine.plusHours(hour);
+        TimeSlot slot = timeSlotService.createTimeSlot(new TimeSlot(target, start, start.plusHours(1), SlotStatus.AVAILABLE));
+        TimeSlot reference = new TimeSlot();
+        reference.setId(slot.getId());
+        Meeting meeting = new Meeting("Sync", null, reference);
+        meeting.setParticipants(new LinkedHashSet<>(List.of(participants)));
+        return meetingService.scheduleMeeting(meeting);
+    }
+
+    private String user(String name) {
+        return name + "-" + run;
+    }
+}
@@ -0,0 +1,98 @@
+package com.doodle.service;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.RecurringAvailability;
+import com.doodle.exception.custom.ResourceNotFoundException;
+import com.doodle.repository.RecurringAvailabilityRepository;
+import com.doodle.service.cache.CacheVersions;
+import com.doodle.service.impl.RecurringAvailabilityServiceImpl;
+import com.doodle.service.index.QuarterHourAvailabilityIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecurringAvailabilityServiceTest {
+
+    @Mock
+    private RecurringAvailabilityRepository recurringAvailabilityRepository;
+
+    @Mock
+    private CalendarService calendarService;
+
+    @Mock
+    private QuarterHourAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private CacheVersions cacheVersions;
+
+    @InjectMocks
+    private RecurringAvailabilityServiceImpl recurringAvailabilityService;
+
+    private UUID calendarId;
+    private RecurringAvailability rule;
+
+    @BeforeEach
+    void setUp() {
+        calendarId = UUID.randomUUID();
+        Calendar calendar = new Calendar("Test Calendar", "user123", ZoneId.of("UTC"));
+        calendar.setId(calendarId);
+        rule = new RecurringAvailability(calendar, Set.of(DayOfWeek.MONDAY),
+            LocalTime.of(9, 0), LocalTime.of(12, 0), 30, LocalDate.of(2030, 1, 1), null);
+        rule.setId(UUID.randomUUID());
+    }
+
+    @Test
+    void getRuleById_OfAnotherCalendar_ThrowsNotFound() {
+        // Given
+        when(recurringAvailabilityRepository.findById(rule.getId())).thenReturn(Optional.of(rule));
+
+        // When & Then
+        assertEquals(rule, recurringAvailabilityService.getRuleById(calendarId, rule.getId()));
+        assertThrows(ResourceNotFoundException.class,
+            () -> recurringAvailabilityService.getRuleById(UUID.randomUUID(), rule.getId()));
+    }
+
+    @Test
+    void deleteRule_Success() {
+        // Given
+        when(recurringAvailabilityRepository.findById(rule.getId())).thenReturn(Optional.of(rule));
+
+        // When
+        recurringAvailabilityService.deleteRule(calendarId, rule.getId());
+
+        // Then
+        verify(recurringAvailabilityRepository).delete(rule);
+        verify(availabilityIndex).invalidateCalendar(calendarId);
+        verify(cacheVersions).bump("availableSlots", calendarId);
+    }
+
+    @Test
+    void deleteRule_OfAnotherCalendar_ThrowsNotFound() {
+        // Given
+        when(recurringAvailabilityRepository.findById(rule.getId())).thenReturn(Optional.of(rule));
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class,
+            () -> recurringAvailabilityService.deleteRule(UUID.randomUUID(), rule.getId()));
+        verify(recurringAvailabilityRepository, never()).delete(any());
+        verify(availabilityIndex, never()).invalidateCalendar(any());
+        verify(cacheVersions, never()).bump(anyString(), any());
+    }
+}
@@ -0,0 +1,312 @@
+package com.doodle.service;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.CursorPage;
+import com.doodle.domain.SlotBatchResult;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.TimeSlotSummary;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.exception.custom.TimeConflictException;
+import com.doodle.repository.SlotOverlapConstraint;
+import com.doodle.repository.ParticipantMeetingRepository;
+import com.doodle.repository.TimeSlotRepository;
+import com.doodle.service.impl.TimeSlotServiceImpl;
+import com.doodle.service.cache.CacheVersions;
+import com.doodle.service.cache.MissingIdCache;
+import com.doodle.service.index.QuarterHourAvailabilityIndex;
+import com.doodle.service.index.SlotOverlapIndex;
+import com.doodle.service.index.UpcomingAgendaIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TimeSlotServiceTest {
+
+    @Mock
+    private TimeSlotRepository timeSlotRepository;
+
+    @Mock
+    private ParticipantMeetingRepository participantMeetingRepository;
+
+    @Mock
+    private CalendarService calendarService;
+
+    @Mock
+    private SlotOverlapIndex slotOverlapIndex;
+
+    @Mock
+    private RecurringAvailabilityService recurringAvailabilityService;
+    
+    @Mock
+    private SlotOverlapConstraint overlapConstraint;
+    
+    @Mock
+    private CacheVersions cacheVersions;
+    
+    @Mock
+    private UpcomingAgendaIndex agendaIndex;
+    
+    private QuarterHourAvailabilityIndex availabilityIndex;
+
+    private TimeSlotServiceImpl timeSlotService;
+
+    private Calendar testCalendar;
+    private UUID calendarId;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        availabilityIndex = new QuarterHourAvailabilityIndex(true, 1000, 62);
+        timeSlotService = new TimeSlotServiceImpl(timeSlotRepository, participantMeetingRepository, calendarService,
+            slotOverlapIndex, availabilityIndex, recurringAvailabilityService, overlapConstraint, cacheVersions,
+            new MissingIdCache(new ConcurrentMapCacheManager(), new SimpleMeterRegistry()), agendaIndex,
+            new ConcurrentMapCacheManager(), 100);
+
+        calendarId = UUID.randomUUID();
+        testCalendar = new Calendar("Test Calendar", "user123", ZoneId.of("UTC"));
+        testCalendar.setId(calendarId);
+
+        base = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void createTimeSlots_ReportsConflictsAndSavesValidSlotsInOneBatch() {
+        // Given
+        UUID existingId = UUID.randomUUID();
+        when(calendarService.getCalendarById(calendarId)).thenReturn(testCalendar);
+        when(timeSlotRepository.findSlotIntervalsByCalendarIdAndTimeRange(eq(calendarId), any(), any()))
+            .thenReturn(Collections.singletonList(new Object[] {existingId, base, base.plusMinutes(30)}));
+        when(timeSlotRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<TimeSlot> slots = invocation.getArgument(0);
+            slots.forEach(slot -> slot.setId(UUID.randomUUID()));
+            return slots;
+        });
+
+        List<TimeSlot> batch = List.of(
+            new TimeSlot(null, base, base.plusMinutes(30), null),                          // overlaps existing
+            new TimeSlot(null, base.plusMinutes(30), base.plusMinutes(60), null),          // ok
+            new TimeSlot(null, base.plusMinutes(45), base.plusMinutes(75), null),          // overlaps item 1
+            new TimeSlot(null, base.plusMinutes(90), base.plusMinutes(95), null),          // too short
+            new TimeSlot(null, base.plusMinutes(120), base.plusMinutes(150), SlotStatus.BLOCKED));
+
+        // When
+        SlotBatchResult result = timeSlotService.createTimeSlots(calendarId, batch);
+
+        // Then
+        assertEquals(2, result.getCreatedCount());
+        assertEquals(List.of(0, 2, 3), result.getConflicts().stream().map(SlotBatchResult.Conflict::getIndex).toList());
+
+        ArgumentCaptor<List<TimeSlot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(timeSlotRepository, times(1)).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        assertEquals(SlotStatus.AVAILABLE, saved.getValue().get(0).getStatus());
+        assertEquals(SlotStatus.BLOCKED, saved.getValue().get(1).getStatus());
+        assertSame(testCalendar, saved.getValue().get(0).getCalendar());
+        verify(slotOverlapIndex, times(2)).slotSaved(eq(calendarId), any(), any(), any());
+        verify(timeSlotRepository, never()).existsOverlappingSlot(any(), any(), any(), any());
+    }
+
+    @Test
+    void getAvailableSlots_MergesRecurringOccurrencesNotOverriddenByStoredSlots() {
+        // Given
+        TimeSlot stored = new TimeSlot(testCalendar, base.plusHours(1), base.plusHours(2), SlotStatus.AVAILABLE);
+        TimeSlot first = new TimeSlot(null, base, base.plusHours(1), SlotStatus.AVAILABLE);
+        TimeSlot overridden = new TimeSlot(null, base.plusHours(2), base.plusHours(3), SlotStatus.AVAILABLE);
+        TimeSlot last = new TimeSlot(null, base.plusHours(3), base.plusHours(4), SlotStatus.AVAILABLE);
+        LocalDateTime end = base.plusHours(8);
+
+        when(timeSlotRepository.findAvailableSlots(calendarId, SlotStatus.AVAILABLE, base, end))
+            .thenReturn(List.of(stored));
+        when(recurringAvailabilityService.expandOccurrences(eq(calendarId), any(), any()))
+            .thenReturn(List.of(first, overridden, last));
+        when(timeSlotRepository.findSlotIntervalsByCalendarIdAndTimeRange(eq(calendarId), any(), any()))
+            .thenReturn(List.of(
+                new Object[] {UUID.randomUUID(), base.plusHours(1), base.plusHours(2)},
+                new Object[] {UUID.randomUUID(), base.plusHours(2), base.plusHours(3)}));   // booked
+
+        // When
+        List<TimeSlot> result = timeSlotService.getAvailableSlots(calendarId, base, end);
+
+        // Then
+        assertEquals(List.of(first, stored, last), result);
+    }
+
+    @Test
+    void getAvailableSlots_GridAlignedRangeWithoutAvailability_SkipsSlotQuery() {
+        // Given
+        LocalDateTime end = base.plusHours(8);
+        
+        // When
+        List<TimeSlot> first = timeSlotService.getAvailableSlots(calendarId, base, end);
+        List<TimeSlot> second = timeSlotService.getAvailableSlots(calendarId, base.plusHours(1), end);
+        
+        // Then
+        assertTrue(first.isEmpty());
+        assertTrue(second.isEmpty());
+        verify(timeSlotRepository, never()).findAvailableSlots(any(), any(), any(), any());
+        verify(timeSlotRepository, times(1))
+            .findSlotIntervalsByCalendarIdAndStatusAndTimeRange(eq(calendarId), eq(SlotStatus.AVAILABLE), any(), any());
+    }
+    
+    @Test
+    void getAvailableSlots_SlotCreatedAfterIndexLoad_QueriesDatabase() {
+        // Given
+        LocalDateTime end = base.plusHours(8);
+        timeSlotService.getAvailableSlots(calendarId, base, end);
+        
+        TimeSlot slot = new TimeSlot(testCalendar, base.plusHours(2), base.plusHours(3), SlotStatus.AVAILABLE);
+        when(slotOverlapIndex.hasOverlap(any(), any(), any(), any())).thenReturn(Optional.of(false));
+        when(timeSlotRepository.save(slot)).thenReturn(slot);
+        when(timeSlotRepository.findAvailableSlots(calendarId, SlotStatus.AVAILABLE, base, end))
+            .thenReturn(List.of(slot));
+        
+        // When
+        timeSlotService.createTimeSlot(slot);
+        List<TimeSlot> result = timeSlotService.getAvailableSlots(calendarId, base, end);
+        
+        // Then
+        assertEquals(List.of(slot), result);
+    }
+    
+    @Test
+    void getTimeSlotsByCalendarIdAndTimeRange_CursorPageInterleavesOccurrences() {
+        // Given
+        LocalDateTime end = base.plusHours(8);
+        TimeSlot stored = new TimeSlot(testCalendar, base.plusHours(1), base.plusHours(2), SlotStatus.BUSY);
+        stored.setId(UUID.randomUUID());
+        TimeSlot first = new TimeSlot(null, base, base.plusHours(1), SlotStatus.AVAILABLE);
+        TimeSlot last = new TimeSlot(null, base.plusHours(2), base.plusHours(3), SlotStatus.AVAILABLE);
+        
+        when(timeSlotRepository.findSliceByCalendarIdAndTimeRange(eq(calendarId), eq(base), eq(end), any()))
+            .thenReturn(List.of(stored));
+        when(recurringAvailabilityService.expandOccurrences(eq(calendarId), any(), any()))
+            .thenReturn(List.of(first, last));
+        when(timeSlotRepository.findSlotIntervalsByCalendarIdAndTimeRange(eq(calendarId), any(), any()))
+            .thenReturn(Collections.singletonList(new Object[] {stored.getId(), stored.getStartTime(), stored.getEndTime()}));
+        when(timeSlotRepository.findSliceByCalendarIdAndTimeRangeAfter(
+                eq(calendarId), eq(base), eq(end), eq(base.plusHours(1)), eq(stored.getId()), any()))
+            .thenReturn(List.of());
+        
+        // When
+        CursorPage<TimeSlot> firstPage = timeSlotService.getTimeSlotsByCalendarIdAndTimeRange(
+            calendarId, base, end, null, 2);
+        CursorPage<TimeSlot> secondPage = timeSlotService.getTimeSlotsByCalendarIdAndTimeRange(
+            calendarId, base, end, firstPage.getNextCursor(), 2);
+        
+        // Then
+        assertEquals(List.of(first, stored), firstPage.getItems());
+        assertTrue(firstPage.isHasMore());
+        assertEquals(List.of(last), secondPage.getItems());
+        assertFalse(secondPage.isHasMore());
+    }
+    
+    @Test
+    void getTimeSlotsByCalendarIdAndTimeRange_OffsetPageReadsOnlyNeededStoredRows() {
+        // Given: ten stored slots on the hour and two occurrences interleaved at half past
+        LocalDateTime end = base.plusHours(12);
+        List<TimeSlot> stored = new ArrayList<>();
+        for (int hour = 0; hour < 10; hour++) {
+            TimeSlot slot = new TimeSlot(testCalendar, base.plusHours(hour), base.plusHours(hour).plusMinutes(30),
+                SlotStatus.BUSY);
+            slot.setId(UUID.randomUUID());
+            stored.add(slot);
+        }
+        TimeSlot early = new TimeSlot(null, base.plusHours(2).plusMinutes(30), base.plusHours(3), SlotStatus.AVAILABLE);
+        TimeSlot late = new TimeSlot(null, base.plusHours(7).plusMinutes(30), base.plusHours(8), SlotStatus.AVAILABLE);
+        
+        when(recurringAvailabilityService.expandOccurrences(calendarId, base, end)).thenReturn(List.of(early, late));
+        when(timeSlotRepository.findSlotIntervalsByCalendarIdAndTimeRange(eq(calendarId), any(), any()))
+            .thenReturn(Collections.emptyList());
+        when(timeSlotRepository.findByCalendarIdAndTimeRange(eq(calendarId), eq(base), eq(end), any(Pageable.class)))
+            .thenAnswer(invocation -> {
+                Pageable page = invocation.getArgument(3);
+                int from = (int) Math.min(page.getOffset(), stored.size());
+                int to = Math.min(from + page.getPageSize(), stored.size());
+                return new PageImpl<>(stored.subList(from, to), page, stored.size());
+            });
+        
+        // When
+        Page<TimeSlot> result = timeSlotService.getTimeSlotsByCalendarIdAndTimeRange(
+            calendarId, base, end, PageRequest.of(2, 3));
+        
+        // Then: merged order is s0 s1 s2 early s3 s4 s5 s6 s7 late s8 s9
+        assertEquals(List.of(stored.get(5), stored.get(6), stored.get(7)), result.getContent());
+        assertEquals(12, result.getTotalElements());
+        ArgumentCaptor<Pageable> reads = ArgumentCaptor.forClass(Pageable.class);
+        verify(timeSlotRepository, atLeastOnce()).findByCalendarIdAndTimeRange(
+            eq(calendarId), eq(base), eq(end), reads.capture());
+        assertTrue(reads.getAllValues().stream().allMatch(read -> read.isPaged() && read.getPageSize() <= 5));
+    }
+    
+    @Test
+    void getTimeSlotsByCalendarId_ReturnsCalendarScopedProjections() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 20);
+        TimeSlotSummary summary = new TimeSlotSummary(UUID.randomUUID(), base, base.plusHours(1), SlotStatus.AVAILABLE);
+        when(calendarService.getCalendarById(calendarId)).thenReturn(testCalendar);
+        when(timeSlotRepository.findSummariesByCalendarId(calendarId, pageable))
+            .thenReturn(new PageImpl<>(List.of(summary), pageable, 1));
+        
+        // When
+        Page<TimeSlotSummary> result = timeSlotService.getTimeSlotsByCalendarId(calendarId, pageable);
+        
+        // Then
+        assertEquals(List.of(summary), result.getContent());
+        verify(timeSlotRepository, never()).findAll(any(Pageable.class));
+    }
+    
+    @Test
+    void createTimeSlot_ExclusionConstraintViolation_ThrowsTimeConflict() {
+        // Given
+        TimeSlot slot = new TimeSlot(testCalendar, base, base.plusHours(1), SlotStatus.AVAILABLE);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("exclusion violation");
+        when(overlapConstraint.isEnforcedByDatabase()).thenReturn(true);
+        when(overlapConstraint.isViolation(violation)).thenReturn(true);
+        when(timeSlotRepository.saveAndFlush(slot)).thenThrow(violation);
+        
+        // When & Then
+        assertThrows(TimeConflictException.class, () -> timeSlotService.createTimeSlot(slot));
+        verify(slotOverlapIndex, never()).hasOverlap(any(), any(), any(), any());
+        verify(timeSlotRepository, never()).existsOverlappingSlot(any(), any(), any(), any());
+        verify(slotOverlapIndex, never()).slotSaved(any(), any(), any(), any());
+    }
+    
+    @Test
+    void createTimeSlots_TooManySlots_ThrowsException() {
+        // Given
+        List<TimeSlot> batch = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            batch.add(new TimeSlot(null, base.plusHours(i), base.plusHours(i).plusMinutes(30), null));
+        }
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> timeSlotService.createTimeSlots(calendarId, batch));
+        verify(timeSlotRepository, never()).saveAll(anyList());
+    }
+}
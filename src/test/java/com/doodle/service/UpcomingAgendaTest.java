@@ -0,0 +1,122 @@
+package com.doodle.service;
+
+import com.doodle.domain.AgendaItem;
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:agendadb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=none",
+    "doodle.agenda.size=5"
+})
+class UpcomingAgendaTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private MeetingService meetingService;
+
+    @Autowired
+    private MeetingRepository meetingRepository;
+
+    private String owner;
+    private String participant;
+    private Calendar calendar;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        owner = "owner-" + UUID.randomUUID();
+        participant = "participant-" + UUID.randomUUID();
+        calendar = calendarService.createCalendar(new Calendar("Agenda", owner, ZoneId.of("UTC")));
+        base = LocalDateTime.now().plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    @Test
+    void getUpcomingAgenda_FollowsMeetingChanges() {
+        // Given
+        Meeting late = schedule("Late", 3);
+        meetingService.getUpcomingAgenda(participant, 5);
+        meetingService.getUpcomingAgenda(owner, 5);
+
+        // When
+        Meeting early = schedule("Early", 1);
+        meetingService.removeParticipantFromMeeting(late.getId(), participant);
+
+        // Then
+        assertEquals(List.of(early.getId()), ids(meetingService.getUpcomingAgenda(participant, 5)));
+        assertEquals(List.of(early.getId(), late.getId()), ids(meetingService.getUpcomingAgenda(owner, 5)));
+
+        // When
+        meetingService.deleteMeeting(early.getId());
+        meetingService.addParticipantToMeeting(late.getId(), participant);
+
+        // Then
+        assertEquals(List.of(late.getId()), ids(meetingService.getUpcomingAgenda(participant, 5)));
+        assertEquals(List.of(late.getId()), ids(meetingService.getUpcomingAgenda(owner, 5)));
+    }
+
+    @Test
+    void getUpcomingAgenda_MatchesDatabaseQuery() {
+        // Given
+        for (int i = 0; i < 7; i++) {
+            schedule("Meeting " + i, 7 - i);
+        }
+        meetingService.getUpcomingAgenda(owner, 5);
+        schedule("Latest", 8);
+
+        // When
+        List<AgendaItem> agenda = meetingService.getUpcomingAgenda(owner, 5);
+
+        // Then
+        List<AgendaItem> expected = meetingRepository.findUpcomingAgenda(owner, LocalDateTime.now(), PageRequest.of(0, 5));
+        assertEquals(ids(expected), ids(agenda));
+        assertEquals("Meeting 6", agenda.get(0).getTitle());
+    }
+
+    @Test
+    void getUpcomingAgenda_LimitAboveAgendaSizeIsRejected() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> meetingService.getUpcomingAgenda(owner, 6));
+        assertThrows(IllegalArgumentException.class, () -> meetingService.getUpcomingAgenda(owner, 0));
+    }
+
+    private Meeting schedule(String title, int hours) {
+        TimeSlot slot = timeSlotService.createTimeSlot(new TimeSlot(calendar, base.plusHours(hours),
+            base.plusHours(hours).plusMinutes(30), SlotStatus.AVAILABLE));
+        TimeSlot reference = new TimeSlot();
+        reference.setId(slot.getId());
+        Meeting meeting = new Meeting(title, null, reference);
+        meeting.setParticipants(new LinkedHashSet<>(List.of(participant)));
+        return meetingService.scheduleMeeting(meeting);
+    }
+
+    private static List<UUID> ids(List<AgendaItem> items) {
+        return items.stream().map(AgendaItem::getMeetingId).toList();
+    }
+}
@@ -0,0 +1,96 @@
+package com.doodle.service.availability;
+
+import com.doodle.domain.TimeWindow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FreeTimeCalculatorTest {
+    
+    private LocalDateTime dayStart;
+    private LocalDateTime dayEnd;
+    
+    @BeforeEach
+    void setUp() {
+        dayStart = LocalDateTime.of(2030, 1, 7, 9, 0);
+        dayEnd = LocalDateTime.of(2030, 1, 7, 17, 0);
+    }
+    
+    @Test
+    void commonFreeWindows_NoBusySlots_ReturnsWholeRange() {
+        // When
+        List<TimeWindow> result = FreeTimeCalculator.commonFreeWindows(
+            List.of(), dayStart, dayEnd, Duration.ofMinutes(30));
+        
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(dayStart, result.get(0).getStartTime());
+        assertEquals(dayEnd, result.get(0).getEndTime());
+    }
+    
+    @Test
+    void commonFreeWindows_MergesOverlappingBusyIntervalsAcrossUsers() {
+        // Given
+        List<TimeWindow> alice = List.of(
+            window(9, 0, 10, 0),
+            window(13, 0, 14, 0));
+        List<TimeWindow> bob = List.of(
+            window(9, 30, 11, 0),
+            window(13, 30, 15, 0));
+        List<TimeWindow> carol = List.of(
+            window(11, 15, 12, 0));
+        
+        // When
+        List<TimeWindow> result = FreeTimeCalculator.commonFreeWindows(
+            List.of(alice, bob, carol), dayStart, dayEnd, Duration.ofMinutes(30));
+        
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(window(12, 0, 13, 0).getStartTime(), result.get(0).getStartTime());
+        assertEquals(window(12, 0, 13, 0).getEndTime(), result.get(0).getEndTime());
+        assertEquals(window(15, 0, 17, 0).getStartTime(), result.get(1).getStartTime());
+        assertEquals(dayEnd, result.get(1).getEndTime());
+    }
+    
+    @Test
+    void commonFreeWindows_DropsWindowsShorterThanMinimum() {
+        // Given
+        List<TimeWindow> alice = List.of(window(9, 0, 11, 0));
+        List<TimeWindow> bob = List.of(window(11, 15, 17, 0));
+        
+        // When
+        List<TimeWindow> result = FreeTimeCalculator.commonFreeWindows(
+            List.of(alice, bob), dayStart, dayEnd, Duration.ofMinutes(30));
+        
+        // Then
+        assertTrue(result.isEmpty());
+    }
+    
+    @Test
+    void commonFreeWindows_ClipsBusyIntervalsToRange() {
+        // Given
+        List<TimeWindow> alice = List.of(
+            new TimeWindow(dayStart.minusHours(2), dayStart.plusHours(1)),
+            new TimeWindow(dayEnd.minusHours(1), dayEnd.plusHours(2)));
+        
+        // When
+        List<TimeWindow> result = FreeTimeCalculator.commonFreeWindows(
+            List.of(alice), dayStart, dayEnd, Duration.ofMinutes(30));
+        
+        // Then
+        assertEquals(1, result.size());
+        assertEquals(dayStart.plusHours(1), result.get(0).getStartTime());
+        assertEquals(dayEnd.minusHours(1), result.get(0).getEndTime());
+    }
+    
+    private TimeWindow window(int startHour, int startMinute, int endHour, int endMinute) {
+        return new TimeWindow(
+            dayStart.withHour(startHour).withMinute(startMinute),
+            dayStart.withHour(endHour).withMinute(endMinute));
+    }
+}
@@ -0,0 +1,53 @@
+package com.doodle.service.availability;
+
+import com.doodle.domain.TimeWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RecurrenceExpanderTest {
+
+    @Test
+    void expand_SplitsDailyHoursOnMatchingDays() {
+        // When
+        List<TimeWindow> result = RecurrenceExpander.expand(Set.of(DayOfWeek.MONDAY),
+            LocalTime.of(9, 0), LocalTime.of(10, 0), 30,
+            LocalDate.of(2030, 1, 6), LocalDate.of(2030, 1, 8));
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(LocalDateTime.of(2030, 1, 7, 9, 0), result.get(0).getStartTime());
+        assertEquals(LocalDateTime.of(2030, 1, 7, 10, 0), result.get(1).getEndTime());
+    }
+
+    @Test
+    void expand_StopsAtLimitInsteadOfBuildingWholeRange() {
+        // Given: 96 quarter hours a day for fifty years
+        Set<DayOfWeek> everyDay = EnumSet.allOf(DayOfWeek.class);
+
+        // When & Then
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () ->
+            RecurrenceExpander.expand(everyDay, LocalTime.MIN, LocalTime.MAX, 15,
+                LocalDate.of(2030, 1, 1), LocalDate.of(2080, 1, 1), 100));
+        assertEquals("Recurrence expands to more than 100 time slots", e.getMessage());
+    }
+
+    @Test
+    void expand_ExactlyAtLimitSucceeds() {
+        // When
+        List<TimeWindow> result = RecurrenceExpander.expand(Set.of(DayOfWeek.MONDAY),
+            LocalTime.of(9, 0), LocalTime.of(10, 0), 30,
+            LocalDate.of(2030, 1, 7), LocalDate.of(2030, 1, 7), 2);
+
+        // Then
+        assertEquals(2, result.size());
+    }
+}
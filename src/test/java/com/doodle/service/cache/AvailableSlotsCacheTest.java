@@ -0,0 +1,110 @@
+package com.doodle.service.cache;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.repository.TimeSlotRepository;
+import com.doodle.service.CalendarService;
+import com.doodle.service.TimeSlotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:cachedb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+    "spring.flyway.enabled=false",
+    "spring.cache.type=simple"
+})
+class AvailableSlotsCacheTest {
+
+    @Autowired
+    private CalendarService calendarService;
+
+    @Autowired
+    private TimeSlotService timeSlotService;
+
+    @Autowired
+    private CacheVersions cacheVersions;
+
+    @SpyBean
+    private TimeSlotRepository timeSlotRepository;
+
+    @Test
+    void getAvailableSlots_SlotMutationsInvalidateCachedRanges() {
+        // Given
+        Calendar calendar = calendarService.createCalendar(
+            new Calendar("Cached", "owner-" + UUID.randomUUID(), ZoneId.of("UTC")));
+        LocalDateTime day = LocalDateTime.now().plusDays(2).toLocalDate().atStartOfDay();
+        LocalDateTime end = day.toLocalDate().atTime(LocalTime.MAX);
+        assertTrue(timeSlotService.getAvailableSlots(calendar.getId(), day, end).isEmpty());
+
+        // When
+        TimeSlot slot = timeSlotService.createTimeSlot(
+            new TimeSlot(calendar, day.withHour(10), day.withHour(11), SlotStatus.AVAILABLE));
+        List<TimeSlot> afterCreate = timeSlotService.getAvailableSlots(calendar.getId(), day, end);
+        timeSlotService.markSlotAsBusy(slot.getId());
+        List<TimeSlot> afterBooking = timeSlotService.getAvailableSlots(calendar.getId(), day, end);
+
+        // Then
+        assertEquals(List.of(slot.getId()), afterCreate.stream().map(TimeSlot::getId).toList());
+        assertTrue(afterBooking.isEmpty());
+        assertEquals(2, cacheVersions.current("availableSlots", calendar.getId()));
+    }
+
+    @Test
+    void getAvailableSlots_ConcurrentMissesRunOneQuery() throws Exception {
+        // Given
+        Calendar calendar = calendarService.createCalendar(
+            new Calendar("Popular", "owner-" + UUID.randomUUID(), ZoneId.of("UTC")));
+        LocalDateTime day = LocalDateTime.now().plusDays(3).toLocalDate().atStartOfDay();
+        LocalDateTime end = day.toLocalDate().atTime(LocalTime.MAX);
+        for (int hour = 9; hour < 12; hour++) {
+            timeSlotService.createTimeSlot(
+                new TimeSlot(calendar, day.withHour(hour), day.withHour(hour + 1), SlotStatus.AVAILABLE));
+        }
+        int callers = 32;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<TimeSlot>>> results = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return timeSlotService.getAvailableSlots(calendar.getId(), day, end);
+            }));
+        }
+
+        // When
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Then
+        for (Future<List<TimeSlot>> result : results) {
+            assertEquals(3, result.get().size());
+        }
+        verify(timeSlotRepository, times(1)).findAvailableSlots(eq(calendar.getId()), any(), any(), any());
+    }
+}
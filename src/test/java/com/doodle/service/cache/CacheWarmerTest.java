@@ -0,0 +1,149 @@
+package com.doodle.service.cache;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.doodle.repository.MeetingRepository;
+import com.doodle.repository.TimeSlotRepository;
+import com.doodle.service.CalendarService;
+import com.doodle.service.TimeSlotService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+
+    @Mock
+    private CalendarService calendarService;
+
+    @Mock
+    private TimeSlotService timeSlotService;
+
+    @Mock
+    private TimeSlotRepository timeSlotRepository;
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("timeSlots");
+
+    @Test
+    void warmUp_LoadsCalendarsDaysAndSlots() throws Exception {
+        // Given
+        UUID calendarId = UUID.randomUUID();
+        TimeSlot slot = new TimeSlot(new Calendar(), LocalDateTime.now().plusHours(2),
+            LocalDateTime.now().plusHours(3), SlotStatus.AVAILABLE);
+        slot.setId(UUID.randomUUID());
+        when(timeSlotRepository.findBusiestCalendarIds(any(), any(), any())).thenReturn(List.of(calendarId));
+        when(timeSlotService.getAvailableSlots(eq(calendarId), any(), any())).thenReturn(List.of(slot));
+
+        // When
+        int warmed = warmer(Duration.ofSeconds(10)).warmUp();
+
+        // Then
+        LocalDate today = LocalDate.now();
+        assertEquals(1, warmed);
+        verify(calendarService).getCalendarById(calendarId);
+        verify(timeSlotService).getAvailableSlots(calendarId, today.atStartOfDay(),
+            today.plusDays(2).atTime(LocalTime.MAX));
+        verify(timeSlotService).getAvailableSlots(calendarId, today.atStartOfDay(), today.atTime(LocalTime.MAX));
+        verify(timeSlotService, times(4)).getAvailableSlots(eq(calendarId), any(), any());
+        assertSame(slot, cacheManager.getCache("timeSlots").get(slot.getId()).get());
+    }
+
+    @Test
+    void warmUp_SkipsUnstoredRecurringOccurrences() throws Exception {
+        // Given
+        UUID calendarId = UUID.randomUUID();
+        TimeSlot stored = new TimeSlot(new Calendar(), LocalDateTime.now().plusHours(2),
+            LocalDateTime.now().plusHours(3), SlotStatus.AVAILABLE);
+        stored.setId(UUID.randomUUID());
+        TimeSlot occurrence = new TimeSlot(null, LocalDateTime.now().plusHours(4),
+            LocalDateTime.now().plusHours(5), SlotStatus.AVAILABLE);
+        when(timeSlotRepository.findBusiestCalendarIds(any(), any(), any())).thenReturn(List.of(calendarId));
+        when(timeSlotService.getAvailableSlots(eq(calendarId), any(), any())).thenReturn(List.of(stored, occurrence));
+
+        // When
+        int warmed = warmer(Duration.ofSeconds(10)).warmUp();
+
+        // Then
+        assertEquals(1, warmed);
+        assertSame(stored, cacheManager.getCache("timeSlots").get(stored.getId()).get());
+        assertEquals(1, ((Map<?, ?>) cacheManager.getCache("timeSlots").getNativeCache()).size());
+    }
+
+    @Test
+    void warmUp_StopsWhenBudgetIsSpent() throws Exception {
+        // Given
+        UUID fast = UUID.randomUUID();
+        UUID slow = UUID.randomUUID();
+        when(timeSlotRepository.findBusiestCalendarIds(any(), any(), any())).thenReturn(List.of(fast, slow));
+        when(calendarService.getCalendarById(any())).thenAnswer(invocation -> {
+            if (slow.equals(invocation.getArgument(0))) {
+                Thread.sleep(10_000);
+            }
+            return null;
+        });
+
+        // When
+        long startedAt = System.nanoTime();
+        int warmed = warmer(Duration.ofMillis(300)).warmUp();
+
+        // Then
+        assertEquals(1, warmed);
+        assertTrue(Duration.ofNanos(System.nanoTime() - startedAt).compareTo(Duration.ofSeconds(5)) < 0);
+    }
+
+    @Test
+    void warmUp_NoUpcomingSlotsIsANoOp() throws Exception {
+        // Given
+        when(timeSlotRepository.findBusiestCalendarIds(any(), any(), any())).thenReturn(List.of());
+
+        // When & Then
+        assertEquals(0, warmer(Duration.ofSeconds(1)).warmUp());
+        verifyNoInteractions(calendarService, timeSlotService);
+    }
+
+    @Test
+    void warmUp_RecentlyBookedSelectionPicksCalendarsByBookings() throws Exception {
+        // Given
+        UUID calendarId = UUID.randomUUID();
+        when(meetingRepository.findMostBookedCalendarIds(any(), any())).thenReturn(List.of(calendarId));
+        CacheWarmer warmer = new CacheWarmer(calendarService, timeSlotService, timeSlotRepository, meetingRepository,
+            cacheManager, true, CacheWarmer.Selection.RECENTLY_BOOKED, Duration.ofDays(7), 10, 3, 2,
+            Duration.ofSeconds(10));
+
+        // When
+        int warmed = warmer.warmUp();
+
+        // Then
+        assertEquals(1, warmed);
+        verify(calendarService).getCalendarById(calendarId);
+        verify(meetingRepository).findMostBookedCalendarIds(
+            argThat(since -> since.isBefore(LocalDateTime.now().minusDays(6))), eq(PageRequest.of(0, 10)));
+        verifyNoInteractions(timeSlotRepository);
+    }
+
+    private CacheWarmer warmer(Duration budget) {
+        return new CacheWarmer(calendarService, timeSlotService, timeSlotRepository, meetingRepository, cacheManager,
+            true, CacheWarmer.Selection.BUSIEST, Duration.ofDays(7), 10, 3, 2, budget);
+    }
+}
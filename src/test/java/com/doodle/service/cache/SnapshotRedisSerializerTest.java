@@ -0,0 +1,202 @@
+package com.doodle.service.cache;
+
+import com.doodle.domain.Calendar;
+import com.doodle.domain.Meeting;
+import com.doodle.domain.TimeSlot;
+import com.doodle.domain.enums.SlotStatus;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotRedisSerializerTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(SnapshotRedisSerializerTest.class);
+
+    private final SnapshotRedisSerializer serializer = new SnapshotRedisSerializer();
+
+    @Test
+    void meeting_RoundTripsWithSlotAndCalendarId() {
+        // Given
+        Meeting meeting = meeting(slot(calendar(), 0));
+
+        // When
+        Meeting decoded = (Meeting) serializer.deserialize(serializer.serialize(meeting));
+
+        // Then
+        assertEquals(meeting.getId(), decoded.getId());
+        assertEquals(meeting.getTitle(), decoded.getTitle());
+        assertNull(decoded.getDescription());
+        assertEquals(meeting.getParticipants(), decoded.getParticipants());
+        assertEquals(meeting.getStartTime(), decoded.getStartTime());
+        assertEquals(meeting.getEndTime(), decoded.getEndTime());
+        assertEquals(SlotStatus.BUSY, decoded.getTimeSlot().getStatus());
+        assertEquals(meeting.getTimeSlot().getCalendar().getId(), decoded.getTimeSlot().getCalendar().getId());
+        assertEquals(meeting.getCreatedAt(), decoded.getCreatedAt());
+    }
+
+    @Test
+    void timeSlot_RendersSameJsonAsTheLoadedEntity() throws Exception {
+        // Given
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        TimeSlot slot = slot(calendar(), 0);
+
+        // When
+        TimeSlot decoded = (TimeSlot) serializer.deserialize(serializer.serialize(slot));
+
+        // Then: a cache hit cannot expose a calendar stub with empty fields
+        assertEquals(mapper.writeValueAsString(slot), mapper.writeValueAsString(decoded));
+        assertEquals("Work", decoded.getCalendar().getName());
+        assertEquals("user-1", decoded.getCalendar().getUserId());
+    }
+
+    @Test
+    void calendarList_RoundTrips() {
+        // Given
+        Calendar calendar = calendar();
+
+        // When
+        Object decoded = serializer.deserialize(serializer.serialize(List.of(calendar)));
+
+        // Then
+        Calendar decodedCalendar = (Calendar) ((List<?>) decoded).get(0);
+        assertEquals(calendar.getId(), decodedCalendar.getId());
+        assertEquals(calendar.getName(), decodedCalendar.getName());
+        assertEquals(calendar.getUserId(), decodedCalendar.getUserId());
+        assertEquals(calendar.getTimezone(), decodedCalendar.getTimezone());
+        assertEquals(calendar.getUpdatedAt(), decodedCalendar.getUpdatedAt());
+    }
+
+    @Test
+    void otherValues_FallBackToJdkSerialization() {
+        // When & Then
+        assertEquals("plain", serializer.deserialize(serializer.serialize("plain")));
+        assertEquals(List.of(), serializer.deserialize(serializer.serialize(new ArrayList<>())));
+    }
+
+    @Test
+    void deserialize_OtherSchemaVersionIsAMiss() {
+        // Given
+        byte[] bytes = serializer.serialize(calendar());
+        bytes[0] = (byte) (SnapshotRedisSerializer.SCHEMA_VERSION + 1);
+
+        // When & Then
+        assertNull(serializer.deserialize(bytes));
+        assertEquals("v" + SnapshotRedisSerializer.SCHEMA_VERSION + ":meetings::",
+            SnapshotRedisSerializer.keyPrefix("meetings"));
+    }
+
+    @Test
+    void serialize_IsLessThanHalfTheJsonSize() {
+        // Given
+        RedisSerializer<Object> json = json();
+        Calendar calendar = calendar();
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 48; i++) {
+            slots.add(slot(calendar, i));
+        }
+        Meeting meeting = meeting(slot(calendar, 0));
+
+        // When & Then
+        assertTrue(serializer.serialize(meeting).length * 2 < json.serialize(meeting).length);
+        assertTrue(serializer.serialize(slots).length * 2 < json.serialize(slots).length);
+        assertEquals(48, ((List<?>) serializer.deserialize(serializer.serialize(slots))).size());
+    }
+
+    @Test
+    @Tag("benchmark")
+    void benchmark_ComparedWithJson() {
+        // Given
+        RedisSerializer<Object> json = json();
+        Calendar calendar = calendar();
+        List<TimeSlot> slots = new ArrayList<>();
+        for (int i = 0; i < 48; i++) {
+            slots.add(slot(calendar, i));
+        }
+        Meeting meeting = meeting(slot(calendar, 0));
+
+        // When
+        Result binaryMeeting = measure(serializer, meeting);
+        Result jsonMeeting = measure(json, meeting);
+        Result binarySlots = measure(serializer, slots);
+        Result jsonSlots = measure(json, slots);
+
+        // Then
+        logger.info("Meeting: binary {} B, {} ns/op encode, {} ns/op decode; json {} B, {} ns/op encode, {} ns/op decode",
+            binaryMeeting.bytes, binaryMeeting.encodeNanos, binaryMeeting.decodeNanos,
+            jsonMeeting.bytes, jsonMeeting.encodeNanos, jsonMeeting.decodeNanos);
+        logger.info("48 slots: binary {} B, {} ns/op encode, {} ns/op decode; json {} B, {} ns/op encode, {} ns/op decode",
+            binarySlots.bytes, binarySlots.encodeNanos, binarySlots.decodeNanos,
+            jsonSlots.bytes, jsonSlots.encodeNanos, jsonSlots.decodeNanos);
+    }
+
+    private static RedisSerializer<Object> json() {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+        // Derived getters like TimeSlot.getDurationMinutes() are written but cannot be read back
+        json.configure(mapper -> mapper.registerModule(new JavaTimeModule())
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+        return json;
+    }
+
+    private static Result measure(RedisSerializer<Object> serializer, Object value) {
+        int iterations = 20_000;
+        byte[] bytes = serializer.serialize(value);
+        // Warm up both paths before timing
+        for (int i = 0; i < iterations; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            bytes = serializer.serialize(value);
+        }
+        long encodeNanos = (System.nanoTime() - started) / iterations;
+        started = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            assertNotNull(serializer.deserialize(bytes));
+        }
+        long decodeNanos = (System.nanoTime() - started) / iterations;
+        return new Result(bytes.length, encodeNanos, decodeNanos);
+    }
+
+    private record Result(int bytes, long encodeNanos, long decodeNanos) {}
+
+    private static Calendar calendar() {
+        Calendar calendar = new Calendar("Work", "user-1", ZoneId.of("Europe/Berlin"));
+        calendar.setId(UUID.randomUUID());
+        calendar.setCreatedAt(LocalDateTime.of(2030, 1, 1, 8, 0, 0, 123_000_000));
+        calendar.setUpdatedAt(LocalDateTime.of(2030, 1, 2, 8, 0));
+        return calendar;
+    }
+
+    private static TimeSlot slot(Calendar calendar, int index) {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 7, 9, 0).plusMinutes(30L * index);
+        TimeSlot slot = new TimeSlot(calendar, start, start.plusMinutes(30), SlotStatus.BUSY);
+        slot.setId(UUID.randomUUID());
+        slot.setCreatedAt(start.minusDays(3));
+        slot.setUpdatedAt(start.minusDays(1));
+        return slot;
+    }
+
+    private static Meeting meeting(TimeSlot slot) {
+        Meeting meeting = new Meeting("Planning", null, slot);
+        meeting.setId(UUID.randomUUID());
+        meeting.setParticipants(new LinkedHashSet<>(List.of("alice", "bob", "carol")));
+        meeting.setCreatedAt(LocalDateTime.of(2030, 1, 5, 10, 0));
+        meeting.setUpdatedAt(LocalDateTime.of(2030, 1, 5, 10, 0));
+        return meeting;
+    }
+}
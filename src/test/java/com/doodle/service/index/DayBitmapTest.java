@@ -0,0 +1,69 @@
+package com.doodle.service.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DayBitmapTest {
+
+    @Test
+    void set_RangeSpanningBothWords() {
+        // Given
+        DayBitmap bitmap = new DayBitmap();
+
+        // When
+        bitmap.set(60, 70);
+
+        // Then
+        assertTrue(bitmap.isAllSet(60, 70));
+        assertFalse(bitmap.isSet(59));
+        assertFalse(bitmap.isSet(70));
+        assertTrue(bitmap.isNoneSet(0, 60));
+        assertTrue(bitmap.isNoneSet(70, DayBitmap.QUARTERS_PER_DAY));
+    }
+
+    @Test
+    void clear_RemovesOnlyRequestedQuarters() {
+        // Given
+        DayBitmap bitmap = new DayBitmap();
+        bitmap.set(0, DayBitmap.QUARTERS_PER_DAY);
+
+        // When
+        bitmap.clear(32, 80);
+
+        // Then
+        assertTrue(bitmap.isAllSet(0, 32));
+        assertTrue(bitmap.isNoneSet(32, 80));
+        assertTrue(bitmap.isAllSet(80, DayBitmap.QUARTERS_PER_DAY));
+    }
+
+    @Test
+    void and_KeepsQuartersSetInBoth() {
+        // Given
+        DayBitmap first = new DayBitmap();
+        first.set(36, 72);
+        DayBitmap second = new DayBitmap();
+        second.set(40, 48);
+        second.set(68, 90);
+
+        // When
+        DayBitmap common = first.and(second);
+
+        // Then
+        assertTrue(common.isAllSet(40, 48));
+        assertTrue(common.isAllSet(68, 72));
+        assertTrue(common.isNoneSet(48, 68));
+        assertTrue(common.isNoneSet(72, DayBitmap.QUARTERS_PER_DAY));
+        assertTrue(first.isAllSet(36, 72));
+    }
+
+    @Test
+    void emptyRange_IsBothAllAndNoneSet() {
+        // Given
+        DayBitmap bitmap = new DayBitmap();
+
+        // When & Then
+        assertTrue(bitmap.isAllSet(10, 10));
+        assertTrue(bitmap.isNoneSet(10, 10));
+    }
+}
@@ -0,0 +1,110 @@
+package com.doodle.service.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+
+    private IntervalTree tree;
+    private LocalDateTime base;
+
+    @BeforeEach
+    void setUp() {
+        tree = new IntervalTree();
+        base = LocalDateTime.of(2030, 1, 1, 9, 0);
+    }
+
+    @Test
+    void overlaps_DetectsPartialAndContainedIntervals() {
+        // Given
+        tree.insert(UUID.randomUUID(), base, base.plusHours(1));
+
+        // When & Then
+        assertTrue(tree.overlaps(base.plusMinutes(30), base.plusMinutes(90), null));
+        assertTrue(tree.overlaps(base.minusMinutes(30), base.plusMinutes(15), null));
+        assertTrue(tree.overlaps(base.plusMinutes(15), base.plusMinutes(45), null));
+        assertTrue(tree.overlaps(base.minusHours(1), base.plusHours(2), null));
+    }
+
+    @Test
+    void overlaps_AdjacentIntervalsDoNotOverlap() {
+        // Given
+        tree.insert(UUID.randomUUID(), base, base.plusHours(1));
+
+        // When & Then
+        assertFalse(tree.overlaps(base.plusHours(1), base.plusHours(2), null));
+        assertFalse(tree.overlaps(base.minusHours(1), base, null));
+    }
+
+    @Test
+    void overlaps_IgnoresExcludedInterval() {
+        // Given
+        UUID id = UUID.randomUUID();
+        tree.insert(id, base, base.plusHours(1));
+
+        // When & Then
+        assertFalse(tree.overlaps(base, base.plusMinutes(30), id));
+        assertTrue(tree.overlaps(base, base.plusMinutes(30), UUID.randomUUID()));
+    }
+
+    @Test
+    void remove_DropsIntervalFromLookups() {
+        // Given
+        UUID id = UUID.randomUUID();
+        tree.insert(id, base, base.plusHours(1));
+
+        // When
+        boolean removed = tree.remove(id, base);
+
+        // Then
+        assertTrue(removed);
+        assertEquals(0, tree.size());
+        assertFalse(tree.overlaps(base, base.plusHours(1), null));
+        assertFalse(tree.remove(id, base));
+    }
+
+    @Test
+    void overlaps_MatchesLinearScanOnRandomData() {
+        // Given
+        Random random = new Random(42);
+        List<UUID> ids = new ArrayList<>();
+        List<LocalDateTime[]> intervals = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            LocalDateTime start = base.plusMinutes(15L * random.nextInt(5000));
+            LocalDateTime end = start.plusMinutes(15L * (1 + random.nextInt(8)));
+            UUID id = UUID.randomUUID();
+            tree.insert(id, start, end);
+            ids.add(id);
+            intervals.add(new LocalDateTime[] {start, end});
+        }
+        for (int i = 0; i < 100; i++) {
+            tree.remove(ids.get(i), intervals.get(i)[0]);
+        }
+
+        // When & Then
+        for (int q = 0; q < 1000; q++) {
+            LocalDateTime start = base.plusMinutes(15L * random.nextInt(5000));
+            LocalDateTime end = start.plusMinutes(15L * (1 + random.nextInt(8)));
+            UUID exclude = ids.get(100 + random.nextInt(400));
+
+            boolean expected = false;
+            for (int i = 100; i < ids.size(); i++) {
+                LocalDateTime[] interval = intervals.get(i);
+                if (!ids.get(i).equals(exclude) && interval[0].isBefore(end) && interval[1].isAfter(start)) {
+                    expected = true;
+                    break;
+                }
+            }
+            assertEquals(expected, tree.overlaps(start, end, exclude));
+        }
+        assertEquals(400, tree.size());
+    }
+}
@@ -0,0 +1,147 @@
+package com.doodle.service.index;
+
+import com.doodle.domain.TimeWindow;
+import com.doodle.domain.enums.SlotStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuarterHourAvailabilityIndexTest {
+
+    private QuarterHourAvailabilityIndex index;
+    private LocalDateTime day;
+    private UUID first;
+    private UUID second;
+    private AtomicInteger loads;
+    private Map<UUID, List<TimeWindow>> available;
+
+    @BeforeEach
+    void setUp() {
+        index = new QuarterHourAvailabilityIndex(true, 1000, 62);
+        day = LocalDateTime.of(2030, 1, 7, 0, 0);
+        first = UUID.randomUUID();
+        second = UUID.randomUUID();
+        loads = new AtomicInteger();
+        available = Map.of(
+            first, List.of(new TimeWindow(day.withHour(9), day.withHour(12)),
+                new TimeWindow(day.withHour(23), day.plusDays(1).withHour(1))),
+            second, List.of(new TimeWindow(day.withHour(10), day.withHour(11).withMinute(30)),
+                new TimeWindow(day.withHour(22), day.plusDays(1).withHour(2))));
+    }
+
+    @Test
+    void findCommonAvailableWindows_IntersectsCalendarsAcrossMidnight() {
+        // When
+        List<TimeWindow> windows = index.findCommonAvailableWindows(List.of(first, second),
+            day, day.plusDays(1).with(LocalTime.MAX), this::load);
+
+        // Then
+        assertEquals(2, windows.size());
+        assertEquals(day.withHour(10), windows.get(0).getStartTime());
+        assertEquals(day.withHour(11).withMinute(30), windows.get(0).getEndTime());
+        assertEquals(day.withHour(23), windows.get(1).getStartTime());
+        assertEquals(day.plusDays(1).withHour(1), windows.get(1).getEndTime());
+    }
+
+    @Test
+    void isRangeAvailable_AnswersFromLoadedBitmap() {
+        // When & Then
+        assertTrue(index.isRangeAvailable(first, day.withHour(9), day.withHour(12), this::load));
+        assertFalse(index.isRangeAvailable(first, day.withHour(11), day.withHour(13), this::load));
+        assertFalse(index.isRangeAvailable(first, day.withHour(9).withMinute(5), day.withHour(10), this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void slotAdded_PatchesLoadedDayWithoutReloading() {
+        // Given
+        assertTrue(index.hasNoAvailability(first, day.withHour(14), day.withHour(18), this::load));
+
+        // When
+        index.slotAdded(first, day.withHour(15), day.withHour(16), SlotStatus.AVAILABLE);
+
+        // Then
+        assertFalse(index.hasNoAvailability(first, day.withHour(14), day.withHour(18), this::load));
+        index.slotRemoved(first, day.withHour(15), day.withHour(16), SlotStatus.AVAILABLE);
+        assertTrue(index.hasNoAvailability(first, day.withHour(14), day.withHour(18), this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void hasNoAvailability_UnalignedSlotForcesDatabaseCheck() {
+        // Given
+        assertTrue(index.hasNoAvailability(first, day.withHour(14), day.withHour(18), this::load));
+
+        // When
+        index.slotAdded(first, day.withHour(15).withMinute(5), day.withHour(15).withMinute(25), SlotStatus.AVAILABLE);
+
+        // Then
+        assertFalse(index.hasNoAvailability(first, day.withHour(14), day.withHour(18), this::load));
+        assertFalse(index.hasNoAvailability(first, day.withHour(14).withMinute(1), day.withHour(18), this::load));
+    }
+
+    @Test
+    void hasNoAvailability_SlotAddedDuringLoadIsNotLost() {
+        // Given: a slot commits after the loader read the day but before it is installed
+        QuarterHourAvailabilityIndex.AvailabilityLoader racingLoader = (calendarId, startTime, endTime) -> {
+            QuarterHourAvailabilityIndex.LoadedAvailability loaded = load(calendarId, startTime, endTime);
+            if (loads.get() == 1) {
+                index.slotAdded(first, day.withHour(15), day.withHour(16), SlotStatus.AVAILABLE);
+            }
+            return loaded;
+        };
+        assertTrue(index.hasNoAvailability(first, day.withHour(14), day.withHour(18), racingLoader));
+
+        // When
+        available = Map.of(first, List.of(new TimeWindow(day.withHour(15), day.withHour(16))));
+        boolean none = index.hasNoAvailability(first, day.withHour(14), day.withHour(18), racingLoader);
+
+        // Then: the stale day was not kept, so the second call reloaded and saw the slot
+        assertFalse(none);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidateCalendar_DropsOnlyThatCalendar() {
+        // Given
+        index.findCommonAvailableWindows(List.of(first, second), day, day.plusDays(1), this::load);
+
+        // When
+        index.invalidateCalendar(first);
+        index.findCommonAvailableWindows(List.of(first, second), day, day.plusDays(1), this::load);
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void findCommonAvailableWindows_FailingLoaderIsCalledOnce() {
+        // Given
+        QuarterHourAvailabilityIndex.AvailabilityLoader failing = (calendarId, startTime, endTime) -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("database down");
+        };
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+            () -> index.findCommonAvailableWindows(List.of(first), day, day.plusDays(1), failing));
+        assertEquals(1, loads.get());
+    }
+
+    private QuarterHourAvailabilityIndex.LoadedAvailability load(UUID calendarId, LocalDateTime startTime,
+                                                                 LocalDateTime endTime) {
+        loads.incrementAndGet();
+        List<TimeWindow> windows = available.get(calendarId).stream()
+            .filter(window -> window.getStartTime().isBefore(endTime) && window.getEndTime().isAfter(startTime))
+            .toList();
+        return new QuarterHourAvailabilityIndex.LoadedAvailability(windows, false);
+    }
+}
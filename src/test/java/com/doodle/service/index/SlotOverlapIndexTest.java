@@ -0,0 +1,85 @@
+package com.doodle.service.index;
+
+import com.doodle.repository.TimeSlotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlotOverlapIndexTest {
+
+    @Mock
+    private TimeSlotRepository timeSlotRepository;
+
+    private SlotOverlapIndex index;
+    private UUID calendarId;
+    private LocalDateTime nine;
+
+    @BeforeEach
+    void setUp() {
+        index = new SlotOverlapIndex(timeSlotRepository, true, false, 100, 300);
+        calendarId = UUID.randomUUID();
+        nine = LocalDateTime.of(2030, 1, 7, 9, 0);
+    }
+
+    @Test
+    void hasOverlap_LoadsOnceAndAppliesSavedSlots() {
+        // Given
+        when(timeSlotRepository.findSlotIntervalsByCalendarId(calendarId)).thenReturn(List.of());
+        assertEquals(false, index.hasOverlap(calendarId, nine, nine.plusHours(1), null).orElseThrow());
+
+        // When
+        index.slotSaved(calendarId, UUID.randomUUID(), nine, nine.plusMinutes(30));
+
+        // Then
+        assertEquals(true, index.hasOverlap(calendarId, nine, nine.plusHours(1), null).orElseThrow());
+        verify(timeSlotRepository, times(1)).findSlotIntervalsByCalendarId(calendarId);
+    }
+
+    @Test
+    void hasOverlap_SlotSavedDuringLoadIsNotLost() {
+        // Given: a slot commits after the load's query ran but before it installs
+        when(timeSlotRepository.findSlotIntervalsByCalendarId(calendarId))
+            .thenAnswer(invocation -> {
+                index.slotSaved(calendarId, UUID.randomUUID(), nine, nine.plusMinutes(30));
+                return List.of();
+            })
+            .thenReturn(List.<Object[]>of(new Object[] {UUID.randomUUID(), nine, nine.plusMinutes(30)}));
+
+        // When
+        boolean first = index.hasOverlap(calendarId, nine, nine.plusHours(1), null).isPresent();
+        boolean second = index.hasOverlap(calendarId, nine, nine.plusHours(1), null).orElseThrow();
+
+        // Then: the stale snapshot was not kept, so the caller fell back and the next lookup reloaded
+        assertFalse(first);
+        assertTrue(second);
+        verify(timeSlotRepository, times(2)).findSlotIntervalsByCalendarId(calendarId);
+    }
+
+    @Test
+    void hasOverlap_InvalidationDuringLoadIsNotLost() {
+        // Given
+        when(timeSlotRepository.findSlotIntervalsByCalendarId(calendarId))
+            .thenAnswer(invocation -> {
+                index.invalidateCalendar(calendarId);
+                return List.of();
+            })
+            .thenReturn(List.of());
+
+        // When
+        index.hasOverlap(calendarId, nine, nine.plusHours(1), null);
+        index.hasOverlap(calendarId, nine, nine.plusHours(1), null);
+
+        // Then
+        verify(timeSlotRepository, times(2)).findSlotIntervalsByCalendarId(calendarId);
+    }
+}
@@ -0,0 +1,179 @@
+package com.doodle.service.index;
+
+import com.doodle.domain.AgendaItem;
+import com.doodle.repository.MeetingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UpcomingAgendaIndexTest {
+
+    @Mock
+    private MeetingRepository meetingRepository;
+
+    private UpcomingAgendaIndex index;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        index = new UpcomingAgendaIndex(meetingRepository, true, 3, 100);
+        now = LocalDateTime.of(2030, 1, 7, 8, 0);
+    }
+
+    @Test
+    void getAgenda_LoadsOnceAndAppliesUpdatesInOrder() {
+        // Given
+        AgendaItem ten = item(10);
+        AgendaItem twelve = item(12);
+        when(meetingRepository.findUpcomingAgenda(eq("alice"), eq(now), any()))
+            .thenReturn(new ArrayList<>(List.of(ten, twelve)));
+        index.getAgenda("alice", now, 3);
+
+        // When
+        AgendaItem nine = item(9);
+        index.meetingSaved(List.of("alice"), nine);
+        index.meetingRemoved(List.of("alice"), twelve.getMeetingId());
+        List<AgendaItem> agenda = index.getAgenda("alice", now, 3).orElseThrow();
+
+        // Then
+        assertEquals(List.of(nine, ten), agenda);
+        verify(meetingRepository, times(1)).findUpcomingAgenda(any(), any(), any());
+    }
+
+    @Test
+    void meetingSaved_ReplacesMovedMeeting() {
+        // Given
+        AgendaItem ten = item(10);
+        when(meetingRepository.findUpcomingAgenda(any(), any(), any())).thenReturn(List.of(ten, item(12)));
+        index.getAgenda("alice", now, 3);
+
+        // When
+        AgendaItem moved = new AgendaItem(ten.getMeetingId(), "Moved", now.withHour(14), now.withHour(15));
+        index.meetingSaved(List.of("alice"), moved);
+
+        // Then
+        List<AgendaItem> agenda = index.getAgenda("alice", now, 3).orElseThrow();
+        assertEquals(2, agenda.size());
+        assertEquals(moved, agenda.get(1));
+    }
+
+    @Test
+    void getAgenda_PrunesPastMeetingsAndReloadsTruncatedAgenda() {
+        // Given
+        List<AgendaItem> firstLoad = List.of(item(9), item(10), item(11), item(12));
+        List<AgendaItem> secondLoad = List.of(item(12), item(13));
+        when(meetingRepository.findUpcomingAgenda(any(), any(), any())).thenReturn(firstLoad, secondLoad);
+        assertEquals(3, index.getAgenda("alice", now, 3).orElseThrow().size());
+
+        // When
+        List<AgendaItem> later = index.getAgenda("alice", now.withHour(12), 2).orElseThrow();
+
+        // Then
+        assertEquals(secondLoad, later);
+        verify(meetingRepository, times(2)).findUpcomingAgenda(any(), any(), any());
+    }
+
+    @Test
+    void meetingSaved_BeyondFullAgendaIsDropped() {
+        // Given
+        when(meetingRepository.findUpcomingAgenda(any(), any(), any()))
+            .thenReturn(List.of(item(9), item(10), item(11)));
+        index.getAgenda("alice", now, 3);
+
+        // When
+        index.meetingSaved(List.of("alice"), item(8));
+        List<AgendaItem> agenda = index.getAgenda("alice", now, 3).orElseThrow();
+
+        // Then
+        assertEquals(List.of(8, 9, 10), agenda.stream().map(item -> item.getStartTime().getHour()).toList());
+    }
+
+    @Test
+    void meetingSaved_AfterRemovalFromTruncatedAgendaDoesNotSkipDroppedMeeting() {
+        // Given: twelve is dropped on load, then a kept meeting goes away
+        AgendaItem nine = item(9);
+        AgendaItem ten = item(10);
+        AgendaItem eleven = item(11);
+        AgendaItem twelve = item(12);
+        when(meetingRepository.findUpcomingAgenda(any(), any(), any()))
+            .thenReturn(List.of(nine, ten, eleven, twelve), List.of(nine, ten, twelve));
+        index.getAgenda("alice", now, 3);
+        index.meetingRemoved(List.of("alice"), eleven.getMeetingId());
+
+        // When
+        index.meetingSaved(List.of("alice"), item(13));
+        List<AgendaItem> agenda = index.getAgenda("alice", now, 3).orElseThrow();
+
+        // Then: thirteen lies past the dropped twelve, so the agenda reloads instead of skipping it
+        assertEquals(List.of(nine, ten, twelve), agenda);
+        verify(meetingRepository, times(2)).findUpcomingAgenda(any(), any(), any());
+    }
+
+    @Test
+    void getAgenda_MutationDuringLoadIsNotLost() {
+        // Given: a meeting is saved after the load's query ran but before it installs
+        AgendaItem ten = item(10);
+        AgendaItem nine = item(9);
+        when(meetingRepository.findUpcomingAgenda(any(), any(), any()))
+            .thenAnswer(invocation -> {
+                index.meetingSaved(List.of("alice"), nine);
+                return List.of(ten);
+            })
+            .thenReturn(List.of(nine, ten));
+
+        // When
+        List<AgendaItem> first = index.getAgenda("alice", now, 3).orElseThrow();
+        List<AgendaItem> second = index.getAgenda("alice", now, 3).orElseThrow();
+
+        // Then: the stale first load served its read but was not kept
+        assertEquals(List.of(ten), first);
+        assertEquals(List.of(nine, ten), second);
+        verify(meetingRepository, times(2)).findUpcomingAgenda(any(), any(), any());
+    }
+
+    @Test
+    void getAgenda_InvalidateAllDuringLoadOfUnknownUserIsNotLost() {
+        // Given
+        when(meetingRepository.findUpcomingAgenda(any(), any(), any()))
+            .thenAnswer(invocation -> {
+                index.invalidateAll();
+                return List.of(item(10));
+            })
+            .thenReturn(List.of());
+
+        // When
+        index.getAgenda("alice", now, 3);
+        List<AgendaItem> agenda = index.getAgenda("alice", now, 3).orElseThrow();
+
+        // Then
+        assertTrue(agenda.isEmpty());
+        verify(meetingRepository, times(2)).findUpcomingAgenda(any(), any(), any());
+    }
+
+    @Test
+    void getAgenda_DisabledIndexIsEmpty() {
+        // Given
+        index = new UpcomingAgendaIndex(meetingRepository, false, 3, 100);
+
+        // When & Then
+        assertTrue(index.getAgenda("alice", now, 3).isEmpty());
+        verifyNoInteractions(meetingRepository);
+    }
+
+    private AgendaItem item(int hour) {
+        return new AgendaItem(UUID.randomUUID(), "Meeting at " + hour, now.withHour(hour), now.withHour(hour).plusMinutes(30));
+    }
+}
@@ -0,0 +1,68 @@
+package com.doodle.service.pagination;
+
+import com.doodle.domain.CursorPage;
+import com.doodle.domain.TimeWindow;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorTest {
+
+    @Test
+    void encode_RoundTripsStartTimeAndId() {
+        // Given
+        LocalDateTime startTime = LocalDateTime.of(2030, 1, 7, 9, 15);
+        UUID id = UUID.randomUUID();
+
+        // When
+        PageCursor cursor = PageCursor.decode(new PageCursor(startTime, id).encode());
+
+        // Then
+        assertEquals(startTime, cursor.getStartTime());
+        assertEquals(id, cursor.getId());
+    }
+
+    @Test
+    void decode_RejectsMalformedToken() {
+        // When & Then
+        assertNull(PageCursor.decode(null));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    void toPage_UsesExtraRowOnlyToSignalMore() {
+        // Given
+        LocalDateTime base = LocalDateTime.of(2030, 1, 7, 9, 0);
+        List<TimeWindow> rows = List.of(
+            new TimeWindow(base, base.plusMinutes(30)),
+            new TimeWindow(base.plusHours(1), base.plusHours(2)),
+            new TimeWindow(base.plusHours(3), base.plusHours(4)));
+
+        // When
+        CursorPage<TimeWindow> full = PageCursor.toPage(rows, 2, TimeWindow::getStartTime, window -> null);
+        CursorPage<TimeWindow> last = PageCursor.toPage(rows, 3, TimeWindow::getStartTime, window -> null);
+
+        // Then
+        assertEquals(2, full.getItems().size());
+        assertTrue(full.isHasMore());
+        PageCursor next = PageCursor.decode(full.getNextCursor());
+        assertEquals(base.plusHours(1), next.getStartTime());
+        assertEquals(PageCursor.LAST_ID, next.getId());
+
+        assertEquals(3, last.getItems().size());
+        assertFalse(last.isHasMore());
+        assertNull(last.getNextCursor());
+    }
+
+    @Test
+    void validateLimit_RejectsOutOfRangeValues() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.validateLimit(0));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.validateLimit(PageCursor.MAX_LIMIT + 1));
+        assertDoesNotThrow(() -> PageCursor.validateLimit(PageCursor.MAX_LIMIT));
+    }
+}
@@ -0,0 +1,69 @@
+package com.doodle.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+    private UUID review;
+    private UUID preview;
+    private UUID standup;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        review = UUID.randomUUID();
+        preview = UUID.randomUUID();
+        standup = UUID.randomUUID();
+        index.put(review, "Project Review");
+        index.put(preview, "Design preview for the quarterly project kickoff");
+        index.put(standup, "Daily standup");
+    }
+
+    @Test
+    void of_MatchesPgTrgm() {
+        // When & Then
+        assertEquals(Set.of("  c", " ca", "cat", "at "), Trigrams.of("cat"));
+        assertEquals(Set.of("  f", " fo", "foo", "oo ", "  b", " ba", "bar", "ar "), Trigrams.of("Foo-BAR"));
+        assertTrue(Trigrams.of("  ").isEmpty());
+    }
+
+    @Test
+    void search_RanksCloserTitlesFirst() {
+        // When
+        List<TrigramIndex.Match> matches = index.search("project review");
+
+        // Then
+        assertEquals(review, matches.get(0).id());
+        assertEquals(1.0, matches.get(0).score());
+        assertTrue(matches.stream().noneMatch(match -> match.id().equals(standup)));
+    }
+
+    @Test
+    void search_FindsSubstringsInsideWords() {
+        // When
+        List<TrigramIndex.Match> matches = index.search("view");
+
+        // Then
+        assertEquals(Set.of(review, preview), Set.copyOf(matches.stream().map(TrigramIndex.Match::id).toList()));
+    }
+
+    @Test
+    void search_ToleratesTyposAndFollowsUpdates() {
+        // When
+        index.put(standup, "Daily stand-up sync");
+        index.remove(preview);
+
+        // Then
+        assertEquals(standup, index.search("daily standup sync").get(0).id());
+        assertEquals(List.of(review), index.search("project reveiw").stream().map(TrigramIndex.Match::id).toList());
+        assertEquals(2, index.size());
+    }
+}